@@ -23,6 +23,7 @@ import de.frachtwerk.essencium.backend.model.User;
 import de.frachtwerk.essencium.backend.model.dto.EssenciumUserDetails;
 import de.frachtwerk.essencium.backend.model.dto.UserDto;
 import de.frachtwerk.essencium.backend.model.representation.UserRepresentation;
+import de.frachtwerk.essencium.backend.model.representation.assembler.AbstractProjectionAssembler;
 import de.frachtwerk.essencium.backend.model.representation.assembler.UserAssembler;
 import de.frachtwerk.essencium.backend.repository.specification.BaseUserSpec;
 import de.frachtwerk.essencium.backend.service.UserService;
@@ -40,7 +41,15 @@ public class UserController
         BaseUserSpec<User, Long>,
         Long> {
 
+  private final UserAssembler userAssembler;
+
   protected UserController(UserService userService, UserAssembler assembler) {
     super(userService, assembler);
+    this.userAssembler = assembler;
+  }
+
+  @Override
+  protected AbstractProjectionAssembler<User, ?, UserRepresentation> getProjectionAssembler() {
+    return userAssembler;
   }
 }
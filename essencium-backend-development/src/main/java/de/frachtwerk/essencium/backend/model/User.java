@@ -19,6 +19,8 @@
 
 package de.frachtwerk.essencium.backend.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import de.frachtwerk.essencium.backend.repository.specification.SearchColumn;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -28,6 +30,9 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.DialectOverride;
+import org.hibernate.annotations.Formula;
+import org.hibernate.dialect.PostgreSQLDialect;
 
 @Data
 @Entity
@@ -41,13 +46,26 @@ public class User extends AbstractBaseUser<Long> {
   @SequenceGenerator(
       name = "hibernate_sequence",
       sequenceName = "hibernate_sequence",
-      allocationSize = 1)
+      allocationSize = SequenceIdModel.SEQUENCE_ALLOCATION_SIZE)
   private Long id;
 
   private String phone;
 
   private String mobile;
 
+  /**
+   * Served by a trigram index on PostgreSQL, see V4_0_2__add_user_search_index.sql. The formula has
+   * to match the indexed expression there, other databases use the portable {@code concat}.
+   */
+  @JsonIgnore
+  @SearchColumn(paths = "firstName,lastName")
+  @EqualsAndHashCode.Exclude
+  @Formula("lower(concat(first_name, ' ', last_name))")
+  @DialectOverride.Formula(
+      dialect = PostgreSQLDialect.class,
+      override = @Formula("lower(first_name || ' ' || last_name)"))
+  private String searchText;
+
   @Override
   public String getTitle() {
     return getFirstName() + " " + getLastName();
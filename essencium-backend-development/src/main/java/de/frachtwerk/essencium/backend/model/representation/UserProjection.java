@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.model.representation;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Attributes of a user needed for its {@link UserRepresentation}. The roles are projected by their
+ * names, so that the page does not load the roles and their rights for every user.
+ */
+public record UserProjection(
+    Long id,
+    String firstName,
+    String lastName,
+    String phone,
+    String mobile,
+    String email,
+    Locale locale,
+    Set<String> roles,
+    boolean enabled,
+    boolean loginDisabled,
+    String source) {}
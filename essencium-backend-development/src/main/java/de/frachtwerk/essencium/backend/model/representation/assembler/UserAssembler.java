@@ -19,15 +19,29 @@
 
 package de.frachtwerk.essencium.backend.model.representation.assembler;
 
+import de.frachtwerk.essencium.backend.model.Role;
 import de.frachtwerk.essencium.backend.model.User;
+import de.frachtwerk.essencium.backend.model.representation.UserProjection;
 import de.frachtwerk.essencium.backend.model.representation.UserRepresentation;
+import de.frachtwerk.essencium.backend.repository.RoleRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
 
 @Primary
 @Component
-public class UserAssembler extends AbstractRepresentationAssembler<User, UserRepresentation> {
+@RequiredArgsConstructor
+public class UserAssembler
+    extends AbstractProjectionAssembler<User, UserProjection, UserRepresentation> {
+
+  private final RoleRepository roleRepository;
+
   @Override
   public @NonNull UserRepresentation toModel(@NonNull User entity) {
     return UserRepresentation.builder()
@@ -44,4 +58,48 @@ public class UserAssembler extends AbstractRepresentationAssembler<User, UserRep
         .source(entity.getSource())
         .build();
   }
+
+  @Override
+  public @NonNull Class<UserProjection> getProjectionType() {
+    return UserProjection.class;
+  }
+
+  @Override
+  public @NonNull UserRepresentation fromProjection(@NonNull UserProjection projection) {
+    return fromProjections(List.of(projection)).getFirst();
+  }
+
+  @Override
+  public @NonNull List<UserRepresentation> fromProjections(
+      @NonNull List<UserProjection> projections) {
+    Map<String, Role> roles =
+        roleRepository
+            .findAllById(
+                projections.stream()
+                    .flatMap(projection -> projection.roles().stream())
+                    .collect(Collectors.toSet()))
+            .stream()
+            .collect(Collectors.toMap(Role::getName, Function.identity()));
+    return projections.stream().map(projection -> fromProjection(projection, roles)).toList();
+  }
+
+  private UserRepresentation fromProjection(UserProjection projection, Map<String, Role> roles) {
+    return UserRepresentation.builder()
+        .id(projection.id())
+        .firstName(projection.firstName())
+        .lastName(projection.lastName())
+        .phone(projection.phone())
+        .mobile(projection.mobile())
+        .email(projection.email())
+        .locale(projection.locale())
+        .roles(
+            projection.roles().stream()
+                .map(roles::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()))
+        .enabled(projection.enabled())
+        .loginDisabled(projection.loginDisabled())
+        .source(projection.source())
+        .build();
+  }
 }
@@ -19,11 +19,15 @@
 
 package de.frachtwerk.essencium.backend.service;
 
+import de.frachtwerk.essencium.backend.model.AbstractBaseUser_;
 import de.frachtwerk.essencium.backend.model.Role;
 import de.frachtwerk.essencium.backend.model.User;
 import de.frachtwerk.essencium.backend.model.dto.EssenciumUserDetails;
 import de.frachtwerk.essencium.backend.model.dto.UserDto;
 import de.frachtwerk.essencium.backend.repository.UserRepository;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Root;
 import jakarta.validation.constraints.NotNull;
 import java.util.HashSet;
 import java.util.List;
@@ -122,4 +126,12 @@ public class UserService
   public UserDto getNewUser() {
     return new UserDto();
   }
+
+  @Override
+  protected Expression<String> getTitleExpression(
+      @NotNull Root<User> root, @NotNull CriteriaBuilder criteriaBuilder) {
+    return criteriaBuilder.concat(
+        criteriaBuilder.concat(root.<String>get(AbstractBaseUser_.FIRST_NAME), " "),
+        root.<String>get(AbstractBaseUser_.LAST_NAME));
+  }
 }
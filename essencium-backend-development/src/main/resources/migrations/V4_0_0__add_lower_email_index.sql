@@ -0,0 +1,2 @@
+-- Case-insensitive user lookups compare lower(email), which the unique constraint on email cannot serve
+CREATE INDEX IF NOT EXISTS "FW_USER_lower_email_idx" ON "FW_USER" (lower(email));
@@ -0,0 +1,2 @@
+-- SequenceIdModel allocates 50 ids per nextval (pooled-lo optimizer), so inserts can be batched
+ALTER SEQUENCE IF EXISTS hibernate_sequence INCREMENT BY 50;
@@ -0,0 +1,5 @@
+-- The name search of the user list (User.searchText) compares lower(first_name || ' ' || last_name)
+-- with LIKE '%…%', which only a trigram index can serve
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS "FW_USER_search_text_idx" ON "FW_USER"
+    USING gin (lower(first_name || ' ' || last_name) gin_trgm_ops);
@@ -0,0 +1,9 @@
+-- Refresh tokens store when their last access token was issued, so listing sessions does not load
+-- the access tokens, and the listings by user and type are served by an index
+ALTER TABLE "FW_SESSION_TOKEN" ADD COLUMN IF NOT EXISTS last_used_at TIMESTAMP WITHOUT TIME ZONE;
+UPDATE "FW_SESSION_TOKEN" refresh_token
+SET last_used_at = (SELECT max(access_token.issued_at)
+                    FROM "FW_SESSION_TOKEN" access_token
+                    WHERE access_token.parent_token_id = refresh_token.id)
+WHERE refresh_token.type = 'REFRESH';
+CREATE INDEX IF NOT EXISTS "FW_SESSION_TOKEN_username_type_idx" ON "FW_SESSION_TOKEN" (username, type);
@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.configuration;
+
+import de.frachtwerk.essencium.backend.controller.access.JsonFilteredTypes;
+import de.frachtwerk.essencium.backend.controller.advice.AccessAwareJsonViewAdvice;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Scans essencium and the application packages for response types with a Jackson {@code
+ * JsonFilter}, so that {@link AccessAwareJsonViewAdvice} only attaches its filter where needed.
+ * Applications with filtered types outside these packages or added through mix-ins declare their
+ * own {@link JsonFilteredTypes} bean, which replaces the scanned one.
+ */
+@Configuration(proxyBeanMethods = false)
+public class AccessAwareJsonConfig {
+  static final String ESSENCIUM_PACKAGE = "de.frachtwerk.essencium";
+
+  @Bean
+  @ConditionalOnMissingBean
+  public JsonFilteredTypes jsonFilteredTypes(BeanFactory beanFactory) {
+    List<String> basePackages = new ArrayList<>(List.of(ESSENCIUM_PACKAGE));
+    if (AutoConfigurationPackages.has(beanFactory)) {
+      AutoConfigurationPackages.get(beanFactory).stream()
+          .filter(basePackage -> !(basePackage + ".").startsWith(ESSENCIUM_PACKAGE + "."))
+          .forEach(basePackages::add);
+    }
+    return JsonFilteredTypes.scan(basePackages);
+  }
+}
@@ -19,9 +19,29 @@
 
 package de.frachtwerk.essencium.backend.configuration;
 
+import static de.frachtwerk.essencium.backend.service.translation.TranslationFileService.TRANSLATION_FILE_CACHE;
+
+import javax.cache.configuration.MutableConfiguration;
+import org.springframework.boot.cache.autoconfigure.JCacheManagerCustomizer;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 @EnableCaching
-public class CachingConfig {}
+public class CachingConfig {
+
+  /**
+   * Creates the caches used by Essencium in case Spring's cache abstraction is backed by JCache,
+   * which does not create missing caches on demand.
+   */
+  @Bean
+  public JCacheManagerCustomizer essenciumCachesJCacheManagerCustomizer() {
+    return cacheManager -> {
+      if (cacheManager.getCache(TRANSLATION_FILE_CACHE) == null) {
+        cacheManager.createCache(
+            TRANSLATION_FILE_CACHE, new MutableConfiguration<>().setStoreByValue(false));
+      }
+    };
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.configuration;
+
+import de.frachtwerk.essencium.backend.configuration.properties.EssenciumJpaProperties;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Passes the batching and id generation settings of {@link EssenciumJpaProperties} to Hibernate.
+ * Settings given explicitly via {@code spring.jpa.properties} take precedence.
+ */
+@Configuration(proxyBeanMethods = false)
+@RequiredArgsConstructor
+public class HibernateBatchingConfig {
+
+  private final EssenciumJpaProperties essenciumJpaProperties;
+
+  @Bean
+  public HibernatePropertiesCustomizer batchingHibernatePropertiesCustomizer() {
+    return hibernateProperties -> {
+      hibernateProperties.putIfAbsent(
+          AvailableSettings.STATEMENT_BATCH_SIZE, essenciumJpaProperties.getJdbcBatchSize());
+      hibernateProperties.putIfAbsent(
+          AvailableSettings.ORDER_INSERTS, essenciumJpaProperties.isOrderInserts());
+      hibernateProperties.putIfAbsent(
+          AvailableSettings.ORDER_UPDATES, essenciumJpaProperties.isOrderUpdates());
+      hibernateProperties.putIfAbsent(
+          AvailableSettings.PREFERRED_POOLED_OPTIMIZER,
+          essenciumJpaProperties.getIdOptimizer().getExternalName());
+      hibernateProperties.putIfAbsent(
+          AvailableSettings.SEQUENCE_INCREMENT_SIZE_MISMATCH_STRATEGY,
+          essenciumJpaProperties.getSequenceIncrementMismatchStrategy());
+    };
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.configuration;
+
+import de.frachtwerk.essencium.backend.configuration.properties.EssenciumJpaProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.query.criteria.ValueHandlingMode;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Passes the query plan settings of {@link EssenciumJpaProperties} to Hibernate and publishes the
+ * query plan cache hits and misses if {@code essencium.jpa.query-plan-statistics} is enabled.
+ * Settings given explicitly via {@code spring.jpa.properties} take precedence.
+ *
+ * <p>Criteria values are always bound as parameters, so the plan cache key of a criteria query
+ * (its SQM tree) only reflects the shape of the query and the types of its parameters. A low hit
+ * rate thus points to queries whose shape depends on the request, e.g. filters over lists of
+ * varying length.
+ */
+@Configuration(proxyBeanMethods = false)
+@RequiredArgsConstructor
+public class HibernateQueryPlanConfig {
+
+  static final String PLAN_CACHE_METER = "hibernate.query.plan.cache";
+
+  private final EssenciumJpaProperties essenciumJpaProperties;
+
+  @Bean
+  public HibernatePropertiesCustomizer queryPlanHibernatePropertiesCustomizer() {
+    return hibernateProperties -> {
+      hibernateProperties.putIfAbsent(
+          AvailableSettings.CRITERIA_VALUE_HANDLING_MODE, ValueHandlingMode.BIND);
+      hibernateProperties.putIfAbsent(
+          AvailableSettings.CRITERIA_PLAN_CACHE_ENABLED,
+          essenciumJpaProperties.isCriteriaPlanCache());
+      hibernateProperties.putIfAbsent(
+          AvailableSettings.QUERY_PLAN_CACHE_MAX_SIZE,
+          essenciumJpaProperties.getQueryPlanCacheMaxSize());
+      hibernateProperties.putIfAbsent(
+          AvailableSettings.IN_CLAUSE_PARAMETER_PADDING,
+          essenciumJpaProperties.isInClauseParameterPadding());
+      if (essenciumJpaProperties.isQueryPlanStatistics()) {
+        hibernateProperties.putIfAbsent(AvailableSettings.GENERATE_STATISTICS, true);
+      }
+    };
+  }
+
+  @Bean
+  @ConditionalOnBooleanProperty("essencium.jpa.query-plan-statistics")
+  public MeterBinder queryPlanCacheMeterBinder(EntityManagerFactory entityManagerFactory) {
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    return registry -> {
+      FunctionCounter.builder(PLAN_CACHE_METER, statistics, Statistics::getQueryPlanCacheHitCount)
+          .tag("result", "hit")
+          .description("Queries whose plan was taken from the query plan cache")
+          .register(registry);
+      FunctionCounter.builder(PLAN_CACHE_METER, statistics, Statistics::getQueryPlanCacheMissCount)
+          .tag("result", "miss")
+          .description("Queries whose plan had to be created")
+          .register(registry);
+    };
+  }
+}
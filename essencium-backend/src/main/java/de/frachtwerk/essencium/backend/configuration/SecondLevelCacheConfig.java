@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.configuration;
+
+import de.frachtwerk.essencium.backend.configuration.properties.EssenciumJpaProperties;
+import de.frachtwerk.essencium.backend.model.AbstractBaseUser;
+import de.frachtwerk.essencium.backend.model.ApiToken;
+import de.frachtwerk.essencium.backend.model.ApiToken_;
+import de.frachtwerk.essencium.backend.model.Right;
+import de.frachtwerk.essencium.backend.model.Role;
+import de.frachtwerk.essencium.backend.model.Role_;
+import de.frachtwerk.essencium.backend.model.Translation;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.configuration.Factory;
+import javax.cache.configuration.MutableConfiguration;
+import javax.cache.expiry.CreatedExpiryPolicy;
+import javax.cache.expiry.EternalExpiryPolicy;
+import javax.cache.expiry.ExpiryPolicy;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables the Hibernate second-level and query cache according to {@link
+ * EssenciumJpaProperties.SecondLevelCache}. The regions are kept in the JCache {@link CacheManager}
+ * backing Spring's cache abstraction, or in the default one of the JCache provider if there is
+ * none. Settings given explicitly via {@code spring.jpa.properties} take precedence.
+ */
+@Configuration(proxyBeanMethods = false)
+@RequiredArgsConstructor
+public class SecondLevelCacheConfig {
+
+  /** Regions of the entities, collections and queries cached by Essencium. */
+  static final List<String> REGIONS =
+      List.of(
+          Role.class.getName(),
+          Role.class.getName() + "." + Role_.RIGHTS,
+          Right.class.getName(),
+          Translation.class.getName(),
+          AbstractBaseUser.ROLES_CACHE_REGION,
+          ApiToken.class.getName() + "." + ApiToken_.RIGHTS,
+          RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME);
+
+  private final EssenciumJpaProperties essenciumJpaProperties;
+
+  @Bean
+  public HibernatePropertiesCustomizer secondLevelCacheHibernatePropertiesCustomizer(
+      ObjectProvider<CacheManager> cacheManagerProvider) {
+    return hibernateProperties -> {
+      EssenciumJpaProperties.SecondLevelCache secondLevelCache =
+          essenciumJpaProperties.getSecondLevelCache();
+      if (!secondLevelCache.isEnabled()) {
+        // Hibernate would otherwise pick up hibernate-jcache as region factory on its own
+        hibernateProperties.putIfAbsent(AvailableSettings.USE_SECOND_LEVEL_CACHE, false);
+        return;
+      }
+
+      CacheManager cacheManager =
+          cacheManagerProvider.getIfAvailable(() -> Caching.getCachingProvider().getCacheManager());
+      createRegions(cacheManager, secondLevelCache.getTimeToLive());
+
+      hibernateProperties.putIfAbsent(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+      hibernateProperties.putIfAbsent(AvailableSettings.USE_QUERY_CACHE, true);
+      hibernateProperties.putIfAbsent(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+      hibernateProperties.putIfAbsent(ConfigSettings.CACHE_MANAGER, cacheManager);
+    };
+  }
+
+  static void createRegions(CacheManager cacheManager, Duration timeToLive) {
+    Factory<ExpiryPolicy> expiryPolicy =
+        CreatedExpiryPolicy.factoryOf(
+            new javax.cache.expiry.Duration(TimeUnit.MILLISECONDS, timeToLive.toMillis()));
+    REGIONS.forEach(region -> createRegion(cacheManager, region, expiryPolicy));
+    // the update timestamps must outlive every cached query result, an expired timestamp would
+    // make a stale result look valid
+    createRegion(
+        cacheManager,
+        RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+        EternalExpiryPolicy.factoryOf());
+  }
+
+  private static void createRegion(
+      CacheManager cacheManager, String region, Factory<ExpiryPolicy> expiryPolicy) {
+    if (cacheManager.getCache(region) == null) {
+      cacheManager.createCache(
+          region,
+          new MutableConfiguration<>().setStoreByValue(false).setExpiryPolicyFactory(expiryPolicy));
+    }
+  }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.configuration;
+
+import de.frachtwerk.essencium.backend.configuration.initialization.DataInitializer;
+import de.frachtwerk.essencium.backend.model.AbstractBaseUser;
+import de.frachtwerk.essencium.backend.model.AbstractBaseUser_;
+import de.frachtwerk.essencium.backend.model.ApiTokenStatus;
+import de.frachtwerk.essencium.backend.service.EssenciumUserDetailsCache;
+import de.frachtwerk.essencium.backend.service.TokenInvalidationService;
+import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Interceptor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.collection.spi.PersistentSet;
+import org.hibernate.type.Type;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Session factory wide Hibernate {@link Interceptor} tracking changes of the {@link
+ * TokenInvalidationService#SECURITY_RELEVANT_USER_ATTRIBUTES security relevant attributes} of
+ * users. Hibernate already compares the loaded state of every managed entity with its current state
+ * while flushing, so the tokens of a user are only invalidated if one of these attributes actually
+ * changed, without loading the original user a second time. The invalidation itself is deferred
+ * until the surrounding transaction has committed. Modifications made by a {@link DataInitializer}
+ * do not invalidate any tokens.
+ *
+ * <p>The interceptor registers itself via {@link AvailableSettings#INTERCEPTOR} and therefore
+ * replaces any other session factory scoped interceptor.
+ */
+@Slf4j
+@Component
+public class UserChangeTrackingInterceptor implements Interceptor, HibernatePropertiesCustomizer {
+
+  private static final String ROLES_COLLECTION_SUFFIX = "." + AbstractBaseUser_.ROLES;
+
+  // resolved lazily, the service depends on repositories which require the entity manager factory
+  private final ObjectProvider<TokenInvalidationService<?, ?>> tokenInvalidationService;
+
+  private final EssenciumUserDetailsCache userDetailsCache;
+
+  public UserChangeTrackingInterceptor(
+      ObjectProvider<TokenInvalidationService<?, ?>> tokenInvalidationService,
+      EssenciumUserDetailsCache userDetailsCache) {
+    this.tokenInvalidationService = tokenInvalidationService;
+    this.userDetailsCache = userDetailsCache;
+  }
+
+  @Override
+  public void customize(Map<String, Object> hibernateProperties) {
+    hibernateProperties.put(AvailableSettings.INTERCEPTOR, this);
+  }
+
+  @Override
+  public boolean onFlushDirty(
+      Object entity,
+      Object id,
+      Object[] currentState,
+      Object[] previousState,
+      String[] propertyNames,
+      Type[] types) {
+    if (!(entity instanceof AbstractBaseUser<?> user)) {
+      return false;
+    }
+    if (Objects.nonNull(user.getEmail())) {
+      // any attribute may be part of the cached token details, e.g. the name
+      userDetailsCache.evictAfterCommit(List.of(user.getEmail()));
+    }
+    List<String> changedAttributes = new ArrayList<>();
+    Object previousEmail = user.getEmail();
+    for (int i = 0; i < propertyNames.length; i++) {
+      String propertyName = propertyNames[i];
+      if (!TokenInvalidationService.SECURITY_RELEVANT_USER_ATTRIBUTES.contains(propertyName)
+          || AbstractBaseUser_.ROLES.equals(propertyName)) {
+        // changes of the roles collection are reported via the collection callbacks
+        continue;
+      }
+      Object previousValue = Objects.isNull(previousState) ? null : previousState[i];
+      if (AbstractBaseUser_.EMAIL.equals(propertyName) && Objects.nonNull(previousValue)) {
+        previousEmail = previousValue;
+      }
+      if (Objects.isNull(previousState) || !Objects.equals(previousValue, currentState[i])) {
+        changedAttributes.add(propertyName);
+      }
+    }
+    if (!changedAttributes.isEmpty()) {
+      log.debug("Security relevant attributes {} of user {} changed", changedAttributes, id);
+      // tokens were issued for the previous e-mail address, sessions may already use the new one
+      Set<String> usernames = new LinkedHashSet<>();
+      usernames.add(String.valueOf(previousEmail));
+      usernames.add(user.getEmail());
+      scheduleTokenInvalidation(usernames);
+    }
+    return false;
+  }
+
+  @Override
+  public void onCollectionUpdate(Object collection, Object key) {
+    if (collection instanceof PersistentCollection<?> roles
+        && isRolesCollection(roles)
+        && !Objects.equals(loadedRoles(roles), roles)) {
+      rolesModified(roles, key);
+    }
+  }
+
+  @Override
+  public void onCollectionRemove(Object collection, Object key) {
+    // the roles collection of a persisted user was replaced by a new one, deleted users keep it
+    if (collection instanceof PersistentCollection<?> roles
+        && isRolesCollection(roles)
+        && roles.getOwner() instanceof AbstractBaseUser<?> user
+        && user.getRoles() != roles
+        && !Objects.equals(loadedRoles(roles), user.getRoles())) {
+      rolesModified(roles, key);
+    }
+  }
+
+  private void rolesModified(PersistentCollection<?> roles, Object key) {
+    if (roles.getOwner() instanceof AbstractBaseUser<?> user && Objects.nonNull(user.getEmail())) {
+      log.debug("Roles of user {} changed", key);
+      scheduleTokenInvalidation(Set.of(user.getEmail()));
+    }
+  }
+
+  private void scheduleTokenInvalidation(Set<String> usernames) {
+    if (DataInitializer.isRunning()) {
+      log.debug("Skipping user token invalidation - called from DataInitializer");
+      return;
+    }
+    TokenInvalidationService<?, ?> service = tokenInvalidationService.getIfAvailable();
+    if (Objects.nonNull(service)) {
+      service.scheduleTokenInvalidation(usernames, ApiTokenStatus.REVOKED_USER_CHANGED);
+    }
+  }
+
+  private static boolean isRolesCollection(PersistentCollection<?> collection) {
+    return collection.getOwner() instanceof AbstractBaseUser<?>
+        && Objects.nonNull(collection.getRole())
+        && collection.getRole().endsWith(ROLES_COLLECTION_SUFFIX);
+  }
+
+  /**
+   * Merging a detached user replaces the elements of the managed collection, which marks it dirty
+   * even if the same roles are assigned again. Compare against the snapshot taken on load instead.
+   */
+  @Nullable
+  private static Set<?> loadedRoles(PersistentCollection<?> roles) {
+    if (roles instanceof PersistentSet<?> set
+        && set.getStoredSnapshot() instanceof Map<?, ?> snapshot) {
+      return snapshot.keySet();
+    }
+    return null;
+  }
+}
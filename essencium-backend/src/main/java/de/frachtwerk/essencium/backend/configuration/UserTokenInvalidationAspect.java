@@ -30,7 +30,6 @@ import jakarta.validation.constraints.NotNull;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 import java.util.function.Consumer;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.JoinPoint;
@@ -39,6 +38,11 @@ import org.aspectj.lang.annotation.Before;
 import org.aspectj.lang.annotation.Pointcut;
 import org.springframework.stereotype.Component;
 
+/**
+ * Invalidates the tokens of users affected by the deletion of users as well as by modifications of
+ * roles and rights. Modifications of users themselves are tracked by {@link
+ * UserChangeTrackingInterceptor}.
+ */
 @Aspect
 @Component
 @Slf4j
@@ -53,11 +57,6 @@ public class UserTokenInvalidationAspect {
   @Pointcut("within(de.frachtwerk.essencium.backend.configuration.initialization..*)")
   public void withinInitializationPackage() {}
 
-  @Pointcut(
-      "execution(* de.frachtwerk.essencium.backend.repository.BaseUserRepository+.*save*(..))"
-          + " && !withinInitializationPackage()")
-  public void userModificationMethods() {}
-
   @Pointcut(
       "execution(* de.frachtwerk.essencium.backend.repository.BaseUserRepository+.*delete*(..))")
   public void userDeletionMethods() {}
@@ -78,21 +77,9 @@ public class UserTokenInvalidationAspect {
   @Pointcut("execution(* de.frachtwerk.essencium.backend.repository.RightRepository+.*delete*(..))")
   public void rightDeletionMethods() {}
 
-  @Before("userModificationMethods()")
-  void beforeUserModification(JoinPoint joinPoint) {
-    if (isCalledFromDataInitializer()) {
-      log.debug("Skipping user token invalidation - called from DataInitializer");
-      return;
-    }
-    List<?> extractEntities =
-        extractEntities(joinPoint, AbstractBaseUser.class, Serializable.class);
-    processEntityModification(
-        extractEntities, AbstractBaseUser.class, this::invalidateUserOnModification);
-  }
-
   @Before("roleModificationMethods()")
   void beforeRoleModification(JoinPoint joinPoint) {
-    if (isCalledFromDataInitializer()) {
+    if (DataInitializer.isRunning()) {
       log.debug("Skipping role token invalidation - called from DataInitializer");
       return;
     }
@@ -102,7 +89,7 @@ public class UserTokenInvalidationAspect {
 
   @Before("rightModificationMethods()")
   void beforeRightModification(JoinPoint joinPoint) {
-    if (isCalledFromDataInitializer()) {
+    if (DataInitializer.isRunning()) {
       log.debug("Skipping right token invalidation - called from DataInitializer");
       return;
     }
@@ -240,13 +227,6 @@ public class UserTokenInvalidationAspect {
     tokenInvalidationService.invalidateTokensForRoleDeletion((String) id);
   }
 
-  private void invalidateUserOnModification(AbstractBaseUser<?> abstractBaseUser) {
-    if (abstractBaseUser instanceof AbstractBaseUser<?> user && Objects.nonNull(user.getId())) {
-      tokenInvalidationService.invalidateTokensOnUserUpdate(
-          user, ApiTokenStatus.REVOKED_USER_CHANGED);
-    } else logUnexpectedWarning(abstractBaseUser);
-  }
-
   private void invalidateUsersByRight(@Nullable Right right) {
     if (right != null && right.getAuthority() != null) {
       String authority = right.getAuthority();
@@ -270,32 +250,6 @@ public class UserTokenInvalidationAspect {
     tokenInvalidationService.invalidateTokensForRightDeletion((String) id);
   }
 
-  /**
-   * Checks if the current method call is part of a DataInitializer execution by examining the call
-   * stack. This method looks for DataInitializer implementations in the stack trace.
-   */
-  private boolean isCalledFromDataInitializer() {
-    StackTraceElement[] stackTrace = Thread.currentThread().getStackTrace();
-
-    for (StackTraceElement element : stackTrace) {
-      String className = element.getClassName();
-      if (className.contains("initialization")) {
-        // -> probably a DataInitializer
-        try {
-          Class<?> clazz = Class.forName(className);
-          // Check if the class implements DataInitializer (directly or through inheritance)
-          if (DataInitializer.class.isAssignableFrom(clazz)) {
-            return true;
-          }
-        } catch (ClassNotFoundException e) {
-          // Ignore classes that can't be loaded
-        }
-      }
-    }
-
-    return false;
-  }
-
   private void logNullWarning() {
     log.warn("Entity or ID is null, token invalidation skipped");
   }
@@ -27,4 +27,17 @@ public interface DataInitializer extends Runnable {
   default int order() {
     return 0;
   }
+
+  /**
+   * Whether the current thread is executing a {@link DataInitializer}, i.e. an implementation of
+   * this interface is on the call stack. Token invalidation is skipped for modifications made while
+   * seeding data.
+   */
+  static boolean isRunning() {
+    return StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE)
+        .walk(
+            frames ->
+                frames.anyMatch(
+                    frame -> DataInitializer.class.isAssignableFrom(frame.getDeclaringClass())));
+  }
 }
@@ -19,10 +19,13 @@
 
 package de.frachtwerk.essencium.backend.configuration.properties;
 
+import java.time.Duration;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import net.kaczmarzyk.spring.data.jpa.domain.IgnoreCaseStrategy;
 import net.kaczmarzyk.spring.data.jpa.utils.CharEscaper;
+import org.hibernate.id.SequenceMismatchStrategy;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
@@ -34,6 +37,12 @@ import org.springframework.context.annotation.Configuration;
  * builds dynamic filter queries (see {@code SpecificationArgumentsResolverConfig}). Changing any of
  * them affects the generated schema/queries, so they should be fixed for the lifetime of a database
  * and kept consistent with the actual schema.
+ *
+ * <p>The batching and id generation settings are passed to Hibernate (see {@code
+ * HibernateBatchingConfig}) unless the corresponding {@code spring.jpa.properties.hibernate.*}
+ * property is set explicitly. The same applies to the query plan settings (see {@code
+ * HibernateQueryPlanConfig}) and the {@link SecondLevelCache} settings (see {@code
+ * SecondLevelCacheConfig}).
  */
 @Data
 @EqualsAndHashCode(callSuper = false)
@@ -74,4 +83,91 @@ public class EssenciumJpaProperties {
    * performed).
    */
   private CharEscaper charEscaper = CharEscaper.DISABLED;
+
+  /**
+   * Maximum number of statements Hibernate sends to the database as one JDBC batch ({@code
+   * hibernate.jdbc.batch_size}). Default: {@code 50}, the allocation size of sequence based ids.
+   * Set to {@code 0} to disable batching.
+   */
+  private int jdbcBatchSize = 50;
+
+  /**
+   * Whether Hibernate groups inserts by entity type so that they can be batched ({@code
+   * hibernate.order_inserts}). Default: {@code true}.
+   */
+  private boolean orderInserts = true;
+
+  /**
+   * Whether Hibernate groups updates by entity type so that they can be batched ({@code
+   * hibernate.order_updates}). Default: {@code true}.
+   */
+  private boolean orderUpdates = true;
+
+  /**
+   * Optimizer used for sequences with an allocation size greater than one ({@code
+   * hibernate.id.optimizer.pooled.preferred}). Default: {@link
+   * StandardOptimizerDescriptor#POOLED_LO}, which hands out the ids from the value returned by the
+   * sequence up to the next multiple of the allocation size without further round trips.
+   */
+  private StandardOptimizerDescriptor idOptimizer = StandardOptimizerDescriptor.POOLED_LO;
+
+  /**
+   * How to deal with a database sequence whose increment differs from the allocation size of the
+   * mapping ({@code hibernate.id.sequence.increment_size_mismatch_strategy}). Default: {@link
+   * SequenceMismatchStrategy#FIX}, the {@code INCREMENT BY} of the database sequence takes
+   * precedence, so it determines how many ids are allocated per round trip.
+   */
+  private SequenceMismatchStrategy sequenceIncrementMismatchStrategy = SequenceMismatchStrategy.FIX;
+
+  /**
+   * Whether Hibernate caches the interpretation of criteria queries, e.g. the ones built from
+   * specifications ({@code hibernate.criteria.plan_cache_enabled}). Default: {@code true}. Since
+   * criteria values are bound as parameters, queries of the same shape share one plan.
+   */
+  private boolean criteriaPlanCache = true;
+
+  /**
+   * Maximum number of query plans Hibernate keeps ({@code hibernate.query.plan_cache_max_size}).
+   * Default: {@code 2048}.
+   */
+  private int queryPlanCacheMaxSize = 2048;
+
+  /**
+   * Whether Hibernate pads the parameters of {@code IN} clauses to the next power of two ({@code
+   * hibernate.query.in_clause_parameter_padding}), so that filters over lists of different length
+   * render to fewer distinct SQL statements. Default: {@code true}.
+   */
+  private boolean inClauseParameterPadding = true;
+
+  /**
+   * Whether Hibernate statistics are collected and the query plan cache hits and misses are
+   * published as {@code hibernate.query.plan.cache} meter. Default: {@code false}, since collecting
+   * statistics adds overhead to every session.
+   */
+  private boolean queryPlanStatistics = false;
+
+  /** Hibernate second-level cache ({@code essencium.jpa.second-level-cache.*}). */
+  private SecondLevelCache secondLevelCache = new SecondLevelCache();
+
+  /**
+   * Second-level cache for the read-mostly entities {@code Role}, {@code Right} and {@code
+   * Translation}, the role and right collections of users and API tokens and the role lookup
+   * queries. Requires a JCache provider (e.g. {@code com.github.ben-manes.caffeine:jcache}) on the
+   * classpath.
+   */
+  @Data
+  public static class SecondLevelCache {
+    /**
+     * Whether the second-level and query cache are enabled. Default: {@code false}. The caches are
+     * local to each instance, changes made by another instance only become visible once the cached
+     * entries expired (see {@link #timeToLive}).
+     */
+    private boolean enabled = false;
+
+    /**
+     * How long entries stay in the entity, collection and query regions after they have been
+     * cached. Default: 10 minutes.
+     */
+    private Duration timeToLive = Duration.ofMinutes(10);
+  }
 }
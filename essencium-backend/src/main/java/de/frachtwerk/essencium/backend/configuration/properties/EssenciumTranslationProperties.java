@@ -0,0 +1,45 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.frachtwerk.essencium.backend.configuration.properties;
+
+import java.time.Duration;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Settings of the translation lookup, bound from the {@code essencium.translation} namespace.
+ *
+ * <p>{@code TranslationService} resolves translations from an in-memory table of all translations.
+ * The table is reloaded whenever translations are modified through the service and, at the latest,
+ * after {@link #tableTimeToLive}, which bounds how long other nodes of a cluster keep serving
+ * outdated translations.
+ */
+@Data
+@EqualsAndHashCode(callSuper = false)
+@Configuration
+@ConfigurationProperties(prefix = "essencium.translation")
+public class EssenciumTranslationProperties {
+  /**
+   * How long the in-memory translation table is used before it is loaded from the database again.
+   * Default: 5 minutes. {@link Duration#ZERO} loads the table on every lookup.
+   */
+  private Duration tableTimeToLive = Duration.ofMinutes(5);
+}
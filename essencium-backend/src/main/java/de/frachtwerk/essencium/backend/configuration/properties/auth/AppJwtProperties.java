@@ -90,4 +90,29 @@ public class AppJwtProperties {
    */
   @Min(0)
   private int defaultApiTokenExpiration = 2592000; // 30 days
+
+  /**
+   * Maximum number of users whose token details are cached for renewing access tokens and logging
+   * out, least recently used entries are dropped first. Default: {@code 10000}. {@code 0} disables
+   * the cache.
+   */
+  @Min(0)
+  private int userDetailsCacheSize = 10000;
+
+  /**
+   * Time in seconds after which a cached user is loaded again, even though no modification of the
+   * user was observed. Bounds how long modifications made on another node remain unnoticed.
+   * Default: {@code 900} (15 minutes).
+   */
+  @Min(0)
+  private int userDetailsCacheExpiration = 900; // 15 minutes
+
+  /**
+   * Minimum time in seconds between two updates of the last use stored with a refresh token. Access
+   * tokens issued within this time leave the stored value untouched, so frequent renewals don't
+   * write the refresh token each time. Default: {@code 60} (1 minute). {@code 0} records every
+   * issued access token.
+   */
+  @Min(0)
+  private int lastUsedUpdateInterval = 60; // 1 minute
 }
@@ -19,6 +19,7 @@
 
 package de.frachtwerk.essencium.backend.configuration.properties.security;
 
+import java.time.Duration;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
@@ -43,8 +44,34 @@ public class AppSecurityProperties {
   private int minPasswordStrength = 4;
 
   /**
-   * Number of consecutive failed login attempts after which an account is locked by the {@code
-   * BruteForceProtectionService}. Default: {@code 10}.
+   * Number of failed login attempts within {@link #failedLoginWindow} after which an account is
+   * locked by the {@code BruteForceProtectionService}. Default: {@code 10}.
    */
   private int maxFailedLogins = 10;
+
+  /**
+   * Sliding time window in which failed login attempts are counted, both per account and per remote
+   * address. Failed attempts are counted in memory; only locking an account is written to the
+   * database. Default: {@code 1h}.
+   */
+  private Duration failedLoginWindow = Duration.ofHours(1);
+
+  /**
+   * Number of failed login attempts within {@link #failedLoginWindow} after which further login
+   * attempts from the same remote address are rejected with {@code 429 Too Many Requests} until the
+   * failures leave the window. {@code 0} disables the throttling. Default: {@code 0}.
+   *
+   * <p>The remote address is taken from the request. Behind a reverse proxy or load balancer all
+   * clients share the address of the proxy unless forwarded headers are evaluated (e.g. {@code
+   * server.forward-headers-strategy=native} or {@code framework}), and the throttling would then
+   * lock out every client at once.
+   */
+  private int maxFailedLoginsPerIp = 0;
+
+  /**
+   * Maximum number of failed login counters (per account and per remote address) held in memory by
+   * the {@code InMemoryLoginFailureCounter}. Once exceeded, counters are evicted, so attempts with
+   * ever new usernames or addresses cannot exhaust the heap. Default: {@code 100000}.
+   */
+  private long maxFailedLoginCounters = 100_000;
 }
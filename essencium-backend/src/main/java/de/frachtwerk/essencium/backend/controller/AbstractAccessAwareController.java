@@ -20,31 +20,55 @@
 package de.frachtwerk.essencium.backend.controller;
 
 import de.frachtwerk.essencium.backend.controller.access.RestrictAccessToOwnedEntities;
+import de.frachtwerk.essencium.backend.controller.advice.AccessAwareJsonViewAdvice;
 import de.frachtwerk.essencium.backend.model.AbstractBaseModel;
 import de.frachtwerk.essencium.backend.model.Identifiable;
+import de.frachtwerk.essencium.backend.model.exception.DuplicateResourceException;
+import de.frachtwerk.essencium.backend.model.exception.InvalidInputException;
+import de.frachtwerk.essencium.backend.model.exception.NotAllowedException;
 import de.frachtwerk.essencium.backend.model.exception.ResourceNotFoundException;
 import de.frachtwerk.essencium.backend.model.representation.BasicRepresentation;
+import de.frachtwerk.essencium.backend.model.representation.BulkItemResult;
+import de.frachtwerk.essencium.backend.model.representation.CursorSlice;
+import de.frachtwerk.essencium.backend.model.representation.assembler.AbstractProjectionAssembler;
 import de.frachtwerk.essencium.backend.service.AbstractEntityService;
+import de.frachtwerk.essencium.backend.service.BulkOperationResult;
+import de.frachtwerk.essencium.backend.service.CountMode;
+import de.frachtwerk.essencium.backend.util.KeysetCursorUtils;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.annotation.Nullable;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
 import java.io.Serializable;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
-import lombok.AllArgsConstructor;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
 import net.kaczmarzyk.spring.data.jpa.domain.Equal;
 import net.kaczmarzyk.spring.data.jpa.web.annotation.Spec;
 import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -56,12 +80,18 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.ser.FilterProvider;
 
 /**
  * * This controller takes advantage of the {@link RestrictAccessToOwnedEntities} annotation. If
  * specified on an inheriting type or on the entity type that is served by this controller the
- * specified restriction is applied to GET, GET /{id}, POST, PUT /{id}, PATCH /{id} and DELETE
- * /{id}.
+ * specified restriction is applied to GET, GET /{id}, POST, PUT /{id}, PATCH /{id}, DELETE /{id}
+ * as well as to the unmapped {@code scroll}, {@code export}, {@code updateAll} and {@code
+ * deleteAll} once an inheriting controller maps them.
  *
  * <p>Individual methods can have distinct restrictions by overwriting the according method.
  * Annotate it with {@link RestrictAccessToOwnedEntities}.
@@ -72,15 +102,30 @@ import org.springframework.web.bind.annotation.ResponseStatus;
  *     PATCH requests.
  * @param <SPEC> The {@link Specification} type used for filtering entities.
  */
-@AllArgsConstructor
+@RequiredArgsConstructor
 public abstract class AbstractAccessAwareController<
     MODEL extends AbstractBaseModel<ID>,
     ID extends Serializable,
     INPUT extends Identifiable<ID>,
     REPRESENTATION,
     SPEC extends Specification<MODEL>> {
+  public static final String COUNT_PARAMETER = "count";
+
+  private static final Set<String> PAGING_PARAMETERS =
+      Set.of("page", "size", "sort", COUNT_PARAMETER);
+
   protected final AbstractEntityService<MODEL, ID, INPUT> service;
 
+  private ObjectMapper objectMapper = new ObjectMapper();
+
+  @Nullable private AccessAwareJsonViewAdvice jsonViewAdvice;
+
+  @Autowired
+  void setJsonWriting(ObjectMapper objectMapper, AccessAwareJsonViewAdvice jsonViewAdvice) {
+    this.objectMapper = objectMapper;
+    this.jsonViewAdvice = jsonViewAdvice;
+  }
+
   @GetMapping
   @Parameter(
       in = ParameterIn.QUERY,
@@ -153,9 +198,30 @@ public abstract class AbstractAccessAwareController<
       description = "returns entries updated before the submitted date and time ",
       schema = @Schema(type = "string", format = "date-time"),
       example = "2021-12-31T23:59:59")
+  @Parameter(
+      in = ParameterIn.QUERY,
+      name = COUNT_PARAMETER,
+      description =
+          "How to determine the total number of elements: EXACT counts them, ESTIMATED reuses a "
+              + "recently counted total of the same query, NONE only tells whether there is a "
+              + "next page and omits the totals.",
+      schema =
+          @Schema(
+              type = "string",
+              allowableValues = {"EXACT", "ESTIMATED", "NONE"},
+              defaultValue = "EXACT"))
   public Page<REPRESENTATION> findAll(
       @Parameter(hidden = true) SPEC specification, @ParameterObject Pageable pageable) {
-    return toRepresentation(service.getAllFiltered(specification, pageable));
+    CountMode countMode = requestedCountMode();
+    AbstractProjectionAssembler<MODEL, ?, REPRESENTATION> assembler = getProjectionAssembler();
+    if (Objects.nonNull(assembler)) {
+      return findAllProjected(specification, pageable, countMode, assembler);
+    }
+    if (countMode == CountMode.EXACT) {
+      return toRepresentation(service.getAllFiltered(specification, pageable));
+    }
+    return toRepresentation(
+        service.getAllFiltered(specification, pageable, countMode, requestedCountKey()));
   }
 
   @GetMapping("/basic")
@@ -212,8 +278,72 @@ public abstract class AbstractAccessAwareController<
       description = "returns entries updated before the submitted date and time ",
       schema = @Schema(type = "string", format = "date-time"),
       example = "2021-12-31T23:59:59")
-  public List<BasicRepresentation> findAll(@Parameter(hidden = true) SPEC specification) {
-    return BasicRepresentation.from(service.getAllFiltered(specification));
+  @ApiResponse(
+      responseCode = "200",
+      content =
+          @Content(
+              mediaType = MediaType.APPLICATION_JSON_VALUE,
+              array = @ArraySchema(schema = @Schema(implementation = BasicRepresentation.class))))
+  public void findAll(
+      @Parameter(hidden = true) SPEC specification, @NotNull HttpServletResponse response)
+      throws IOException {
+    JsonArrayWriter.<BasicRepresentation>write(
+        response, jsonWriter(), consumer -> service.getAllBasicFiltered(specification, consumer));
+  }
+
+  /**
+   * Writes the representations of all entities matching the specification to the response as a
+   * JSON array while they are read from the database, so memory stays bounded whatever the number
+   * of entities. The {@code @JsonAllowFor} restrictions of the current principal apply as for the
+   * other endpoints.
+   *
+   * <p>Not mapped to a path on purpose: expose it by overriding it with a {@link GetMapping} and
+   * the security annotations of the inheriting controller.
+   *
+   * @param specification specification describing filters to apply to the set of all entities
+   * @param sort the order of the entities
+   * @param response the response to write to
+   */
+  protected void export(SPEC specification, Sort sort, @NotNull HttpServletResponse response)
+      throws IOException {
+    JsonArrayWriter.<REPRESENTATION>write(
+        response,
+        jsonWriter(),
+        consumer ->
+            service.streamAllFiltered(
+                specification, sort, entity -> consumer.accept(toRepresentation(entity))));
+  }
+
+  /**
+   * Writer for responses that are streamed instead of returned, configured like the message
+   * converters including the {@code @JsonAllowFor} restrictions of the current principal.
+   *
+   * @return the writer to serialize streamed responses with
+   */
+  protected final ObjectWriter jsonWriter() {
+    FilterProvider filters =
+        Objects.isNull(jsonViewAdvice) ? null : jsonViewAdvice.currentFilters();
+    return Objects.isNull(filters) ? objectMapper.writer() : objectMapper.writer(filters);
+  }
+
+  /**
+   * Returns the slice of entities following the given cursor, sought by keyset instead of skipped
+   * by offset, so deep slices are as cheap as the first one. The sort order must not change while
+   * scrolling.
+   *
+   * <p>Not mapped to a path on purpose: expose it by overriding it with a {@link GetMapping} and
+   * the security annotations of {@link #findAll(Specification, Pageable)}.
+   *
+   * @param specification specification describing filters to apply to the set of all entities
+   * @param cursor the {@code nextCursor} of the previous slice, {@code null} for the first slice
+   * @param pageable the size and sort order of the slice
+   * @return the slice with the cursor of the next one
+   */
+  protected CursorSlice<REPRESENTATION> scroll(
+      SPEC specification, @Nullable String cursor, Pageable pageable) {
+    return toRepresentation(
+        CursorSlice.from(
+            service.getAllFiltered(specification, pageable, KeysetCursorUtils.decode(cursor))));
   }
 
   @GetMapping("/{id}")
@@ -279,6 +409,40 @@ public abstract class AbstractAccessAwareController<
     service.testAccess(spec).deleteById(id);
   }
 
+  /**
+   * Applies the field updates to the entities with the given ids and returns the outcome per id.
+   * Entries rejected by a hook are left unchanged and do not affect the others.
+   *
+   * <p>Not mapped to a path on purpose: expose it by overriding it with a {@link PatchMapping} and
+   * the security annotations of the inheriting controller.
+   *
+   * @param fieldUpdates the fields to update by the id of the entity
+   * @param spec specification the entities have to match
+   * @return the outcome for every id, entries that could not be updated have a status other than
+   *     200
+   */
+  protected List<BulkItemResult<ID, REPRESENTATION>> updateAll(
+      @NotNull final Map<ID, Map<String, Object>> fieldUpdates, SPEC spec) {
+    return toBulkItemResults(service.patchAll(spec, fieldUpdates), HttpStatus.OK);
+  }
+
+  /**
+   * Deletes the entities with the given ids and returns the outcome per id. Entries rejected by a
+   * hook are kept and do not affect the others.
+   *
+   * <p>Not mapped to a path on purpose: expose it by overriding it with a {@link DeleteMapping}
+   * and the security annotations of the inheriting controller.
+   *
+   * @param ids the ids of the entities to delete
+   * @param spec specification the entities have to match
+   * @return the outcome for every id, entries that could not be deleted have a status other than
+   *     204
+   */
+  protected List<BulkItemResult<ID, REPRESENTATION>> deleteAll(
+      @NotNull final List<ID> ids, SPEC spec) {
+    return toBulkItemResults(service.deleteAllById(spec, ids), HttpStatus.NO_CONTENT);
+  }
+
   @RequestMapping(value = "/**", method = RequestMethod.OPTIONS)
   public ResponseEntity<Object> collectionOptions() {
     return ResponseEntity.ok().allow(getAllowedMethods().toArray(new HttpMethod[0])).build();
@@ -295,10 +459,130 @@ public abstract class AbstractAccessAwareController<
         HttpMethod.OPTIONS);
   }
 
+  /**
+   * The count mode requested by the {@value #COUNT_PARAMETER} parameter of the current request.
+   *
+   * @return the requested count mode, {@link CountMode#EXACT} if none was requested
+   * @throws InvalidInputException if the requested count mode is unknown
+   */
+  protected CountMode requestedCountMode() {
+    return currentRequest()
+        .map(request -> request.getParameter(COUNT_PARAMETER))
+        .filter(countMode -> !countMode.isBlank())
+        .map(
+            countMode -> {
+              try {
+                return CountMode.valueOf(countMode.trim().toUpperCase(Locale.ROOT));
+              } catch (IllegalArgumentException e) {
+                throw new InvalidInputException("Unknown count mode: " + countMode, e);
+              }
+            })
+        .orElse(CountMode.EXACT);
+  }
+
+  /**
+   * Identifies the filtered query of the current request, so {@link CountMode#ESTIMATED} can reuse
+   * its total for other pages. Filters depend on the request parameters and, due to ownership
+   * restrictions, on the user.
+   *
+   * @return the key of the query, {@code null} outside of a request
+   */
+  @Nullable
+  protected Object requestedCountKey() {
+    return currentRequest()
+        .map(
+            request -> {
+              Map<String, List<String>> filters = new TreeMap<>();
+              request
+                  .getParameterMap()
+                  .forEach(
+                      (name, values) -> {
+                        if (!PAGING_PARAMETERS.contains(name)) {
+                          filters.put(name, List.of(values));
+                        }
+                      });
+              return List.of(
+                  request.getRequestURI(), String.valueOf(request.getRemoteUser()), filters);
+            })
+        .orElse(null);
+  }
+
+  private List<BulkItemResult<ID, REPRESENTATION>> toBulkItemResults(
+      List<BulkOperationResult<MODEL, ID>> results, HttpStatus successStatus) {
+    return results.stream()
+        .map(
+            result -> {
+              if (!result.isSuccessful()) {
+                return new BulkItemResult<ID, REPRESENTATION>(
+                    result.id(),
+                    statusOf(result.failure()).value(),
+                    null,
+                    result.failure().getMessage());
+              }
+              REPRESENTATION representation =
+                  Objects.isNull(result.entity()) ? null : toRepresentation(result.entity());
+              return new BulkItemResult<>(result.id(), successStatus.value(), representation, null);
+            })
+        .toList();
+  }
+
+  // same status codes as the GlobalExceptionHandler answers single requests with
+  private static HttpStatus statusOf(RuntimeException failure) {
+    return switch (failure) {
+      case ResourceNotFoundException e -> HttpStatus.NOT_FOUND;
+      case DuplicateResourceException e -> HttpStatus.CONFLICT;
+      case NotAllowedException e -> HttpStatus.FORBIDDEN;
+      default -> HttpStatus.BAD_REQUEST;
+    };
+  }
+
+  private static Optional<HttpServletRequest> currentRequest() {
+    if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes request) {
+      return Optional.of(request.getRequest());
+    }
+    return Optional.empty();
+  }
+
   protected abstract REPRESENTATION toRepresentation(MODEL entity);
 
   protected abstract Page<REPRESENTATION> toRepresentation(Page<MODEL> page);
 
+  protected CursorSlice<REPRESENTATION> toRepresentation(CursorSlice<MODEL> slice) {
+    return slice.map(this::toRepresentation);
+  }
+
+  /**
+   * Assembler whose projection is fetched by the paged {@code GET} request instead of the entities,
+   * so that only the attributes needed by the representation are loaded. Projections are opt-in:
+   * neither the {@link AbstractEntityService#getAllPostProcessing(Page) post processing} of the
+   * service nor {@link #toRepresentation(Page)} are applied to them, so only return an assembler if
+   * these do not filter or alter the page.
+   *
+   * @return the assembler, {@code null} to load the entities
+   */
+  @Nullable
+  protected AbstractProjectionAssembler<MODEL, ?, REPRESENTATION> getProjectionAssembler() {
+    return null;
+  }
+
+  private <P> Page<REPRESENTATION> findAllProjected(
+      SPEC specification,
+      Pageable pageable,
+      CountMode countMode,
+      AbstractProjectionAssembler<MODEL, P, REPRESENTATION> assembler) {
+    Page<P> page =
+        service.getAllFiltered(
+            specification,
+            pageable,
+            assembler.getProjectionType(),
+            countMode,
+            requestedCountKey());
+    // maps the page element by element to keep its type, e.g. an UncountedPage
+    Iterator<REPRESENTATION> representations =
+        assembler.fromProjections(page.getContent()).iterator();
+    return page.map(projection -> representations.next());
+  }
+
   /**
    * A {@link AbstractAccessAwareController} using the model type M as output type and Page< M > as
    * the list output type.
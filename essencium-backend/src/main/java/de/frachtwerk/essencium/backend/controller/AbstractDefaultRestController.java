@@ -20,11 +20,14 @@
 package de.frachtwerk.essencium.backend.controller;
 
 import de.frachtwerk.essencium.backend.model.AbstractBaseModel;
+import de.frachtwerk.essencium.backend.model.representation.CursorSlice;
 import de.frachtwerk.essencium.backend.service.AbstractEntityService;
+import de.frachtwerk.essencium.backend.util.KeysetCursorUtils;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.annotation.Nullable;
 import jakarta.validation.constraints.NotNull;
 import java.io.Serializable;
 import org.springdoc.core.annotations.ParameterObject;
@@ -63,4 +66,20 @@ public abstract class AbstractDefaultRestController<
   public Page<O> findAll(@NotNull @ParameterObject final Pageable pageable) {
     return service.getAll(pageable);
   }
+
+  /**
+   * Returns the slice of entities following the given cursor, sought by keyset instead of skipped
+   * by offset. The sort order must not change while scrolling.
+   *
+   * <p>Not mapped to a path on purpose: expose it by overriding it with a {@link GetMapping} and
+   * the security annotations of the inheriting controller.
+   *
+   * @param cursor the {@code nextCursor} of the previous slice, {@code null} for the first slice
+   * @param pageable the size and sort order of the slice
+   * @return the slice with the cursor of the next one
+   */
+  @NotNull
+  protected CursorSlice<O> scroll(@Nullable String cursor, @NotNull final Pageable pageable) {
+    return CursorSlice.from(service.getAll(pageable, KeysetCursorUtils.decode(cursor)));
+  }
 }
@@ -25,8 +25,10 @@ import de.frachtwerk.essencium.backend.model.dto.BaseUserDto;
 import de.frachtwerk.essencium.backend.model.dto.EssenciumUserDetails;
 import de.frachtwerk.essencium.backend.model.dto.PasswordUpdateRequest;
 import de.frachtwerk.essencium.backend.model.exception.DuplicateResourceException;
+import de.frachtwerk.essencium.backend.model.exception.InvalidInputException;
 import de.frachtwerk.essencium.backend.model.exception.ResourceNotFoundException;
-import de.frachtwerk.essencium.backend.model.representation.BasicRepresentation;
+import de.frachtwerk.essencium.backend.model.representation.BulkItemResult;
+import de.frachtwerk.essencium.backend.model.representation.CursorSlice;
 import de.frachtwerk.essencium.backend.model.representation.TokenRepresentation;
 import de.frachtwerk.essencium.backend.model.representation.assembler.AbstractRepresentationAssembler;
 import de.frachtwerk.essencium.backend.repository.specification.BaseUserSpec;
@@ -37,14 +39,17 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -54,8 +59,11 @@ import net.kaczmarzyk.spring.data.jpa.domain.Equal;
 import net.kaczmarzyk.spring.data.jpa.web.annotation.Spec;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -69,6 +77,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
 @RequestMapping("/v1/users")
@@ -196,6 +205,58 @@ public abstract class AbstractUserController<
     return super.findAll(specification, pageable);
   }
 
+  @Override
+  @GetMapping("/scroll")
+  @Secured({BasicApplicationRight.Authority.USER_READ})
+  @Operation(
+      summary =
+          "Find all users according to certain optional filter parameters and return them slice by slice, following a cursor")
+  @Parameter(
+      in = ParameterIn.QUERY,
+      description =
+          "Cursor returned as nextCursor by the previous request. "
+              + "Omit it to retrieve the first slice.",
+      name = "cursor",
+      schema = @Schema(type = "string"))
+  @Parameter(
+      in = ParameterIn.QUERY,
+      description = "Number of records per slice.",
+      name = "size",
+      schema = @Schema(type = "integer", defaultValue = "20"))
+  @Parameter(
+      in = ParameterIn.QUERY,
+      description =
+          "Sorting criteria in the format: property(,)(asc|desc). "
+              + "Default sort order is ascending. "
+              + "Multiple sort criteria are supported. "
+              + "Must not change while scrolling.",
+      name = "sort",
+      array = @ArraySchema(schema = @Schema(type = "string")))
+  @Parameter(
+      in = ParameterIn.QUERY,
+      name = "roles",
+      description = "A Role ID or name to filter by",
+      array = @ArraySchema(schema = @Schema(type = "integer")),
+      example = "1,2,5")
+  @Parameter(
+      in = ParameterIn.QUERY,
+      name = "name",
+      description = "A firstName or lastName to filter by",
+      schema = @Schema(type = "string"),
+      example = "Peter")
+  @Parameter(
+      in = ParameterIn.QUERY,
+      name = "email",
+      description = "An email address to filter by",
+      schema = @Schema(type = "string"),
+      example = "john.doe@frachtwerk.de")
+  public CursorSlice<REPRESENTATION> scroll(
+      @Parameter(hidden = true) SPEC specification,
+      @Parameter(hidden = true) @RequestParam(value = "cursor", required = false) String cursor,
+      @Parameter(hidden = true) Pageable pageable) {
+    return super.scroll(specification, cursor, pageable);
+  }
+
   @Override
   @GetMapping("/basic")
   @Secured({BasicApplicationRight.Authority.USER_READ})
@@ -273,8 +334,50 @@ public abstract class AbstractUserController<
       description = "An email address to filter by",
       schema = @Schema(type = "string"),
       example = "john.doe@frachtwerk.de")
-  public List<BasicRepresentation> findAll(@Parameter(hidden = true) SPEC specification) {
-    return super.findAll(specification);
+  public void findAll(
+      @Parameter(hidden = true) SPEC specification, @NotNull HttpServletResponse response)
+      throws IOException {
+    super.findAll(specification, response);
+  }
+
+  @Override
+  @GetMapping("/export")
+  @Secured({BasicApplicationRight.Authority.USER_READ})
+  @Operation(
+      summary =
+          "Export all users according to certain optional filter parameters as a list of user representations, written while they are read from the database")
+  @Parameter(
+      in = ParameterIn.QUERY,
+      description =
+          "Sorting criteria in the format: property(,)(asc|desc). "
+              + "Default sort order is ascending. "
+              + "Multiple sort criteria are supported.",
+      name = "sort",
+      array = @ArraySchema(schema = @Schema(type = "string")))
+  @Parameter(
+      in = ParameterIn.QUERY,
+      name = "roles",
+      description = "A Role ID or name to filter by",
+      array = @ArraySchema(schema = @Schema(type = "integer")),
+      example = "1,2,5")
+  @Parameter(
+      in = ParameterIn.QUERY,
+      name = "name",
+      description = "A firstName or lastName to filter by",
+      schema = @Schema(type = "string"),
+      example = "Peter")
+  @Parameter(
+      in = ParameterIn.QUERY,
+      name = "email",
+      description = "An email address to filter by",
+      schema = @Schema(type = "string"),
+      example = "john.doe@frachtwerk.de")
+  public void export(
+      @Parameter(hidden = true) SPEC specification,
+      @Parameter(hidden = true) Sort sort,
+      @NotNull HttpServletResponse response)
+      throws IOException {
+    super.export(specification, sort, response);
   }
 
   @Override
@@ -377,6 +480,36 @@ public abstract class AbstractUserController<
     super.delete(id, spec);
   }
 
+  @Override
+  @PatchMapping
+  @Secured({BasicApplicationRight.Authority.USER_UPDATE})
+  @Operation(summary = "Update several users at once by passing individual fields per user id")
+  public List<BulkItemResult<ID, REPRESENTATION>> updateAll(
+      @RequestBody @NotNull final Map<ID, Map<String, Object>> fieldUpdates,
+      @Parameter(hidden = true) SPEC spec) {
+    return super.updateAll(fieldUpdates, spec);
+  }
+
+  @Override
+  @DeleteMapping
+  @Parameter(
+      in = ParameterIn.QUERY,
+      name = "ids",
+      description = "IDs of the users to delete, separated by ','",
+      required = true,
+      array = @ArraySchema(schema = @Schema(types = {"integer", "string"})),
+      examples = {
+        @ExampleObject("1,2,5"),
+        @ExampleObject("550e8400-e29b-41d4-a716-446655440000,550e8400-e29b-41d4-a716-446655440001")
+      })
+  @Secured({BasicApplicationRight.Authority.USER_DELETE})
+  @Operation(summary = "Delete several users at once by their ids")
+  public List<BulkItemResult<ID, REPRESENTATION>> deleteAll(
+      @Parameter(hidden = true) @RequestParam("ids") @NotNull final List<ID> ids,
+      @Parameter(hidden = true) SPEC spec) {
+    return super.deleteAll(ids, spec);
+  }
+
   @PostMapping(value = "/{id}/terminate")
   @Parameter(
       in = ParameterIn.PATH,
@@ -480,19 +613,61 @@ public abstract class AbstractUserController<
   @Secured({AdditionalApplicationRights.Authority.SESSION_TOKEN_ADMIN})
   @Operation(
       summary =
-          "Find all users according to certain optional filter parameters and return their tokens as a map of basic representations to list of token representations")
-  public Map<String, List<TokenRepresentation>> findAllWithTokens(
-      @Parameter(hidden = true) SPEC specification) {
-    List<USER> users = userService.getAllFiltered(specification);
-    Map<String, List<TokenRepresentation>> result = new HashMap<>();
-    for (USER user : users) {
-      List<TokenRepresentation> tokens =
-          userService.getTokens(user.getUsername()).stream()
-              .map(TokenRepresentation::from)
-              .toList();
-      result.put(String.valueOf(Objects.requireNonNull(user.getId())), tokens);
+          "Find all users according to certain optional filter parameters and return their tokens as a map of user ids to list of token representations, written while they are read from the database")
+  @Parameter(
+      in = ParameterIn.QUERY,
+      description =
+          "Page of users you want to retrieve (0..N). All users are returned if neither page nor size is given.",
+      name = "page",
+      schema = @Schema(type = "integer"))
+  @Parameter(
+      in = ParameterIn.QUERY,
+      description =
+          "Number of users per page. A page with fewer users than requested is the last one.",
+      name = "size",
+      schema = @Schema(type = "integer", defaultValue = "20"))
+  @Parameter(
+      in = ParameterIn.QUERY,
+      description =
+          "Sorting criteria in the format: property(,)(asc|desc). "
+              + "Default sort order is ascending. "
+              + "Multiple sort criteria are supported.",
+      name = "sort",
+      array = @ArraySchema(schema = @Schema(type = "string")))
+  @ApiResponse(
+      responseCode = "200",
+      content =
+          @Content(
+              mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema =
+                  @Schema(
+                      type = "object",
+                      description = "Lists of token representations by user id")))
+  public void findAllWithTokens(
+      @Parameter(hidden = true) SPEC specification,
+      @Parameter(hidden = true) @RequestParam(value = "page", required = false) final Integer page,
+      @Parameter(hidden = true) @RequestParam(value = "size", required = false) final Integer size,
+      @Parameter(hidden = true) Sort sort,
+      @NotNull HttpServletResponse response)
+      throws IOException {
+    final Pageable pageable;
+    if (Objects.isNull(page) && Objects.isNull(size)) {
+      pageable = Pageable.unpaged(sort);
+    } else if (Objects.requireNonNullElse(page, 0) < 0 || Objects.requireNonNullElse(size, 1) < 1) {
+      throw new InvalidInputException("page must not be negative and size must be positive");
+    } else {
+      pageable =
+          PageRequest.of(
+              Objects.requireNonNullElse(page, 0), Objects.requireNonNullElse(size, 20), sort);
     }
-    return result;
+    JsonObjectWriter.<List<TokenRepresentation>>write(
+        response,
+        jsonWriter(),
+        consumer ->
+            userService.streamTokensFiltered(
+                specification,
+                pageable,
+                (id, tokens) -> consumer.accept(String.valueOf(id), tokens)));
   }
 
   @GetMapping("/{id}/tokens")
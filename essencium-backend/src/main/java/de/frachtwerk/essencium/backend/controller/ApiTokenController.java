@@ -28,6 +28,8 @@ import de.frachtwerk.essencium.backend.model.ApiToken;
 import de.frachtwerk.essencium.backend.model.dto.ApiTokenDto;
 import de.frachtwerk.essencium.backend.model.representation.ApiTokenRepresentation;
 import de.frachtwerk.essencium.backend.model.representation.BasicRepresentation;
+import de.frachtwerk.essencium.backend.model.representation.BulkItemResult;
+import de.frachtwerk.essencium.backend.model.representation.CursorSlice;
 import de.frachtwerk.essencium.backend.repository.specification.ApiTokenSpecification;
 import de.frachtwerk.essencium.backend.security.AdditionalApplicationRights;
 import de.frachtwerk.essencium.backend.service.ApiTokenService;
@@ -35,8 +37,10 @@ import io.swagger.v3.oas.annotations.Hidden;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -56,6 +60,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.MethodNotAllowedException;
 
@@ -95,6 +100,29 @@ public class ApiTokenController
     return super.findAll(specification, pageable);
   }
 
+  @Override
+  @GetMapping("/scroll")
+  @Secured({
+    AdditionalApplicationRights.Authority.API_TOKEN,
+    AdditionalApplicationRights.Authority.API_TOKEN_ADMIN
+  })
+  @RestrictAccessToOwnedEntities(
+      rights = {
+        AdditionalApplicationRights.Authority.API_TOKEN,
+        AdditionalApplicationRights.Authority.API_TOKEN_ADMIN
+      })
+  @OwnershipSpec(path = "linkedUser", userAttribute = "email", spec = Equal.class)
+  @Operation(
+      summary = "Get API tokens owned by the current user slice by slice, following a cursor",
+      description =
+          "Returns the slice of API tokens following the 'cursor' parameter. Access is restricted to tokens owned by the current user.")
+  public CursorSlice<ApiTokenRepresentation> scroll(
+      @Parameter(hidden = true) ApiTokenSpecification specification,
+      @RequestParam(value = "cursor", required = false) String cursor,
+      @Parameter(hidden = true) Pageable pageable) {
+    return super.scroll(specification, cursor, pageable);
+  }
+
   @Override
   @GetMapping("/basic")
   @Secured({
@@ -111,10 +139,12 @@ public class ApiTokenController
       summary = "Get list of basic API token representations owned by the current user",
       description =
           "Returns a list of basic API token representations. Access is restricted to tokens owned by the current user.")
-  public List<BasicRepresentation> findAll(
+  public void findAll(
       @Spec(path = "id", pathVars = "id", spec = Equal.class) @Parameter(hidden = true)
-          ApiTokenSpecification specification) {
-    return super.findAll(specification);
+          ApiTokenSpecification specification,
+      @NotNull HttpServletResponse response)
+      throws IOException {
+    super.findAll(specification, response);
   }
 
   @GetMapping("/all")
@@ -208,6 +238,36 @@ public class ApiTokenController
     super.delete(uuid, apiTokenSpecification);
   }
 
+  @Override
+  @PatchMapping
+  @Secured({
+    AdditionalApplicationRights.Authority.API_TOKEN,
+    AdditionalApplicationRights.Authority.API_TOKEN_ADMIN
+  })
+  @RestrictAccessToOwnedEntities(rights = {AdditionalApplicationRights.Authority.API_TOKEN})
+  @Operation(
+      summary = "Partially update several API tokens at once",
+      description =
+          "Partially updates the API tokens with the given IDs. Only status updates to 'REVOKED' are allowed.")
+  public List<BulkItemResult<UUID, ApiTokenRepresentation>> updateAll(
+      @RequestBody @NotNull Map<UUID, Map<String, Object>> fieldUpdates,
+      @Parameter(hidden = true) ApiTokenSpecification apiTokenSpecification) {
+    return super.updateAll(fieldUpdates, apiTokenSpecification);
+  }
+
+  @Override
+  @DeleteMapping
+  @Secured({AdditionalApplicationRights.Authority.API_TOKEN_ADMIN})
+  @Operation(
+      summary = "Delete several API tokens by ID (admin only)",
+      description =
+          "Deletes the API tokens with the IDs given by the 'ids' parameter. Admin access (API_TOKEN_ADMIN) required.")
+  public List<BulkItemResult<UUID, ApiTokenRepresentation>> deleteAll(
+      @RequestParam("ids") @NotNull List<UUID> ids,
+      @Parameter(hidden = true) ApiTokenSpecification apiTokenSpecification) {
+    return super.deleteAll(ids, apiTokenSpecification);
+  }
+
   @GetMapping("/token-expiration-info")
   @Secured({
     AdditionalApplicationRights.Authority.API_TOKEN_ADMIN,
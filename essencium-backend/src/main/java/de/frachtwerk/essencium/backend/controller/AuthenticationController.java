@@ -27,6 +27,7 @@ import de.frachtwerk.essencium.backend.model.AbstractBaseUser;
 import de.frachtwerk.essencium.backend.model.SessionTokenType;
 import de.frachtwerk.essencium.backend.model.dto.LoginRequest;
 import de.frachtwerk.essencium.backend.model.dto.TokenResponse;
+import de.frachtwerk.essencium.backend.security.BruteForceProtectionService;
 import de.frachtwerk.essencium.backend.security.JwtTokenAuthenticationFilter;
 import de.frachtwerk.essencium.backend.security.event.CustomAuthenticationSuccessEvent;
 import de.frachtwerk.essencium.backend.service.JwtTokenService;
@@ -63,6 +64,7 @@ import org.springframework.security.authentication.InternalAuthenticationService
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.CookieValue;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -94,6 +96,8 @@ public class AuthenticationController {
   private final ApplicationEventPublisher applicationEventPublisher;
   private final OAuth2ClientRegistrationProperties oAuth2ClientRegistrationProperties;
   private final AppOAuth2Properties appOAuth2Properties;
+  private final BruteForceProtectionService<? extends AbstractBaseUser<?>, ? extends Serializable>
+      bruteForceProtectionService;
 
   public static String getBearerTokenHeader(HttpServletRequest request) {
     return request.getHeader(HttpHeaders.AUTHORIZATION);
@@ -106,12 +110,19 @@ public class AuthenticationController {
   public TokenResponse postLogin(
       @RequestBody @Validated LoginRequest login,
       @RequestHeader(value = HttpHeaders.USER_AGENT, required = false) String userAgent,
+      HttpServletRequest request,
       HttpServletResponse response) {
+    if (bruteForceProtectionService.isThrottled(request.getRemoteAddr())) {
+      throw new ResponseStatusException(
+          HttpStatus.TOO_MANY_REQUESTS, "Too many failed login attempts");
+    }
     try {
       // Authenticate using username and password
-      Authentication authentication =
-          authenticationManager.authenticate(
-              new UsernamePasswordAuthenticationToken(login.username(), login.password()));
+      UsernamePasswordAuthenticationToken authenticationRequest =
+          new UsernamePasswordAuthenticationToken(login.username(), login.password());
+      // the remote address is required to count failed attempts per client
+      authenticationRequest.setDetails(new WebAuthenticationDetails(request));
+      Authentication authentication = authenticationManager.authenticate(authenticationRequest);
       applicationEventPublisher.publishEvent(
           new CustomAuthenticationSuccessEvent(
               authentication,
@@ -0,0 +1,45 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.controller;
+
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.function.Consumer;
+import org.springframework.http.MediaType;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SequenceWriter;
+
+/**
+ * Writes elements to the response as a JSON array while they are produced, instead of collecting
+ * them in a list first. Every element is serialized as soon as it is passed to the consumer.
+ */
+final class JsonArrayWriter {
+
+  private JsonArrayWriter() {}
+
+  static <E> void write(
+      HttpServletResponse response, ObjectWriter writer, Consumer<Consumer<E>> elements)
+      throws IOException {
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    try (SequenceWriter sequence = writer.writeValuesAsArray(response.getOutputStream())) {
+      elements.accept(sequence::write);
+    }
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.controller;
+
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import org.springframework.http.MediaType;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.ObjectWriter;
+
+/**
+ * Writes entries to the response as a JSON object while they are produced, the counterpart of
+ * {@link JsonArrayWriter} for responses keyed by name. Every value is serialized as soon as it is
+ * passed to the consumer.
+ */
+final class JsonObjectWriter {
+
+  private JsonObjectWriter() {}
+
+  static <V> void write(
+      HttpServletResponse response, ObjectWriter writer, Consumer<BiConsumer<String, V>> entries)
+      throws IOException {
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    try (JsonGenerator generator = writer.createGenerator(response.getOutputStream())) {
+      generator.writeStartObject();
+      entries.accept(
+          (name, value) -> {
+            generator.writeName(name);
+            generator.writePOJO(value);
+          });
+      generator.writeEndObject();
+    }
+  }
+}
@@ -22,9 +22,11 @@ package de.frachtwerk.essencium.backend.controller.access;
 import de.frachtwerk.essencium.backend.model.Ownable;
 import de.frachtwerk.essencium.backend.model.dto.EssenciumUserDetails;
 import java.io.Serializable;
-import java.util.Arrays;
-import java.util.stream.Stream;
-import lombok.AllArgsConstructor;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import tools.jackson.core.JsonGenerator;
 import tools.jackson.databind.SerializationContext;
@@ -32,11 +34,20 @@ import tools.jackson.databind.jsonFormatVisitors.JsonObjectFormatVisitor;
 import tools.jackson.databind.ser.PropertyFilter;
 import tools.jackson.databind.ser.PropertyWriter;
 
-@AllArgsConstructor
+@RequiredArgsConstructor
 public class AccessAwareJsonFilter<
         AUTHUSER extends EssenciumUserDetails<ID>, ID extends Serializable>
     implements PropertyFilter {
-  private AUTHUSER principal;
+  private final AUTHUSER principal;
+  private final JsonAllowForRules rules;
+
+  // collected on the first restricted property, a filter only lives for one response
+  private Set<String> roles;
+  private Set<String> rights;
+
+  public AccessAwareJsonFilter(AUTHUSER principal) {
+    this(principal, new JsonAllowForRules());
+  }
 
   @Override
   public void serializeAsProperty(
@@ -70,21 +81,19 @@ public class AccessAwareJsonFilter<
   }
 
   private boolean isAllowed(Object value, PropertyWriter writer) {
-    JsonAllowFor ann = writer.getMember().getAnnotation(JsonAllowFor.class);
-    return ann == null
-        || Arrays.stream(ann.roles())
-            .anyMatch(
-                s ->
-                    principal.getRoles().stream()
-                        .map(GrantedAuthority::getAuthority)
-                        .anyMatch(s::equals))
-        || Stream.of(ann.rights())
-            .anyMatch(
-                r ->
-                    principal.getRights().stream()
-                        .map(GrantedAuthority::getAuthority)
-                        .anyMatch(r::equals))
-        || (ann.allowForOwner() && isOwner(value));
+    Optional<JsonAllowForRules.Rule> rule = rules.get(writer);
+    if (rule.isEmpty()) {
+      return true;
+    }
+    if (roles == null) {
+      roles = authorities(principal.getRoles());
+      rights = authorities(principal.getRights());
+    }
+    return rule.get().allows(roles, rights) || (rule.get().allowForOwner() && isOwner(value));
+  }
+
+  private static Set<String> authorities(Collection<? extends GrantedAuthority> authorities) {
+    return authorities.stream().map(GrantedAuthority::getAuthority).collect(Collectors.toSet());
   }
 
   @SuppressWarnings("unchecked")
@@ -27,21 +27,20 @@ import de.frachtwerk.essencium.backend.service.AbstractUserService;
 import java.io.Serializable;
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.slf4j.Slf4j;
 import net.kaczmarzyk.spring.data.jpa.web.SpecificationArgumentResolver;
 import net.kaczmarzyk.spring.data.jpa.web.Utils;
+import net.kaczmarzyk.spring.data.jpa.web.Utils.Resolvers;
 import net.kaczmarzyk.spring.data.jpa.web.WebRequestProcessingContext;
+import org.springframework.beans.factory.config.EmbeddedValueResolver;
 import org.springframework.context.support.AbstractApplicationContext;
 import org.springframework.core.MethodParameter;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.ModelAndViewContainer;
@@ -55,17 +54,24 @@ public class AccessAwareSpecArgResolver<
     extends SpecificationArgumentResolver {
 
   private final AbstractUserService<USER, AUTHUSER, ID, USERDTO> userService;
-  private final AbstractApplicationContext applicationContext;
-  private final EssenciumJpaProperties essenciumJpaProperties;
+  private final Resolvers resolvers;
+  private final EmbeddedValueResolver embeddedValueResolver;
+  private final Map<MethodParameter, Optional<RestrictionPlan>> restrictionPlans =
+      new ConcurrentHashMap<>();
 
   public AccessAwareSpecArgResolver(
       final AbstractApplicationContext applicationContext,
       final AbstractUserService<USER, AUTHUSER, ID, USERDTO> userService,
       EssenciumJpaProperties essenciumJpaProperties) {
     super(applicationContext);
-    this.applicationContext = applicationContext;
     this.userService = userService;
-    this.essenciumJpaProperties = essenciumJpaProperties;
+    this.resolvers =
+        Utils.getResolvers(
+            null,
+            applicationContext,
+            essenciumJpaProperties.getIgnoreCaseStrategy(),
+            essenciumJpaProperties.getCharEscaper());
+    this.embeddedValueResolver = new EmbeddedValueResolver(applicationContext.getBeanFactory());
   }
 
   @Override
@@ -95,148 +101,30 @@ public class AccessAwareSpecArgResolver<
   public Object getRestrictionSpec(
       MethodParameter parameter, NativeWebRequest webRequest, List<Specification<Object>> baseList)
       throws Exception {
-    // annotation on the method whose parameter should be resolved
-    RestrictAccessToOwnedEntities restriction =
-        getAnnotation(parameter, RestrictAccessToOwnedEntities.class);
-
-    if (restriction != null) {
-      final AUTHUSER AUTHUSER = userService.getAUTHUSERFromPrincipal(webRequest.getUserPrincipal());
-      final Optional<RestrictAccessToOwnedEntities> r = Optional.of(restriction);
-      String[] rights = r.map(RestrictAccessToOwnedEntities::rights).orElse(new String[] {});
-      final String[] roles = r.map(RestrictAccessToOwnedEntities::roles).orElse(new String[] {});
-      // if user's role should have restricted access
-      if (isRestrictionApplyingToUser(rights, roles, AUTHUSER)) {
-        log.trace("Restriction applies to user.");
-        WebRequestProcessingContext context =
-            new WebRequestProcessingContext(parameter, webRequest);
-
-        SpecAnnotationFactory<AUTHUSER, ID> factory =
-            new SpecAnnotationFactory<>(
-                applicationContext, context, AUTHUSER, baseList, essenciumJpaProperties);
-
-        Level level = getLevel(parameter);
-        log.trace("Found annotations on level {}.", level);
-
-        OwnershipSpec spec = getAnnotation(parameter, OwnershipSpec.class, level);
-        if (spec != null) {
-          log.trace("Found {}.", OwnershipSpec.class.getSimpleName());
-          factory.addSpec(spec);
-        }
-        OwnershipSpec.And and = getAnnotation(parameter, OwnershipSpec.And.class, level);
-        if (and != null) {
-          log.trace("Found {}.", OwnershipSpec.And.class.getSimpleName());
-          factory.addSpec(and);
-        }
-        OwnershipSpec.Or or = getAnnotation(parameter, OwnershipSpec.Or.class, level);
-        if (or != null) {
-          log.trace("Found {}.", OwnershipSpec.Or.class.getSimpleName());
-          factory.addSpec(or);
-        }
-        OwnershipSpec.Disjunction dis =
-            getAnnotation(parameter, OwnershipSpec.Disjunction.class, level);
-        if (dis != null) {
-          log.trace("Found {}.", OwnershipSpec.Disjunction.class.getSimpleName());
-          factory.addSpec(dis);
-        }
-        OwnershipSpec.Conjunction con =
-            getAnnotation(parameter, OwnershipSpec.Conjunction.class, level);
-        if (con != null) {
-          log.trace("Found {}.", OwnershipSpec.Conjunction.class.getSimpleName());
-          factory.addSpec(con);
-        }
-
-        return accumulateSpecs(parameter, baseList);
-      }
-    }
-    return null;
-  }
-
-  enum Level {
-    PARAMETER,
-    CLASS,
-    ENTITY,
-    NONE
-  }
-
-  private <T extends Annotation> T getAnnotation(
-      MethodParameter parameter, Class<T> annotationClass) {
-    T annotation = parameter.getMethodAnnotation(annotationClass);
-    final Class<?> containingClass = parameter.getContainingClass();
-    if (annotation == null) {
-      annotation = containingClass.getAnnotation(annotationClass);
-    } else {
-      log.trace(
-          "Found {} on parameter {}.",
-          annotationClass.getSimpleName(),
-          parameter.getParameterName());
-    }
-    if (annotation == null) {
-      final ExposesEntity ann = containingClass.getAnnotation(ExposesEntity.class);
-      if (ann != null) {
-        annotation = ann.value().getAnnotation(annotationClass);
-        if (annotation != null) {
-          log.trace(
-              "Found {} on entity {}.",
-              annotationClass.getSimpleName(),
-              ann.value().getSimpleName());
-        }
-      }
-    } else {
-      log.trace(
-          "Found {} on class {}.",
-          annotationClass.getSimpleName(),
-          containingClass.getSimpleName());
+    Optional<RestrictionPlan> restriction =
+        restrictionPlans.computeIfAbsent(parameter, RestrictionPlan::resolve);
+    if (restriction.isEmpty()) {
+      return null;
     }
-    return annotation;
-  }
 
-  private <T extends Annotation> Level getLevel(MethodParameter parameter) {
-    final Set<Class<? extends Annotation>> anns =
-        Stream.of(
-                OwnershipSpec.class,
-                OwnershipSpec.And.class,
-                OwnershipSpec.Or.class,
-                OwnershipSpec.Disjunction.class,
-                OwnershipSpec.Conjunction.class)
-            .collect(Collectors.toSet());
-    if (anns.stream().map(parameter::getMethodAnnotation).anyMatch(Objects::nonNull)) {
-      return Level.PARAMETER;
-    }
-    final Class<?> containingClass = parameter.getContainingClass();
-    if (anns.stream().map(containingClass::getAnnotation).anyMatch(Objects::nonNull)) {
-      return Level.CLASS;
+    final AUTHUSER AUTHUSER = userService.getAUTHUSERFromPrincipal(webRequest.getUserPrincipal());
+    // if user's role should have restricted access
+    if (!restriction.get().appliesTo(AUTHUSER)) {
+      return null;
     }
-    final ExposesEntity ann = containingClass.getAnnotation(ExposesEntity.class);
-    if (ann != null && anns.stream().map(ann.value()::getAnnotation).anyMatch(Objects::nonNull)) {
-      return Level.ENTITY;
-    } else {
-      return Level.NONE;
+    log.trace("Restriction applies to user.");
+    SpecAnnotationFactory<AUTHUSER, ID> factory =
+        new SpecAnnotationFactory<>(
+            resolvers,
+            embeddedValueResolver,
+            new WebRequestProcessingContext(parameter, webRequest),
+            AUTHUSER,
+            baseList);
+    for (Annotation ownershipSpec : restriction.get().ownershipSpecs()) {
+      log.trace("Adding {}.", ownershipSpec.annotationType().getSimpleName());
+      factory.addSpec(ownershipSpec);
     }
-  }
-
-  private boolean isRestrictionApplyingToUser(
-      String[] rights, String[] roles, final AUTHUSER user) {
-    return Arrays.stream(roles)
-            .anyMatch(role -> user.getRoles().stream().anyMatch(r -> r.getAuthority().equals(role)))
-        || Stream.of(rights)
-            .anyMatch(
-                r ->
-                    user.getRights().stream()
-                        .map(GrantedAuthority::getAuthority)
-                        .anyMatch(r::equals));
-  }
-
-  private <T extends Annotation> T getAnnotation(
-      MethodParameter parameter, Class<T> annotationClass, Level level) {
-    return switch (level) {
-      case PARAMETER -> parameter.getMethodAnnotation(annotationClass);
-      case CLASS -> parameter.getContainingClass().getAnnotation(annotationClass);
-      case ENTITY ->
-          Optional.ofNullable(parameter.getContainingClass().getAnnotation(ExposesEntity.class))
-              .map(ann -> ann.value().getAnnotation(annotationClass))
-              .orElse(null);
-      default -> null;
-    };
+    return accumulateSpecs(parameter, baseList);
   }
 
   private Object accumulateSpecs(MethodParameter parameter, List<Specification<Object>> specs) {
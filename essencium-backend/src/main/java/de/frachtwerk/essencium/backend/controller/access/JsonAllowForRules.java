@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.controller.access;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import tools.jackson.databind.introspect.AnnotatedMember;
+import tools.jackson.databind.ser.PropertyWriter;
+
+/**
+ * Cache of the {@link JsonAllowFor} restrictions of serialized properties, resolved once per
+ * declaring class and property name. A single instance is meant to be shared by all {@link
+ * AccessAwareJsonFilter filters}, so the annotation lookup only happens for the first response
+ * containing a property.
+ */
+public class JsonAllowForRules {
+  private final Map<Key, Optional<Rule>> rules = new ConcurrentHashMap<>();
+
+  Optional<Rule> get(PropertyWriter writer) {
+    AnnotatedMember member = writer.getMember();
+    if (member == null) {
+      return Optional.empty();
+    }
+    return rules.computeIfAbsent(
+        new Key(member.getDeclaringClass(), writer.getName()),
+        key -> Optional.ofNullable(member.getAnnotation(JsonAllowFor.class)).map(Rule::of));
+  }
+
+  private record Key(Class<?> type, String property) {}
+
+  record Rule(Set<String> roles, Set<String> rights, boolean allowForOwner) {
+
+    static Rule of(JsonAllowFor annotation) {
+      return new Rule(
+          Set.copyOf(List.of(annotation.roles())),
+          Set.copyOf(List.of(annotation.rights())),
+          annotation.allowForOwner());
+    }
+
+    boolean allows(Set<String> principalRoles, Set<String> principalRights) {
+      return roles.stream().anyMatch(principalRoles::contains)
+          || rights.stream().anyMatch(principalRights::contains);
+    }
+  }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.controller.access;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import de.frachtwerk.essencium.backend.controller.advice.AccessAwareJsonViewAdvice;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.http.HttpEntity;
+import org.springframework.util.ClassUtils;
+
+/**
+ * The types annotated with {@link JsonFilter}, collected by a classpath scan on startup. {@link
+ * AccessAwareJsonViewAdvice} only attaches its {@link AccessAwareJsonFilter} to responses whose
+ * declared type may contain one of them, all other responses are written without filter provider.
+ *
+ * <p>A declared type may contain a filtered type if it is a super- or subtype of one, or if its
+ * element type, generic arguments or bean properties may contain one. Types only known at runtime
+ * ({@code Object}, unresolved type variables, interfaces) count as filtered as soon as one of their
+ * implementations is. A {@link JsonFilter} added through a Jackson mix-in is not detected.
+ */
+public class JsonFilteredTypes {
+  private final Set<Class<?>> types;
+
+  public JsonFilteredTypes(Collection<Class<?>> types) {
+    this.types = Set.copyOf(types);
+  }
+
+  public static JsonFilteredTypes scan(Collection<String> basePackages) {
+    ClassPathScanningCandidateComponentProvider scanner =
+        new ClassPathScanningCandidateComponentProvider(false) {
+          @Override
+          protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+            return beanDefinition.getMetadata().isIndependent();
+          }
+        };
+    scanner.addIncludeFilter(new AnnotationTypeFilter(JsonFilter.class));
+    Set<Class<?>> types = new HashSet<>();
+    for (String basePackage : basePackages) {
+      for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+        types.add(ClassUtils.resolveClassName(candidate.getBeanClassName(), null));
+      }
+    }
+    return new JsonFilteredTypes(types);
+  }
+
+  /**
+   * @param additionalTypes types filtered in addition, e.g. the targets of mix-ins adding a {@link
+   *     JsonFilter}
+   * @return the filtered types of this instance together with the additional ones
+   */
+  public JsonFilteredTypes with(Collection<Class<?>> additionalTypes) {
+    Set<Class<?>> combined = new HashSet<>(types);
+    combined.addAll(additionalTypes);
+    return new JsonFilteredTypes(combined);
+  }
+
+  public boolean mayContainFilteredType(ResolvableType type) {
+    return !types.isEmpty() && mayContainFilteredType(type, new HashSet<>());
+  }
+
+  private boolean mayContainFilteredType(ResolvableType type, Set<String> visited) {
+    Class<?> raw = type.resolve(Object.class);
+    if (types.stream().anyMatch(t -> raw.isAssignableFrom(t) || t.isAssignableFrom(raw))) {
+      return true;
+    }
+    if (raw.isArray()) {
+      return mayContainFilteredType(type.getComponentType(), visited);
+    }
+    if (HttpEntity.class.isAssignableFrom(raw)) {
+      return mayContainFilteredType(type.as(HttpEntity.class).getGeneric(), visited);
+    }
+    if (Optional.class == raw) {
+      return mayContainFilteredType(type.getGeneric(), visited);
+    }
+    if (Map.class.isAssignableFrom(raw)) {
+      return mayContainFilteredType(type.as(Map.class).getGeneric(1), visited);
+    }
+    if (Iterable.class.isAssignableFrom(raw)
+        && mayContainFilteredType(type.as(Iterable.class).getGeneric(), visited)) {
+      return true;
+    }
+    if (BeanUtils.isSimpleProperty(raw)
+        || raw.getName().startsWith("java.")
+        || !visited.add(type.toString())) {
+      return false;
+    }
+    for (PropertyDescriptor property : BeanUtils.getPropertyDescriptors(raw)) {
+      if (property.getReadMethod() != null
+          && mayContainFilteredType(
+              ResolvableType.forMethodParameter(
+                  new MethodParameter(property.getReadMethod(), -1), type),
+              visited)) {
+        return true;
+      }
+    }
+    for (Class<?> current = raw;
+        current != null && current != Object.class;
+        current = current.getSuperclass()) {
+      for (Field field : current.getDeclaredFields()) {
+        if (!Modifier.isStatic(field.getModifiers())
+            && mayContainFilteredType(ResolvableType.forField(field, type), visited)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+}
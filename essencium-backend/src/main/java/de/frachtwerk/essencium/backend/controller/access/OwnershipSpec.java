@@ -24,6 +24,7 @@ import static java.lang.annotation.ElementType.TYPE;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
 
 import de.frachtwerk.essencium.backend.controller.AbstractAccessAwareController;
+import de.frachtwerk.essencium.backend.repository.specification.ExistsEqual;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
@@ -71,7 +72,9 @@ public @interface OwnershipSpec {
   /**
    * The predicate operator checking the entity value against a user attribute or constant value.
    *
-   * <p>Per default the {@link Equal} operator is used.
+   * <p>Per default the {@link Equal} operator is used. Paths through to-many associations are
+   * better served by {@link ExistsEqual}, which checks the value in a correlated subquery and
+   * avoids duplicate rows.
    */
   Class<? extends Specification> spec() default Equal.class;
 
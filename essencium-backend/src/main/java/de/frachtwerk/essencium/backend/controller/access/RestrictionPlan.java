@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.controller.access;
+
+import de.frachtwerk.essencium.backend.model.dto.BaseEssenciumUserDetails;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * The ownership restriction of a handler method parameter, i.e. the {@link
+ * RestrictAccessToOwnedEntities} and {@link OwnershipSpec} annotations found on the handler method,
+ * the controller or the entity it {@link ExposesEntity exposes}. Resolved once per {@link
+ * MethodParameter} by {@link AccessAwareSpecArgResolver}, so that only the values of the calling
+ * user have to be bound per request.
+ *
+ * @param rights the rights the restriction applies to
+ * @param roles the roles the restriction applies to
+ * @param ownershipSpecs the ownership annotations of the first level declaring any, in the order
+ *     {@link OwnershipSpec}, {@link OwnershipSpec.And}, {@link OwnershipSpec.Or}, {@link
+ *     OwnershipSpec.Disjunction}, {@link OwnershipSpec.Conjunction}
+ */
+record RestrictionPlan(Set<String> rights, Set<String> roles, List<Annotation> ownershipSpecs) {
+
+  private static final List<Class<? extends Annotation>> OWNERSHIP_SPEC_TYPES =
+      List.of(
+          OwnershipSpec.class,
+          OwnershipSpec.And.class,
+          OwnershipSpec.Or.class,
+          OwnershipSpec.Disjunction.class,
+          OwnershipSpec.Conjunction.class);
+
+  /**
+   * @return the restriction of the parameter or an empty optional if it is not annotated with
+   *     {@link RestrictAccessToOwnedEntities} on any level
+   */
+  static Optional<RestrictionPlan> resolve(MethodParameter parameter) {
+    List<AnnotationLookup> levels = levels(parameter);
+    return levels.stream()
+        .map(level -> level.getAnnotation(RestrictAccessToOwnedEntities.class))
+        .filter(Objects::nonNull)
+        .findFirst()
+        .map(
+            restriction ->
+                new RestrictionPlan(
+                    Set.copyOf(Arrays.asList(restriction.rights())),
+                    Set.copyOf(Arrays.asList(restriction.roles())),
+                    ownershipSpecs(levels)));
+  }
+
+  boolean appliesTo(BaseEssenciumUserDetails<?> user) {
+    return user.getRoles().stream().map(GrantedAuthority::getAuthority).anyMatch(roles::contains)
+        || user.getRights().stream().map(GrantedAuthority::getAuthority).anyMatch(rights::contains);
+  }
+
+  /**
+   * The method level is looked up via {@link MethodParameter#getMethodAnnotation(Class)}, which
+   * for handler methods also finds the annotations of overridden methods.
+   */
+  private static List<AnnotationLookup> levels(MethodParameter parameter) {
+    List<AnnotationLookup> levels = new ArrayList<>(3);
+    levels.add(parameter::getMethodAnnotation);
+    Class<?> containingClass = parameter.getContainingClass();
+    levels.add(containingClass::getAnnotation);
+    ExposesEntity exposesEntity = containingClass.getAnnotation(ExposesEntity.class);
+    if (exposesEntity != null) {
+      levels.add(exposesEntity.value()::getAnnotation);
+    }
+    return levels;
+  }
+
+  private static List<Annotation> ownershipSpecs(List<AnnotationLookup> levels) {
+    for (AnnotationLookup level : levels) {
+      List<Annotation> ownershipSpecs =
+          OWNERSHIP_SPEC_TYPES.stream()
+              .<Annotation>map(level::getAnnotation)
+              .filter(Objects::nonNull)
+              .toList();
+      if (!ownershipSpecs.isEmpty()) {
+        return ownershipSpecs;
+      }
+    }
+    return List.of();
+  }
+
+  @FunctionalInterface
+  private interface AnnotationLookup {
+    <A extends Annotation> A getAnnotation(Class<A> annotationType);
+  }
+}
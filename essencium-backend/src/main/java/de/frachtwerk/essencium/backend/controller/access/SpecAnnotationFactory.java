@@ -50,21 +50,52 @@ public class SpecAnnotationFactory<
       AUTHUSER user,
       List<Specification<Object>> specs,
       EssenciumJpaProperties essenciumJpaProperties) {
-    this.specs = specs;
-    this.context = context;
-    this.resolvers =
+    this(
         Utils.getResolvers(
             null,
             applicationContext,
             essenciumJpaProperties.getIgnoreCaseStrategy(),
-            essenciumJpaProperties.getCharEscaper());
+            essenciumJpaProperties.getCharEscaper()),
+        new EmbeddedValueResolver(applicationContext.getBeanFactory()),
+        context,
+        user,
+        specs);
+  }
+
+  /**
+   * Creates a factory reusing request independent {@link Resolvers} and {@link
+   * EmbeddedValueResolver}.
+   */
+  public SpecAnnotationFactory(
+      Resolvers resolvers,
+      EmbeddedValueResolver embeddedValueResolver,
+      final WebRequestProcessingContext context,
+      AUTHUSER user,
+      List<Specification<Object>> specs) {
+    this.specs = specs;
+    this.context = context;
+    this.resolvers = resolvers;
     this.simpleSpecFactory =
-        new SimpleSpecFactory<>(
-            resolvers,
-            specs,
-            context,
-            user,
-            new EmbeddedValueResolver(applicationContext.getBeanFactory()));
+        new SimpleSpecFactory<>(resolvers, specs, context, user, embeddedValueResolver);
+  }
+
+  /**
+   * Adds the specification of one of the {@link OwnershipSpec} annotations.
+   *
+   * @throws IllegalArgumentException if the annotation is no ownership annotation
+   */
+  public void addSpec(final Annotation ownershipSpec)
+      throws NoSuchFieldException, IllegalAccessException {
+    switch (ownershipSpec) {
+      case OwnershipSpec spec -> addSpec(spec);
+      case OwnershipSpec.And and -> addSpec(and);
+      case OwnershipSpec.Or or -> addSpec(or);
+      case OwnershipSpec.Disjunction dis -> addSpec(dis);
+      case OwnershipSpec.Conjunction con -> addSpec(con);
+      default ->
+          throw new IllegalArgumentException(
+              "Unsupported ownership annotation " + ownershipSpec.annotationType());
+    }
   }
 
   public void addSpec(final OwnershipSpec ownershipSpec)
@@ -20,12 +20,17 @@
 package de.frachtwerk.essencium.backend.controller.advice;
 
 import de.frachtwerk.essencium.backend.controller.access.AccessAwareJsonFilter;
+import de.frachtwerk.essencium.backend.controller.access.JsonAllowForRules;
+import de.frachtwerk.essencium.backend.controller.access.JsonFilteredTypes;
 import de.frachtwerk.essencium.backend.model.dto.EssenciumUserDetails;
 import de.frachtwerk.essencium.backend.util.EssenciumUserUtil;
 import jakarta.annotation.Nonnull;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
 import org.jspecify.annotations.Nullable;
 import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
@@ -37,14 +42,25 @@ import tools.jackson.databind.ser.FilterProvider;
 import tools.jackson.databind.ser.std.SimpleFilterProvider;
 
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class AccessAwareJsonViewAdvice implements ResponseBodyAdvice<Object> {
   public static final String FILTER_NAME = "roleBasedFilter";
 
+  private final JsonFilteredTypes jsonFilteredTypes;
+  private final JsonAllowForRules jsonAllowForRules = new JsonAllowForRules();
+  // responses without @JsonFilter types are written without filter provider
+  private final Map<MethodParameter, Boolean> filteredReturnTypes = new ConcurrentHashMap<>();
+
   @Override
   public boolean supports(
       @Nonnull MethodParameter returnType,
       @Nonnull Class<? extends HttpMessageConverter<?>> converterType) {
-    return JacksonJsonHttpMessageConverter.class.isAssignableFrom(converterType);
+    return JacksonJsonHttpMessageConverter.class.isAssignableFrom(converterType)
+        && filteredReturnTypes.computeIfAbsent(returnType, this::mayContainFilteredType);
+  }
+
+  private boolean mayContainFilteredType(MethodParameter returnType) {
+    return jsonFilteredTypes.mayContainFilteredType(ResolvableType.forMethodParameter(returnType));
   }
 
   @Override
@@ -68,20 +84,32 @@ public class AccessAwareJsonViewAdvice implements ResponseBodyAdvice<Object> {
       return null;
     }
 
-    EssenciumUserDetails<?> principal = currentPrincipal();
-    if (principal == null || principal.getRoles() == null) {
+    FilterProvider filters = currentFilters();
+    if (filters == null) {
       return null;
     }
 
-    FilterProvider filters =
-        new SimpleFilterProvider()
-            .addFilter(FILTER_NAME, new AccessAwareJsonFilter<>(principal))
-            .setFailOnUnknownId(false);
-
     // Spring 7/Jackson 3 expects hints keyed by FilterProvider class name.
     return Map.of(FilterProvider.class.getName(), filters);
   }
 
+  /**
+   * Returns the filters restricting the serialization of {@code @JsonAllowFor} properties for the
+   * current principal, for responses that are written without message converter.
+   *
+   * @return the filters or {@code null} if nobody is authenticated
+   */
+  public @Nullable FilterProvider currentFilters() {
+    EssenciumUserDetails<?> principal = currentPrincipal();
+    if (principal == null || principal.getRoles() == null) {
+      return null;
+    }
+
+    return new SimpleFilterProvider()
+        .addFilter(FILTER_NAME, new AccessAwareJsonFilter<>(principal, jsonAllowForRules))
+        .setFailOnUnknownId(false);
+  }
+
   private EssenciumUserDetails<?> currentPrincipal() {
     return EssenciumUserUtil.getUserDetailsFromAuthentication().orElse(null);
   }
@@ -47,6 +47,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
 import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.proxy.HibernateProxy;
 import org.springframework.security.core.GrantedAuthority;
@@ -68,6 +70,13 @@ public abstract class AbstractBaseUser<ID extends Serializable> extends Abstract
 
   public static final String USER_ROLE_ATTRIBUTE = "roles";
 
+  /**
+   * Second-level cache region of {@link #roles}, shared by all concrete user entities since the
+   * default region name would depend on the subclass.
+   */
+  public static final String ROLES_CACHE_REGION =
+      "de.frachtwerk.essencium.backend.model.AbstractBaseUser.roles";
+
   @Builder.Default private boolean enabled = true;
 
   @NotEmpty
@@ -89,6 +98,7 @@ public abstract class AbstractBaseUser<ID extends Serializable> extends Abstract
   @NotNull
   @ManyToMany(fetch = FetchType.EAGER)
   @BatchSize(size = 20)
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ROLES_CACHE_REGION)
   @Builder.Default
   private Set<Role> roles = new HashSet<>();
 
@@ -40,6 +40,8 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
@@ -69,6 +71,7 @@ public class ApiToken extends UUIDModel implements UserDetails {
 
   @ManyToMany(fetch = FetchType.EAGER)
   @BatchSize(size = 20)
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
   @Builder.Default
   private Set<Right> rights = new HashSet<>();
 
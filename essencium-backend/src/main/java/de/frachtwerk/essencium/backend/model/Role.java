@@ -21,6 +21,7 @@ package de.frachtwerk.essencium.backend.model;
 
 import com.fasterxml.jackson.annotation.JsonGetter;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
@@ -36,10 +37,14 @@ import lombok.NoArgsConstructor;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.security.core.GrantedAuthority;
 
 @Data
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @ToString
 @SuperBuilder(toBuilder = true)
 @NoArgsConstructor
@@ -58,6 +63,7 @@ public class Role implements GrantedAuthority, TitleConvention<String> {
 
   @ManyToMany(fetch = FetchType.EAGER)
   @BatchSize(size = 20)
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
   @Builder.Default
   private Set<Right> rights = new HashSet<>();
 
@@ -38,11 +38,18 @@ import lombok.experimental.SuperBuilder;
 @MappedSuperclass
 public abstract class SequenceIdModel extends AbstractBaseModel<Long> {
 
+  /**
+   * Number of ids allocated per round trip to {@code hibernate_sequence}, which allows inserts to
+   * be sent in JDBC batches. The {@code INCREMENT BY} of the database sequence has to match, unless
+   * {@code essencium.jpa.sequence-increment-mismatch-strategy} adapts the allocation size to it.
+   */
+  public static final int SEQUENCE_ALLOCATION_SIZE = 50;
+
   @Id
   @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "hibernate_sequence")
   @SequenceGenerator(
       name = "hibernate_sequence",
       sequenceName = "hibernate_sequence",
-      allocationSize = 1)
+      allocationSize = SEQUENCE_ALLOCATION_SIZE)
   private Long id;
 }
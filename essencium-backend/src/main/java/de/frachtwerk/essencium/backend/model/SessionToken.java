@@ -20,6 +20,7 @@
 package de.frachtwerk.essencium.backend.model;
 
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -29,7 +30,6 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.validation.constraints.NotNull;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
@@ -76,11 +76,11 @@ public class SessionToken {
   @ToString.Exclude
   private List<SessionToken> accessTokens = new ArrayList<>();
 
-  public Date getLastUsed() {
-    if (accessTokens.isEmpty()) return null;
-    return accessTokens.stream()
-        .max(Comparator.comparing(SessionToken::getIssuedAt))
-        .get()
-        .getIssuedAt();
-  }
+  /**
+   * Time the last access token of this refresh token was issued, maintained by {@code
+   * JwtTokenService} so listing sessions doesn't require loading their access tokens. It lags
+   * behind by up to {@code app.auth.jwt.last-used-update-interval}.
+   */
+  @Column(name = "last_used_at")
+  private Date lastUsed;
 }
@@ -0,0 +1,35 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.model.representation;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * Outcome of a bulk request for a single entity.
+ *
+ * @param id the id of the entity
+ * @param status the HTTP status the request for this entity alone would have been answered with
+ * @param result the representation of the updated entity, {@code null} if there is none
+ * @param error the reason why the entity could not be processed, {@code null} on success
+ * @param <ID> the id type of the entity
+ * @param <T> the representation type
+ */
+public record BulkItemResult<ID, T>(
+    ID id, int status, @Nullable T result, @Nullable String error) {}
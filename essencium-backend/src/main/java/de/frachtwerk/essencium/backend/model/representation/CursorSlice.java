@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.model.representation;
+
+import de.frachtwerk.essencium.backend.util.KeysetCursorUtils;
+import jakarta.annotation.Nullable;
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.data.domain.Window;
+
+/**
+ * A slice of entities fetched by keyset pagination. In contrast to a {@link
+ * org.springframework.data.domain.Page} it does not contain the total number of elements, which
+ * would require counting all matching rows.
+ *
+ * @param content the elements of this slice
+ * @param hasNext whether there are further elements after this slice
+ * @param nextCursor the opaque cursor to pass for fetching the next slice, {@code null} if there
+ *     are no further elements
+ * @param <T> the element type
+ */
+public record CursorSlice<T>(List<T> content, boolean hasNext, @Nullable String nextCursor) {
+
+  public static <T> CursorSlice<T> from(Window<T> window) {
+    String nextCursor =
+        window.hasNext() && !window.isEmpty()
+            ? KeysetCursorUtils.encode(window.positionAt(window.size() - 1))
+            : null;
+    return new CursorSlice<>(window.getContent(), window.hasNext(), nextCursor);
+  }
+
+  public <U> CursorSlice<U> map(Function<? super T, ? extends U> converter) {
+    return new CursorSlice<>(content.stream().<U>map(converter).toList(), hasNext, nextCursor);
+  }
+}
@@ -21,6 +21,7 @@ package de.frachtwerk.essencium.backend.model.representation;
 
 import de.frachtwerk.essencium.backend.model.SessionToken;
 import de.frachtwerk.essencium.backend.model.SessionTokenType;
+import jakarta.annotation.Nullable;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
@@ -64,12 +65,16 @@ public class TokenRepresentation {
         .issuedAt(entity.getIssuedAt())
         .expiration(entity.getExpiration())
         .userAgent(entity.getUserAgent())
-        .lastUsed(
-            Optional.ofNullable(entity.getLastUsed())
-                .map(Date::toInstant)
-                .map(instant -> instant.atZone(ZoneOffset.UTC))
-                .map(ZonedDateTime::toLocalDateTime)
-                .orElse(null))
+        .lastUsed(toUtcDateTime(entity.getLastUsed()))
         .build();
   }
+
+  @Nullable
+  public static LocalDateTime toUtcDateTime(@Nullable Date date) {
+    return Optional.ofNullable(date)
+        .map(Date::toInstant)
+        .map(instant -> instant.atZone(ZoneOffset.UTC))
+        .map(ZonedDateTime::toLocalDateTime)
+        .orElse(null);
+  }
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.model.representation;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * A {@link Page} whose elements have not been counted. It only knows whether there are further
+ * elements, like a {@link org.springframework.data.domain.Slice}, but can be returned wherever a
+ * page is expected. {@link #getTotalElements()} is a lower bound and the totals are omitted when
+ * serialized.
+ *
+ * @param <T> the element type
+ */
+@JsonIgnoreProperties({"totalElements", "totalPages"})
+public class UncountedPage<T> extends PageImpl<T> {
+
+  private final boolean hasNext;
+
+  public UncountedPage(List<T> content, Pageable pageable, boolean hasNext) {
+    super(content, pageable, pageable.getOffset() + content.size() + (hasNext ? 1 : 0));
+    this.hasNext = hasNext;
+  }
+
+  @Override
+  public boolean hasNext() {
+    return hasNext;
+  }
+
+  @Override
+  public <U> Page<U> map(Function<? super T, ? extends U> converter) {
+    return new UncountedPage<>(getConvertedContent(converter), getPageable(), hasNext);
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.model.representation.assembler;
+
+import de.frachtwerk.essencium.backend.model.AbstractBaseModel;
+import java.util.List;
+import lombok.NonNull;
+
+/**
+ * Assembler that can build representations from a projection of the entity as well. List
+ * endpoints then only fetch the properties declared by the projection instead of full entities.
+ *
+ * <p>The projection is either a record or an interface whose components respectively getters are
+ * named like the attributes of the entity. Collection valued attributes are fetched for the whole
+ * page with one additional query each; declaring them with the id type of the associated entity,
+ * e.g. {@code Set<String> roles}, selects only the ids instead of loading the associated entities.
+ *
+ * @param <M> the entity
+ * @param <P> the projection of the entity
+ * @param <OUT> the representation
+ */
+public abstract class AbstractProjectionAssembler<M extends AbstractBaseModel, P, OUT>
+    extends AbstractRepresentationAssembler<M, OUT> {
+
+  public abstract @NonNull Class<P> getProjectionType();
+
+  public abstract @NonNull OUT fromProjection(@NonNull P projection);
+
+  /**
+   * Builds the representations of a page of projections. Override to resolve references of all
+   * projections at once, e.g. roles projected by their names.
+   *
+   * @param projections the projections of the page
+   * @return the representations in the order of the projections
+   */
+  public @NonNull List<OUT> fromProjections(@NonNull List<P> projections) {
+    return projections.stream().map(this::fromProjection).toList();
+  }
+}
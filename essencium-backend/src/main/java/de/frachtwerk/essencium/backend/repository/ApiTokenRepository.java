@@ -22,6 +22,7 @@ package de.frachtwerk.essencium.backend.repository;
 import de.frachtwerk.essencium.backend.model.ApiToken;
 import de.frachtwerk.essencium.backend.model.ApiTokenStatus;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.Modifying;
@@ -33,12 +34,20 @@ import org.springframework.transaction.annotation.Transactional;
 public interface ApiTokenRepository extends BaseRepository<ApiToken, UUID> {
   List<ApiToken> findAllByLinkedUser(String linkedUser);
 
+  List<ApiToken> findAllByLinkedUserIn(Collection<String> linkedUsers);
+
   @Transactional
   @Modifying
   @Query(
       "update ApiToken at set at.status = :status, at.validUntil = :validUntil where at.id = :id")
   void setStatusAndExpirationById(ApiTokenStatus status, LocalDate validUntil, UUID id);
 
+  @Transactional
+  @Modifying
+  @Query(
+      "update ApiToken at set at.status = :status, at.validUntil = :validUntil where at.id in :ids")
+  void setStatusAndExpirationByIds(ApiTokenStatus status, LocalDate validUntil, List<UUID> ids);
+
   @Transactional(readOnly = true)
   List<ApiToken> findAllByStatusAndValidUntilBefore(ApiTokenStatus status, LocalDate validUntil);
 
@@ -36,6 +36,12 @@ import org.springframework.transaction.annotation.Transactional;
 public interface BaseUserRepository<USER extends AbstractBaseUser<ID>, ID extends Serializable>
     extends BaseRepository<USER, ID> {
 
+  /**
+   * Case-insensitive lookup by e-mail address. The predicate compares {@code lower(email)}, so it
+   * is backed by a functional index on {@code lower(email)} (see {@code MIGRATION.md}); a derived
+   * {@code IgnoreCase} query would compare {@code upper(email)} and scan the whole table.
+   */
+  @Query("SELECT u FROM #{#entityName} u WHERE lower(u.email) = lower(?1)")
   Optional<USER> findByEmailIgnoreCase(@NotNull String email);
 
   Optional<USER> findByPasswordResetToken(@NotNull String passwordResetToken);
@@ -48,14 +54,14 @@ public interface BaseUserRepository<USER extends AbstractBaseUser<ID>, ID extend
   @Transactional
   @Modifying
   @Query(
-      "UPDATE #{#entityName} u SET u.failedLoginAttempts = u.failedLoginAttempts + 1 WHERE lower(u.email) = lower(?1) AND u.loginDisabled = false")
-  void incrementFailedLoginAttempts(String username);
+      "UPDATE #{#entityName} u SET u.loginDisabled = true, u.failedLoginAttempts = ?2 WHERE lower(u.email) = lower(?1) AND u.loginDisabled = false")
+  int disableLogin(String username, int failedLoginAttempts);
 
   @Transactional
   @Modifying
   @Query(
-      "UPDATE #{#entityName} u SET u.loginDisabled = true WHERE lower(u.email) = lower(?1) AND u.failedLoginAttempts >= ?2")
-  void disableUsersByFailedLoginAttempts(String username, int amount);
+      "UPDATE #{#entityName} u SET u.failedLoginAttempts = 0, u.loginDisabled = false WHERE lower(u.email) = lower(?1) AND (u.failedLoginAttempts <> 0 OR u.loginDisabled = true)")
+  int resetFailedLoginAttempts(String username);
 
   @Query("SELECT u FROM #{#entityName} u INNER JOIN u.roles role WHERE :roleName = role.name")
   List<USER> findByRoleName(String roleName);
@@ -23,6 +23,7 @@ import de.frachtwerk.essencium.backend.model.SessionToken;
 import de.frachtwerk.essencium.backend.model.SessionTokenType;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
@@ -45,6 +46,19 @@ public interface SessionTokenRepository
 
   List<SessionToken> findAllByParentToken(SessionToken parentToken);
 
+  /**
+   * Records the last use of a refresh token unless a use after {@code threshold} is recorded
+   * already, without loading the token.
+   *
+   * @return the number of updated tokens, {@code 0} if the recorded use is recent enough
+   */
+  @Modifying
+  @Transactional
+  @Query(
+      "update SessionToken t set t.lastUsed = :lastUsed where t.id = :id"
+          + " and (t.lastUsed is null or t.lastUsed < :threshold)")
+  int updateLastUsed(@NotNull UUID id, @NotNull Date lastUsed, @NotNull Date threshold);
+
   @Modifying
   @Transactional
   @Query("DELETE FROM SessionToken t WHERE t.expiration < ?1")
@@ -60,4 +74,10 @@ public interface SessionTokenRepository
   @Transactional
   @Query("delete from SessionToken t where LOWER(t.username) in :usernames")
   void deleteAllByUsernameEqualsIgnoreCase(@NotEmpty List<String> usernames);
+
+  @Modifying
+  @Transactional
+  @Query("delete from SessionToken t where LOWER(t.username) in :usernames and t.type = :type")
+  void deleteAllByUsernameInIgnoreCaseAndType(
+      @NotEmpty Collection<String> usernames, @NotNull SessionTokenType type);
 }
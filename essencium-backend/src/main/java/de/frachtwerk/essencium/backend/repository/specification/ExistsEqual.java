@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.repository.specification;
+
+import de.frachtwerk.essencium.backend.model.exception.InvalidInputException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import java.io.Serial;
+import java.util.Objects;
+import net.kaczmarzyk.spring.data.jpa.domain.PathSpecification;
+import net.kaczmarzyk.spring.data.jpa.utils.Converter;
+import net.kaczmarzyk.spring.data.jpa.utils.QueryContext;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Equality check like {@link net.kaczmarzyk.spring.data.jpa.domain.Equal}, but the associations on
+ * the path are joined inside a correlated {@code EXISTS} subquery instead of the main query.
+ *
+ * <p>Meant for ownership criteria that reach the owner through a to-many association, e.g.
+ * {@code @OwnershipSpec(path = "members.id", spec = ExistsEqual.class)}. Joining such an
+ * association in the main query multiplies the rows of every entity and forces a {@code DISTINCT}
+ * on list, count and exists queries, while the subquery keeps one row per entity and can be
+ * answered from an index on the join table. Aliases of {@link
+ * net.kaczmarzyk.spring.data.jpa.web.annotation.Join @Join} are not resolved, the path has to start
+ * at the root entity.
+ */
+public class ExistsEqual<T> extends PathSpecification<T> {
+  @Serial private static final long serialVersionUID = 1L;
+  private final String expectedValue;
+  private final transient Converter converter;
+
+  public ExistsEqual(
+      QueryContext queryContext, String path, String[] httpParamValues, Converter converter) {
+    super(queryContext, path);
+    if (httpParamValues == null || httpParamValues.length != 1) {
+      throw new InvalidInputException();
+    }
+    this.expectedValue = httpParamValues[0];
+    this.converter = converter;
+  }
+
+  @Override
+  public Predicate toPredicate(
+      @NonNull Root<T> root,
+      @NonNull CriteriaQuery<?> query,
+      @NonNull CriteriaBuilder criteriaBuilder) {
+    Subquery<Integer> subquery = query.subquery(Integer.class);
+    From<?, ?> from = subquery.correlate(root);
+    String[] elements = this.path.split("\\.");
+    for (int i = 0; i < elements.length - 1; i++) {
+      from = from.join(elements[i]);
+    }
+    Path<?> value = from.get(elements[elements.length - 1]);
+    Object converted =
+        converter == null ? expectedValue : converter.convert(expectedValue, value.getJavaType());
+    subquery.select(criteriaBuilder.literal(1)).where(criteriaBuilder.equal(value, converted));
+    return criteriaBuilder.exists(subquery);
+  }
+
+  @Override
+  public int hashCode() {
+    final int prime = 31;
+    int result = super.hashCode();
+    result = prime * result + ((expectedValue == null) ? 0 : expectedValue.hashCode());
+    return result;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    if (!super.equals(o)) {
+      return false;
+    }
+    ExistsEqual<?> equal = (ExistsEqual<?>) o;
+    return Objects.equals(expectedValue, equal.expectedValue);
+  }
+
+  @Override
+  public String toString() {
+    return "ExistsEqual [expectedValue=" + expectedValue + ", path=" + super.path + "]";
+  }
+}
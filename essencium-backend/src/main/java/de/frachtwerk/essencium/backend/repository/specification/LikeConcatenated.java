@@ -22,24 +22,30 @@ package de.frachtwerk.essencium.backend.repository.specification;
 import de.frachtwerk.essencium.backend.model.exception.InvalidInputException;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
-import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import jakarta.validation.constraints.NotNull;
 import java.io.Serial;
 import java.util.Arrays;
-import java.util.Locale;
+import java.util.List;
 import lombok.NonNull;
 import net.kaczmarzyk.spring.data.jpa.utils.Converter;
 import net.kaczmarzyk.spring.data.jpa.utils.QueryContext;
-import org.apache.commons.lang3.ArrayUtils;
 import org.springframework.data.jpa.domain.Specification;
 
 public class LikeConcatenated<T> implements Specification<T> {
 
   @Serial private static final long serialVersionUID = 1L;
 
+  private static final ClassValue<List<SearchColumnSearchBackend>> SEARCH_COLUMNS =
+      new ClassValue<>() {
+        @Override
+        protected List<SearchColumnSearchBackend> computeValue(Class<?> entityType) {
+          return SearchColumnSearchBackend.forEntity(entityType);
+        }
+      };
+
   private final String[] allowedValues;
   private final Converter converter;
   private final String path;
@@ -61,42 +67,26 @@ public class LikeConcatenated<T> implements Specification<T> {
       @NonNull @NotNull Root<T> root,
       @NonNull @NotNull CriteriaQuery<?> query,
       @NotNull CriteriaBuilder cb) {
-    String[] pathElements = this.path.split(",");
-
-    String[] reversedPathElements = Arrays.copyOf(pathElements, pathElements.length);
-    String[] reversedAllowedValues = Arrays.copyOf(allowedValues, allowedValues.length);
-
-    ArrayUtils.reverse(reversedPathElements);
-    ArrayUtils.reverse(reversedAllowedValues);
-
-    Expression<String> concatPath = createConcatenatedPathExpression(root, cb, pathElements);
-    Expression<String> reversedConcatPath =
-        createConcatenatedPathExpression(root, cb, reversedPathElements);
-
-    String concatAllowedValues = String.join(" ", allowedValues).toLowerCase(Locale.ROOT);
-    String reversedConcatAllowedValues =
-        String.join(" ", reversedAllowedValues).toLowerCase(Locale.ROOT);
-
-    return cb.or(
-        cb.or(
-            cb.like(cb.lower(concatPath), "%" + concatAllowedValues + "%"),
-            cb.like(cb.lower(reversedConcatPath), "%" + concatAllowedValues + "%")),
-        cb.or(
-            cb.like(cb.lower(concatPath), "%" + reversedConcatAllowedValues + "%"),
-            cb.like(cb.lower(reversedConcatPath), "%" + reversedConcatAllowedValues + "%")));
+    List<String> elements = List.of(this.path.split(","));
+    List<Path<String>> paths =
+        elements.stream().map(element -> this.<String>path(root, element)).toList();
+    return searchBackend(root.getJavaType(), elements)
+        .toPredicate(root, cb, paths, List.of(allowedValues));
   }
 
-  private Expression<String> createConcatenatedPathExpression(
-      @NotNull Root<T> root, CriteriaBuilder cb, String[] pathElements) {
-    Expression<String> exp = this.path(root, pathElements[0]);
-    String[] pathElementsTail = Arrays.copyOfRange(pathElements, 1, pathElements.length);
-
-    for (String element : pathElementsTail) {
-      Path<String> path = this.path(root, element);
-      exp = cb.concat(exp, " ");
-      exp = cb.concat(exp, path);
-    }
-    return exp;
+  /**
+   * @param entityType the searched entity
+   * @param paths the paths configured for the search
+   * @return the backend evaluating the search: a {@link SearchColumnSearchBackend} if the entity
+   *     declares a {@link SearchColumn} holding these paths, a {@link LikeSearchBackend} otherwise.
+   *     Override to plug in a custom {@link SearchBackend}.
+   */
+  protected SearchBackend searchBackend(Class<? extends T> entityType, List<String> paths) {
+    return SEARCH_COLUMNS.get(entityType).stream()
+        .filter(searchColumn -> searchColumn.covers(paths))
+        .findFirst()
+        .map(SearchBackend.class::cast)
+        .orElse(LikeSearchBackend.INSTANCE);
   }
 
   @SuppressWarnings("unchecked")
@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.repository.specification;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Matches the lower-cased concatenation of the paths, in forward and reversed order, against the
+ * terms with {@code LIKE '%…%'}. Works on every database, but can not be served by an index.
+ */
+public class LikeSearchBackend implements SearchBackend {
+
+  public static final LikeSearchBackend INSTANCE = new LikeSearchBackend();
+
+  @Override
+  public Predicate toPredicate(
+      Root<?> root, CriteriaBuilder cb, List<Path<String>> paths, List<String> terms) {
+    Expression<String> concatPath = cb.lower(concat(cb, paths));
+    Expression<String> reversedConcatPath = cb.lower(concat(cb, paths.reversed()));
+
+    String concatTerms = "%" + String.join(" ", terms).toLowerCase(Locale.ROOT) + "%";
+    String reversedConcatTerms =
+        "%" + String.join(" ", terms.reversed()).toLowerCase(Locale.ROOT) + "%";
+
+    return cb.or(
+        cb.or(cb.like(concatPath, concatTerms), cb.like(reversedConcatPath, concatTerms)),
+        cb.or(
+            cb.like(concatPath, reversedConcatTerms),
+            cb.like(reversedConcatPath, reversedConcatTerms)));
+  }
+
+  private static Expression<String> concat(CriteriaBuilder cb, List<Path<String>> paths) {
+    Expression<String> exp = paths.getFirst();
+    for (Path<String> path : paths.subList(1, paths.size())) {
+      exp = cb.concat(exp, " ");
+      exp = cb.concat(exp, path);
+    }
+    return exp;
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.repository.specification;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.List;
+
+/**
+ * Evaluates a {@link LikeConcatenated} search, i.e. matches the entities whose concatenated {@code
+ * paths} contain the search terms, in forward or reversed order. {@link LikeConcatenated} uses a
+ * {@link SearchColumnSearchBackend} if the entity declares a {@link SearchColumn} holding the
+ * searched paths and a {@link LikeSearchBackend} otherwise. Other backends, e.g. backed by an
+ * external full-text index, can be plugged in by overriding {@link
+ * LikeConcatenated#searchBackend(Class, List)}.
+ */
+@FunctionalInterface
+public interface SearchBackend {
+
+  /**
+   * @param root root of the query
+   * @param cb criteria builder of the query
+   * @param paths the paths configured for the search, in the configured order
+   * @param terms the search terms as given in the request, never empty
+   * @return the search predicate
+   */
+  Predicate toPredicate(
+      Root<?> root, CriteriaBuilder cb, List<Path<String>> paths, List<String> terms);
+}
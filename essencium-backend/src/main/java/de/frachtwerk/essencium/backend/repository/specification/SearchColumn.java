@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.repository.specification;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an attribute that {@link LikeConcatenated} searches instead of concatenating the {@link
+ * #paths()} on every query (see {@link SearchColumnSearchBackend}). Searches over other paths keep
+ * using the {@link LikeSearchBackend}.
+ *
+ * <p>The attribute has to hold the lower-cased, space separated values of the paths and must not
+ * be written by the application, e.g. a generated column or a {@code @Formula}. On PostgreSQL, a
+ * trigram index on the column or the formula expression lets the search use an index:
+ *
+ * <pre>{@code
+ * @SearchColumn(paths = "firstName,lastName")
+ * @Formula("lower(first_name || ' ' || last_name)")
+ * private String searchText;
+ *
+ * CREATE EXTENSION IF NOT EXISTS pg_trgm;
+ * CREATE INDEX "FW_USER_search_text_idx" ON "FW_USER"
+ *     USING gin (lower(first_name || ' ' || last_name) gin_trgm_ops);
+ * }</pre>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface SearchColumn {
+
+  /**
+   * The comma separated paths whose values the attribute holds, as configured as {@code path} of
+   * the {@code @Spec} using {@link LikeConcatenated}, in any order.
+   */
+  String paths();
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.repository.specification;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Requires every term to occur in a {@link SearchColumn} of the entity ({@code search LIKE
+ * '%term1%' AND search LIKE '%term2%'}), regardless of the order of the terms. Unlike {@link
+ * LikeSearchBackend} this can be served by a PostgreSQL trigram index ({@code pg_trgm}) on the
+ * search column. The backend is only used for searches over the {@link SearchColumn#paths() paths}
+ * the column holds.
+ */
+@Getter
+@RequiredArgsConstructor
+public class SearchColumnSearchBackend implements SearchBackend {
+
+  /** Name of the attribute annotated with {@link SearchColumn}. */
+  private final String attribute;
+
+  /** The paths whose values the attribute holds. */
+  private final Set<String> paths;
+
+  /**
+   * @return a backend for every field annotated with {@link SearchColumn} declared by the entity or
+   *     one of its super classes
+   */
+  public static List<SearchColumnSearchBackend> forEntity(Class<?> entityType) {
+    List<SearchColumnSearchBackend> backends = new ArrayList<>();
+    for (Class<?> type = entityType; type != null; type = type.getSuperclass()) {
+      for (Field field : type.getDeclaredFields()) {
+        SearchColumn searchColumn = field.getAnnotation(SearchColumn.class);
+        if (searchColumn != null) {
+          backends.add(
+              new SearchColumnSearchBackend(
+                  field.getName(),
+                  Arrays.stream(searchColumn.paths().split(","))
+                      .map(String::trim)
+                      .collect(Collectors.toUnmodifiableSet())));
+        }
+      }
+    }
+    return List.copyOf(backends);
+  }
+
+  /**
+   * @param searchedPaths the paths configured for a search
+   * @return whether the column holds exactly the values of the searched paths
+   */
+  public boolean covers(List<String> searchedPaths) {
+    return paths.equals(Set.copyOf(searchedPaths));
+  }
+
+  @Override
+  public Predicate toPredicate(
+      Root<?> root, CriteriaBuilder cb, List<Path<String>> paths, List<String> terms) {
+    Expression<String> searchColumn = root.get(attribute);
+    return cb.and(
+        terms.stream()
+            .map(term -> cb.like(searchColumn, "%" + term.toLowerCase(Locale.ROOT) + "%"))
+            .toArray(Predicate[]::new));
+  }
+}
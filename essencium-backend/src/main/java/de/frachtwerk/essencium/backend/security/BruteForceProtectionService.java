@@ -22,34 +22,90 @@ package de.frachtwerk.essencium.backend.security;
 import de.frachtwerk.essencium.backend.configuration.properties.security.AppSecurityProperties;
 import de.frachtwerk.essencium.backend.model.AbstractBaseUser;
 import de.frachtwerk.essencium.backend.repository.BaseUserRepository;
+import jakarta.annotation.Nullable;
 import java.io.Serializable;
+import java.util.Locale;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 
+/**
+ * Counts failed login attempts per account and per remote address in a {@link
+ * LoginFailureCounter}. The user table is only written once an account reaches {@link
+ * AppSecurityProperties#getMaxFailedLogins()} failures and gets locked, so repeated failures do not
+ * turn into database load.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class BruteForceProtectionService<
     USER extends AbstractBaseUser<ID>, ID extends Serializable> {
 
+  private static final String USERNAME_KEY_PREFIX = "username:";
+  private static final String REMOTE_ADDRESS_KEY_PREFIX = "remote-address:";
+
   private final AppSecurityProperties appSecurityProperties;
   private final BaseUserRepository<USER, ID> userRepository;
+  private final LoginFailureCounter loginFailureCounter;
 
   public void registerLoginFailure(String username) {
-    userRepository.incrementFailedLoginAttempts(username);
-    userRepository.disableUsersByFailedLoginAttempts(
-        username, appSecurityProperties.getMaxFailedLogins());
+    registerLoginFailure(username, null);
+  }
+
+  public void registerLoginFailure(String username, @Nullable String remoteAddress) {
+    // only counted if per-address throttling is enabled, nothing would read the counters otherwise
+    if (appSecurityProperties.getMaxFailedLoginsPerIp() > 0 && Objects.nonNull(remoteAddress)) {
+      loginFailureCounter.increment(REMOTE_ADDRESS_KEY_PREFIX + remoteAddress);
+    }
+    if (Objects.isNull(username)) {
+      return;
+    }
+    String key = usernameKey(username);
+    long failures = loginFailureCounter.increment(key);
+    if (failures >= appSecurityProperties.getMaxFailedLogins()) {
+      // the account stays locked until it is unlocked explicitly, start counting anew afterwards
+      loginFailureCounter.reset(key);
+      if (userRepository.disableLogin(username, Math.toIntExact(failures)) > 0) {
+        log.warn("Login for user {} disabled after {} failed attempts", username, failures);
+      }
+    }
+  }
+
+  /**
+   * @param remoteAddress the remote address a login attempt originates from
+   * @return {@code true} if too many login attempts from this address failed recently
+   */
+  public boolean isThrottled(@Nullable String remoteAddress) {
+    int maxFailedLoginsPerIp = appSecurityProperties.getMaxFailedLoginsPerIp();
+    return maxFailedLoginsPerIp > 0
+        && Objects.nonNull(remoteAddress)
+        && loginFailureCounter.count(REMOTE_ADDRESS_KEY_PREFIX + remoteAddress)
+            >= maxFailedLoginsPerIp;
   }
 
   public void resetBruteForceCounter(String username) {
-    userRepository
-        .findByEmailIgnoreCase(username)
-        .ifPresent(
-            user -> {
-              if (user.getFailedLoginAttempts() != 0 || user.isLoginDisabled()) {
-                user.setFailedLoginAttempts(0);
-                user.setLoginDisabled(false);
-                userRepository.save(user);
-              }
-            });
+    loginFailureCounter.reset(usernameKey(username));
+    userRepository.resetFailedLoginAttempts(username);
+  }
+
+  /**
+   * Variant of {@link #resetBruteForceCounter(String)} for a successful authentication. If the
+   * principal is the user loaded during the authentication and carries no failed attempts, the
+   * user table is not touched at all.
+   */
+  public void resetBruteForceCounter(Authentication authentication) {
+    if (authentication.getPrincipal() instanceof AbstractBaseUser<?> user
+        && user.getFailedLoginAttempts() == 0
+        && !user.isLoginDisabled()) {
+      loginFailureCounter.reset(usernameKey(authentication.getName()));
+      return;
+    }
+    resetBruteForceCounter(authentication.getName());
+  }
+
+  private static String usernameKey(String username) {
+    return USERNAME_KEY_PREFIX + username.toLowerCase(Locale.ROOT);
   }
 }
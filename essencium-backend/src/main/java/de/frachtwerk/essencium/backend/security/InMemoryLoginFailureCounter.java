@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import de.frachtwerk.essencium.backend.configuration.properties.security.AppSecurityProperties;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link LoginFailureCounter} keeping the counters in memory. Each key holds the number of failures
+ * of the current and of the previous fixed window; the failures of the previous window are weighted
+ * by the share it still overlaps with the sliding window. Updates of different keys do not contend
+ * with each other. At most {@link AppSecurityProperties#getMaxFailedLoginCounters()} counters are
+ * held, and each expires two windows after its last failure.
+ */
+@Slf4j
+@Component
+public class InMemoryLoginFailureCounter implements LoginFailureCounter {
+
+  private final Cache<String, Window> cache;
+  private final ConcurrentMap<String, Window> windows;
+  private final AppSecurityProperties appSecurityProperties;
+  private final Clock clock;
+
+  @Autowired
+  public InMemoryLoginFailureCounter(AppSecurityProperties appSecurityProperties) {
+    this(appSecurityProperties, Clock.systemUTC());
+  }
+
+  InMemoryLoginFailureCounter(AppSecurityProperties appSecurityProperties, Clock clock) {
+    this.appSecurityProperties = appSecurityProperties;
+    this.clock = clock;
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(appSecurityProperties.getMaxFailedLoginCounters())
+            .expireAfterWrite(Duration.ofMillis(2 * windowLength()))
+            .build();
+    this.windows = cache.asMap();
+  }
+
+  @Override
+  public long increment(String key) {
+    long now = clock.millis();
+    long length = windowLength();
+    Window window =
+        windows.compute(
+            key,
+            (k, current) ->
+                (Objects.isNull(current) ? Window.empty(now, length) : current.advance(now, length))
+                    .increment());
+    return window.estimate(now, length);
+  }
+
+  @Override
+  public long count(String key) {
+    Window window = windows.get(key);
+    if (Objects.isNull(window)) {
+      return 0;
+    }
+    long now = clock.millis();
+    long length = windowLength();
+    return window.advance(now, length).estimate(now, length);
+  }
+
+  @Override
+  public void reset(String key) {
+    windows.remove(key);
+  }
+
+  @Scheduled(fixedRate = 1, timeUnit = TimeUnit.MINUTES)
+  public void evictExpired() {
+    long now = clock.millis();
+    long length = windowLength();
+    windows.entrySet().removeIf(entry -> entry.getValue().isExpired(now, length));
+    log.debug("{} login failure counters remaining after eviction", windows.size());
+  }
+
+  long size() {
+    cache.cleanUp();
+    return cache.estimatedSize();
+  }
+
+  private long windowLength() {
+    return Math.max(1, appSecurityProperties.getFailedLoginWindow().toMillis());
+  }
+
+  private record Window(long start, long previous, long current) {
+
+    static Window empty(long now, long length) {
+      return new Window(now - now % length, 0, 0);
+    }
+
+    Window advance(long now, long length) {
+      long start = now - now % length;
+      if (start == this.start) {
+        return this;
+      }
+      return new Window(start, start - this.start == length ? current : 0, 0);
+    }
+
+    Window increment() {
+      return new Window(start, previous, current + 1);
+    }
+
+    long estimate(long now, long length) {
+      long overlap = Math.max(0, length - (now - start));
+      return current + previous * overlap / length;
+    }
+
+    boolean isExpired(long now, long length) {
+      return now - start >= 2 * length;
+    }
+  }
+}
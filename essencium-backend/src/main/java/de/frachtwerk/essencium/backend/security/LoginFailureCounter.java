@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.security;
+
+/**
+ * Counts failed login attempts per key (e.g. username or remote address) within a sliding time
+ * window. The default implementation {@link InMemoryLoginFailureCounter} keeps the counters in the
+ * memory of the local node; register a {@code @Primary} bean of this type to share the counters
+ * between several nodes.
+ */
+public interface LoginFailureCounter {
+
+  /**
+   * Registers a failed login attempt.
+   *
+   * @param key the key the attempt is counted for
+   * @return the number of failed attempts for the key within the current window, including this one
+   */
+  long increment(String key);
+
+  /**
+   * @param key the key to look up
+   * @return the number of failed attempts for the key within the current window
+   */
+  long count(String key);
+
+  /**
+   * Forgets all failed attempts counted for the key.
+   *
+   * @param key the key to reset
+   */
+  void reset(String key);
+}
@@ -26,6 +26,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationListener;
 import org.springframework.security.authentication.event.AuthenticationFailureBadCredentialsEvent;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -41,6 +42,10 @@ public class AuthenticationFailureListener<
   public void onApplicationEvent(AuthenticationFailureBadCredentialsEvent event) {
     String username = event.getAuthentication().getName();
     log.info("********* Login failed for user {} ", username);
-    bruteForceProtectionService.registerLoginFailure(username);
+    String remoteAddress =
+        event.getAuthentication().getDetails() instanceof WebAuthenticationDetails details
+            ? details.getRemoteAddress()
+            : null;
+    bruteForceProtectionService.registerLoginFailure(username, remoteAddress);
   }
 }
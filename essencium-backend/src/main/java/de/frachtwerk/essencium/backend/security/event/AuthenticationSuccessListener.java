@@ -39,7 +39,6 @@ public class AuthenticationSuccessListener
   @Override
   public void onApplicationEvent(CustomAuthenticationSuccessEvent event) {
     log.info("********* {}", event.getMessage());
-    String username = event.getAuthentication().getName();
-    bruteForceProtectionService.resetBruteForceCounter(username);
+    bruteForceProtectionService.resetBruteForceCounter(event.getAuthentication());
   }
 }
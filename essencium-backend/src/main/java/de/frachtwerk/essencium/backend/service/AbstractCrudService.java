@@ -20,18 +20,63 @@
 package de.frachtwerk.essencium.backend.service;
 
 import de.frachtwerk.essencium.backend.model.AbstractBaseModel;
+import de.frachtwerk.essencium.backend.model.Identifiable;
+import de.frachtwerk.essencium.backend.model.TitleConvention;
+import de.frachtwerk.essencium.backend.model.exception.DuplicateResourceException;
+import de.frachtwerk.essencium.backend.model.exception.InvalidInputException;
+import de.frachtwerk.essencium.backend.model.exception.NotAllowedException;
 import de.frachtwerk.essencium.backend.model.exception.ResourceNotFoundException;
 import de.frachtwerk.essencium.backend.model.exception.ResourceUpdateException;
+import de.frachtwerk.essencium.backend.model.representation.BasicRepresentation;
+import de.frachtwerk.essencium.backend.model.representation.UncountedPage;
 import de.frachtwerk.essencium.backend.repository.BaseRepository;
+import jakarta.annotation.Nullable;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import jakarta.validation.constraints.NotNull;
 import java.io.Serializable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
 
 /**
  * Abstract entity service providing basic CRUD functionality
@@ -42,13 +87,54 @@ import org.springframework.data.jpa.domain.Specification;
 public abstract class AbstractCrudService<
     T extends AbstractBaseModel<ID>, ID extends Serializable, DTO> {
 
+  private static final int ESTIMATED_COUNTS_SIZE = 1000;
+  private static final int STREAM_FETCH_SIZE = 500;
+  private static final int BULK_BATCH_SIZE = 50;
+
+  /**
+   * Exceptions thrown by the hooks that only fail the affected entity of a bulk operation instead
+   * of the whole operation.
+   */
+  protected static final List<Class<? extends RuntimeException>> BULK_ITEM_FAILURES =
+      List.of(
+          ResourceNotFoundException.class,
+          ResourceUpdateException.class,
+          InvalidInputException.class,
+          DuplicateResourceException.class,
+          NotAllowedException.class);
+
   protected final BaseRepository<T, ID> repository;
 
+  @PersistenceContext private EntityManager entityManager;
+
+  private TransactionTemplate transactionTemplate;
+
+  private TransactionTemplate readOnlyTransactionTemplate;
+
+  private final ThreadLocal<OperationContext<T, ID>> operationContext = new ThreadLocal<>();
+
+  // totals reused by CountMode.ESTIMATED, the least recently used ones are dropped first
+  private final Map<Object, EstimatedCount> estimatedCounts =
+      Collections.synchronizedMap(
+          new LinkedHashMap<Object, EstimatedCount>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, EstimatedCount> eldest) {
+              return size() > ESTIMATED_COUNTS_SIZE;
+            }
+          });
+
   @Autowired
   protected AbstractCrudService(@NotNull final BaseRepository<T, ID> repository) {
     this.repository = repository;
   }
 
+  @Autowired
+  void setTransactionManager(@NotNull final PlatformTransactionManager transactionManager) {
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+    this.readOnlyTransactionTemplate.setReadOnly(true);
+  }
+
   /**
    * Returns the count of all persistent entities of type T
    *
@@ -96,6 +182,111 @@ public abstract class AbstractCrudService<
     return getAllPostProcessing(repository.findAll(spec));
   }
 
+  /**
+   * Passes the basic representations of all entities of type T that correspond to a certain JPA
+   * specification to the consumer while they are read from the database, so they never have to be
+   * held in memory at once. By default each entity is loaded, passed through {@link
+   * #streamPostProcessing(AbstractBaseModel)} and skipped if that returns no entity; the
+   * persistence context is cleared periodically. If the {@link #getTitleExpression title can be
+   * selected}, only the id and the title are read and no post-processing takes place.
+   *
+   * @param specification specification describing filters to apply to the set of all entities
+   * @param consumer consumer of the basic representations
+   */
+  public final void getAllBasicFiltered(
+      Specification<T> specification, @NotNull final Consumer<BasicRepresentation> consumer) {
+    final Specification<T> spec = specificationPreProcessing(specification);
+    readOnlyTransactionTemplate.executeWithoutResult(
+        status -> {
+          final Class<T> domainClass = getDomainClass();
+          final CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+          final CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+          final Root<T> root = query.from(domainClass);
+          final Expression<String> title = getTitleExpression(root, criteriaBuilder);
+          if (Objects.isNull(title)) {
+            query.select(criteriaBuilder.tuple(root));
+          } else {
+            query.select(criteriaBuilder.tuple(root.get(Identifiable.ID_FIELD), title));
+          }
+          final Predicate predicate =
+              Objects.isNull(spec) ? null : spec.toPredicate(root, query, criteriaBuilder);
+          if (Objects.nonNull(predicate)) {
+            query.where(predicate);
+          }
+          try (Stream<Tuple> rows =
+              entityManager
+                  .createQuery(query)
+                  .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                  .setHint(HibernateHints.HINT_READ_ONLY, true)
+                  .getResultStream()) {
+            final Iterator<Tuple> iterator = rows.iterator();
+            for (int streamed = 1; iterator.hasNext(); streamed++) {
+              final Tuple row = iterator.next();
+              final BasicRepresentation representation;
+              if (Objects.isNull(title)) {
+                representation =
+                    streamPostProcessing(domainClass.cast(row.get(0)))
+                        .map(processed -> BasicRepresentation.from(processed))
+                        .orElse(null);
+              } else {
+                representation =
+                    BasicRepresentation.from((Serializable) row.get(0), row.get(1, String.class));
+              }
+              if (Objects.nonNull(representation)) {
+                consumer.accept(representation);
+              }
+              // also releases the associations loaded eagerly with the entities
+              if (Objects.isNull(title) && streamed % STREAM_FETCH_SIZE == 0) {
+                entityManager.clear();
+              }
+            }
+          }
+        });
+  }
+
+  /**
+   * Passes all entities of type T that correspond to a certain JPA specification to the consumer
+   * while they are read from the database, so they never have to be held in memory at once. The
+   * consumer runs inside a read-only transaction and may access lazy associations of the entity it
+   * is passed, but must not keep it, as the persistence context is cleared periodically.
+   *
+   * @param specification specification describing filters to apply to the set of all entities
+   * @param sort the order in which the entities are passed to the consumer
+   * @param consumer consumer of the entities
+   */
+  public final void streamAllFiltered(
+      Specification<T> specification,
+      @NotNull final Sort sort,
+      @NotNull final Consumer<? super T> consumer) {
+    final Specification<T> spec = specificationPreProcessing(specification);
+    readOnlyTransactionTemplate.executeWithoutResult(
+        status -> {
+          final CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+          final CriteriaQuery<T> query = criteriaBuilder.createQuery(getDomainClass());
+          final Root<T> root = query.from(getDomainClass());
+          final Predicate predicate =
+              Objects.isNull(spec) ? null : spec.toPredicate(root, query, criteriaBuilder);
+          if (Objects.nonNull(predicate)) {
+            query.where(predicate);
+          }
+          query.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+          try (Stream<T> entities =
+              entityManager
+                  .createQuery(query)
+                  .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                  .setHint(HibernateHints.HINT_READ_ONLY, true)
+                  .getResultStream()) {
+            final Iterator<T> iterator = entities.iterator();
+            for (int streamed = 1; iterator.hasNext(); streamed++) {
+              streamPostProcessing(iterator.next()).ifPresent(consumer);
+              if (streamed % STREAM_FETCH_SIZE == 0) {
+                entityManager.clear();
+              }
+            }
+          }
+        });
+  }
+
   /**
    * Returns all entities of type T that correspond to a certain JPA specification, limited and
    * sorted by the provided pageable request.
@@ -112,6 +303,103 @@ public abstract class AbstractCrudService<
     return getAllPostProcessing(repository.findAll(spec, processedPageable));
   }
 
+  /**
+   * Returns all entities of type T that correspond to a certain JPA specification, limited and
+   * sorted by the provided pageable request, determining the total number of matching entities as
+   * requested by the count mode. The entities of the page are fetched together with the first
+   * entity of the next page, so no count is required if the page is the last one.
+   *
+   * @param specification specification describing filters to apply to the set of all entities
+   * @param pageable the pageable request limiting the returned list
+   * @param countMode how to obtain the total number of matching entities
+   * @param countKey identifies the query for reusing its total with {@link CountMode#ESTIMATED},
+   *     e.g. derived from the request parameters and the user. Without a key the total is counted.
+   * @return page of entities matching the specification, an {@link UncountedPage} with {@link
+   *     CountMode#NONE}
+   */
+  @NotNull
+  public final Page<T> getAllFiltered(
+      Specification<T> specification,
+      @NotNull final Pageable pageable,
+      @NotNull final CountMode countMode,
+      @Nullable final Object countKey) {
+    if (countMode == CountMode.EXACT || pageable.isUnpaged()) {
+      return getAllFiltered(specification, pageable);
+    }
+    final Specification<T> spec = specificationPreProcessing(specification);
+    final var processedPageable = getAllPreProcessing(pageable);
+    // offset positions are exclusive, they denote the last element of the previous page
+    final ScrollPosition position =
+        processedPageable.getOffset() == 0
+            ? ScrollPosition.offset()
+            : ScrollPosition.offset(processedPageable.getOffset() - 1);
+    final Window<T> window =
+        repository.findBy(
+            spec,
+            query ->
+                query
+                    .sortBy(processedPageable.getSort())
+                    .limit(processedPageable.getPageSize())
+                    .scroll(position));
+    if (countMode == CountMode.NONE) {
+      return getAllPostProcessing(
+          new UncountedPage<>(window.getContent(), processedPageable, window.hasNext()));
+    }
+    final long fetched = processedPageable.getOffset() + window.size();
+    final long total =
+        window.hasNext() ? Math.max(estimateCount(spec, countKey), fetched + 1) : fetched;
+    return getAllPostProcessing(new PageImpl<>(window.getContent(), processedPageable, total));
+  }
+
+  /**
+   * Returns projections of the entities of type T that correspond to a certain JPA specification,
+   * limited and sorted by the provided pageable request, determining the total number of matching
+   * entities as requested by the count mode. Only the attributes declared by the projection are
+   * fetched; collection valued attributes are fetched for the whole page with one additional query
+   * each. As no entities are loaded, the {@link #getAllPostProcessing(Page) post processing} of
+   * entity pages does not apply.
+   *
+   * @param specification specification describing filters to apply to the set of all entities
+   * @param pageable the pageable request limiting the returned list
+   * @param projectionType a record or an interface whose components respectively getters are
+   *     named like attributes of the entity
+   * @param countMode how to obtain the total number of matching entities
+   * @param countKey identifies the query for reusing its total with {@link CountMode#ESTIMATED}
+   * @param <P> the projection
+   * @return page of projections of the entities matching the specification, an {@link
+   *     UncountedPage} with {@link CountMode#NONE}
+   */
+  @NotNull
+  public final <P> Page<P> getAllFiltered(
+      Specification<T> specification,
+      @NotNull final Pageable pageable,
+      @NotNull final Class<P> projectionType,
+      @NotNull final CountMode countMode,
+      @Nullable final Object countKey) {
+    final Specification<T> spec = specificationPreProcessing(specification);
+    final var processedPageable = getAllPreProcessing(pageable);
+    final ProjectionQuery<T, P> query = new ProjectionQuery<>(getDomainClass(), projectionType);
+    if (countMode == CountMode.EXACT || processedPageable.isUnpaged()) {
+      return readOnlyTransactionTemplate.execute(
+          status ->
+              PageableExecutionUtils.getPage(
+                  query.fetch(entityManager, spec, processedPageable, false),
+                  processedPageable,
+                  () -> repository.count(spec)));
+    }
+    final List<P> fetched =
+        readOnlyTransactionTemplate.execute(
+            status -> query.fetch(entityManager, spec, processedPageable, true));
+    final boolean hasNext = fetched.size() > processedPageable.getPageSize();
+    final List<P> content = hasNext ? fetched.subList(0, processedPageable.getPageSize()) : fetched;
+    if (countMode == CountMode.NONE) {
+      return new UncountedPage<>(content, processedPageable, hasNext);
+    }
+    final long loaded = processedPageable.getOffset() + content.size();
+    final long total = hasNext ? Math.max(estimateCount(spec, countKey), loaded + 1) : loaded;
+    return new PageImpl<>(content, processedPageable, total);
+  }
+
   /**
    * Returns all entities of the database limited and sorted by the provided pageable request.
    *
@@ -128,6 +416,75 @@ public abstract class AbstractCrudService<
     return getAllPostProcessing(page);
   }
 
+  /**
+   * Returns the entities of type T that correspond to a certain JPA specification following the
+   * given keyset position, sorted and limited by the provided pageable request. Other than {@link
+   * #getAllFiltered(Specification, Pageable)} the matching entities are neither counted nor
+   * skipped by an offset, so the cost of fetching a slice does not grow with its position. The id
+   * is appended to the sort order to make it unique; the page number of the pageable is ignored.
+   * Sort properties must not contain {@code null} values.
+   *
+   * @param specification specification describing filters to apply to the set of all entities
+   * @param pageable the pageable request providing the sort order and the size of the slice
+   * @param position the keyset position of the last element of the previous slice
+   * @return window of entities following the position
+   * @throws InvalidInputException if the position does not match the sort order
+   */
+  @NotNull
+  public final Window<T> getAllFiltered(
+      Specification<T> specification,
+      @NotNull final Pageable pageable,
+      @NotNull final KeysetScrollPosition position) {
+    final Specification<T> spec = specificationPreProcessing(specification);
+    return getAllPostProcessing(scroll(spec, getAllPreProcessing(pageable), position));
+  }
+
+  /**
+   * Returns the entities of the database following the given keyset position, sorted and limited
+   * by the provided pageable request.
+   *
+   * @param pageable the pageable request providing the sort order and the size of the slice
+   * @param position the keyset position of the last element of the previous slice
+   * @return window of entities following the position
+   * @throws InvalidInputException if the position does not match the sort order
+   * @see #getAllFiltered(Specification, Pageable, KeysetScrollPosition)
+   */
+  @NotNull
+  public final Window<T> getAll(
+      @NotNull final Pageable pageable, @NotNull final KeysetScrollPosition position) {
+    return getAllPostProcessing(
+        scroll(Specification.unrestricted(), getAllPreProcessing(pageable), position));
+  }
+
+  private Window<T> scroll(
+      Specification<T> spec, Pageable pageable, KeysetScrollPosition position) {
+    if (!position.isInitial()) {
+      for (Sort.Order order : pageable.getSort()) {
+        if (!position.getKeys().containsKey(order.getProperty())) {
+          throw new InvalidInputException("The cursor does not match the requested sort order");
+        }
+      }
+    }
+    return repository.findBy(
+        spec,
+        query -> query.sortBy(pageable.getSort()).limit(pageable.getPageSize()).scroll(position));
+  }
+
+  private long estimateCount(Specification<T> spec, @Nullable Object countKey) {
+    if (Objects.isNull(countKey)) {
+      return repository.count(spec);
+    }
+    final long now = System.currentTimeMillis();
+    final EstimatedCount estimated = estimatedCounts.get(countKey);
+    if (Objects.nonNull(estimated) && estimated.expiresAt() > now) {
+      return estimated.count();
+    }
+    final long count = repository.count(spec);
+    estimatedCounts.put(
+        countKey, new EstimatedCount(count, now + getEstimatedCountExpiration().toMillis()));
+    return count;
+  }
+
   @NotNull
   public final Optional<T> getOne(Specification<T> specification) {
     final Specification<T> spec = specificationPreProcessing(specification);
@@ -184,11 +541,15 @@ public abstract class AbstractCrudService<
    */
   @NotNull
   public final <E extends DTO> T update(@NotNull final ID id, @NotNull final E entity) {
-    final var processedEntity = updatePreProcessing(id, entity);
+    return inOperation(
+        id,
+        () -> {
+          final var processedEntity = updatePreProcessing(id, entity);
 
-    final var saved = repository.save(processedEntity);
+          final var saved = repository.save(processedEntity);
 
-    return updatePostProcessing(saved);
+          return updatePostProcessing(saved);
+        });
   }
 
   /**
@@ -205,11 +566,15 @@ public abstract class AbstractCrudService<
    */
   @NotNull
   public final T patch(@NotNull final ID id, @NotNull final Map<String, Object> fieldUpdates) {
-    final var toUpdate = patchPreProcessing(id, fieldUpdates);
+    return inOperation(
+        id,
+        () -> {
+          final var toUpdate = patchPreProcessing(id, fieldUpdates);
 
-    final var saved = repository.save(toUpdate);
+          final var saved = repository.save(toUpdate);
 
-    return patchPostProcessing(saved);
+          return patchPostProcessing(saved);
+        });
   }
 
   /**
@@ -220,9 +585,242 @@ public abstract class AbstractCrudService<
    *     database
    */
   public final void deleteById(@NotNull final ID id) {
-    deletePreProcessing(id);
-    repository.deleteById(id);
-    deletePostProcessing(id);
+    inOperation(
+        id,
+        () -> {
+          deletePreProcessing(id);
+          repository.deleteById(id);
+          deletePostProcessing(id);
+          return null;
+        });
+  }
+
+  /**
+   * Patches several existing entities at once. The entities are loaded by a single query, and each
+   * of them passes the same hooks as in {@link #patch(Serializable, Map) patch}. All changes are
+   * written in one transaction and flushed in JDBC batches.
+   *
+   * <p>Entities that do not exist or do not match the specification are reported as failed with a
+   * {@link ResourceNotFoundException}. If {@link #patchPreProcessing(Serializable, Map)} rejects an
+   * entity with one of the exceptions handled per entity (see {@link #BULK_ITEM_FAILURES}), only
+   * that entity fails and it is detached, so changes the hook made to it are not written. Any other
+   * exception, and any exception thrown while saving or by {@link
+   * #patchPostProcessing(AbstractBaseModel)}, rolls back the whole operation, as does a failure
+   * that marked the transaction as rollback-only.
+   *
+   * @param specification specification the patched entities have to match, e.g. to restrict them
+   *     to the entities owned by the current user
+   * @param fieldUpdates the field updates by the id of the entity to patch
+   * @return the outcome for every id in the iteration order of the map
+   */
+  @NotNull
+  public final List<BulkOperationResult<T, ID>> patchAll(
+      final Specification<T> specification,
+      @NotNull final Map<ID, Map<String, Object>> fieldUpdates) {
+    return inBulkOperation(
+        specification,
+        fieldUpdates.keySet(),
+        id -> patchPreProcessing(id, fieldUpdates.get(id)),
+        (id, toUpdate) -> {
+          final var saved = repository.save(toUpdate);
+
+          return patchPostProcessing(saved);
+        });
+  }
+
+  /**
+   * Deletes several existing entities at once. The entities are loaded by a single query, and each
+   * of them passes the same hooks as in {@link #deleteById(Serializable) deleteById}. The failure
+   * handling is the same as for {@link #patchAll(Specification, Map) patchAll}: only exceptions of
+   * {@link #deletePreProcessing(Serializable)} fail a single entity.
+   *
+   * @param specification specification the deleted entities have to match, e.g. to restrict them
+   *     to the entities owned by the current user
+   * @param ids the ids of the entities to delete
+   * @return the outcome for every distinct id in the given order
+   */
+  @NotNull
+  public final List<BulkOperationResult<T, ID>> deleteAllById(
+      final Specification<T> specification, @NotNull final Collection<ID> ids) {
+    return inBulkOperation(
+        specification,
+        ids,
+        id -> {
+          deletePreProcessing(id);
+          return id;
+        },
+        (id, toDelete) -> {
+          repository.deleteById(toDelete);
+          deletePostProcessing(toDelete);
+          return null;
+        });
+  }
+
+  /**
+   * Returns the persisted state of the entity with the given id. Within {@link
+   * #update(Serializable, Object) update}, {@link #patch(Serializable, Map) patch} and {@link
+   * #deleteById(Serializable) delete} and their bulk variants the entity is loaded at most once and
+   * shared by all hooks of the operation, which run in one transaction.
+   *
+   * @param id the id of the entity
+   * @return the entity, empty if there is no entity with the given id
+   */
+  @NotNull
+  protected final Optional<T> findCurrent(@NotNull final ID id) {
+    final OperationContext<T, ID> context = operationContext.get();
+    if (Objects.isNull(context) || !context.ids.contains(id)) {
+      return repository.findById(id);
+    }
+    return context.current.computeIfAbsent(id, repository::findById);
+  }
+
+  /**
+   * Checks whether the entity with the given id exists, without querying the database if the
+   * current operation already loaded it via {@link #findCurrent(Serializable)}.
+   *
+   * @param id the id of the entity
+   * @return whether an entity with the given id exists
+   */
+  protected final boolean existsCurrent(@NotNull final ID id) {
+    final OperationContext<T, ID> context = operationContext.get();
+    if (Objects.nonNull(context) && context.current.containsKey(id)) {
+      return context.current.get(id).isPresent();
+    }
+    return repository.existsById(id);
+  }
+
+  private <R> R inOperation(@NotNull final ID id, @NotNull final Supplier<R> operation) {
+    return inOperation(Set.of(id), operation);
+  }
+
+  private <R> R inOperation(@NotNull final Set<ID> ids, @NotNull final Supplier<R> operation) {
+    return inOperation(ids, status -> operation.get());
+  }
+
+  private <R> R inOperation(
+      @NotNull final Set<ID> ids, @NotNull final Function<TransactionStatus, R> operation) {
+    final OperationContext<T, ID> previous = operationContext.get();
+    operationContext.set(new OperationContext<>(ids));
+    try {
+      // services created without a transaction manager, e.g. in unit tests, run without
+      return Objects.isNull(transactionTemplate)
+          ? operation.apply(null)
+          : transactionTemplate.execute(operation::apply);
+    } finally {
+      if (Objects.isNull(previous)) {
+        operationContext.remove();
+      } else {
+        operationContext.set(previous);
+      }
+    }
+  }
+
+  /**
+   * Runs a bulk operation in one transaction. Each entity is first prepared, which may fail the
+   * entity alone, and then executed, which fails the whole operation.
+   */
+  private <P> List<BulkOperationResult<T, ID>> inBulkOperation(
+      final Specification<T> specification,
+      @NotNull final Collection<ID> ids,
+      @NotNull final Function<ID, P> preparation,
+      @NotNull final BiFunction<ID, P, T> execution) {
+    final Set<ID> distinctIds = new LinkedHashSet<>(ids);
+    if (distinctIds.isEmpty()) {
+      return List.of();
+    }
+    return inOperation(
+        distinctIds,
+        status -> {
+          final Map<ID, Optional<T>> current = operationContext.get().current;
+          distinctIds.forEach(id -> current.put(id, Optional.empty()));
+          final Specification<T> byIds =
+              (root, query, criteriaBuilder) -> root.get(Identifiable.ID_FIELD).in(distinctIds);
+          final Specification<T> spec = specificationPreProcessing(specification);
+          repository
+              .findAll(Objects.isNull(spec) ? byIds : spec.and(byIds))
+              .forEach(entity -> current.put(entity.getId(), Optional.of(entity)));
+
+          if (Objects.nonNull(entityManager)) {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(BULK_BATCH_SIZE);
+          }
+          final List<BulkOperationResult<T, ID>> results = new ArrayList<>(distinctIds.size());
+          for (final ID id : distinctIds) {
+            if (current.get(id).isEmpty()) {
+              results.add(BulkOperationResult.failed(id, new ResourceNotFoundException()));
+              continue;
+            }
+            final P prepared;
+            try {
+              prepared = preparation.apply(id);
+            } catch (RuntimeException e) {
+              if (BULK_ITEM_FAILURES.stream().noneMatch(type -> type.isInstance(e))
+                  || (Objects.nonNull(status) && status.isRollbackOnly())) {
+                throw e;
+              }
+              if (Objects.nonNull(entityManager)) {
+                current.get(id).ifPresent(entityManager::detach);
+              }
+              results.add(BulkOperationResult.failed(id, e));
+              continue;
+            }
+            results.add(BulkOperationResult.succeeded(id, execution.apply(id, prepared)));
+          }
+          if (Objects.nonNull(entityManager)) {
+            entityManager.flush();
+          }
+          return results;
+        });
+  }
+
+  /**
+   * Expression selecting the {@link TitleConvention#getTitle() title} of an entity, which allows
+   * reading {@link BasicRepresentation basic representations} without loading the entities.
+   * Override it if the title can be expressed in the query.
+   *
+   * <p>The entities are then neither loaded nor post-processed, so services that filter or mask
+   * entities in {@link #getAllPostProcessing(List)} or {@link
+   * #streamPostProcessing(AbstractBaseModel)} must either keep the default or apply the same
+   * restrictions in {@link #specificationPreProcessing(Specification)}.
+   *
+   * @param root the root of the query
+   * @param criteriaBuilder the criteria builder of the query
+   * @return the title expression, {@code null} to obtain the title from the loaded entity
+   */
+  @Nullable
+  protected Expression<String> getTitleExpression(
+      @NotNull final Root<T> root, @NotNull final CriteriaBuilder criteriaBuilder) {
+    return null;
+  }
+
+  /**
+   * Runs the given work in a read-only transaction, for queries of inheriting services that go
+   * beyond the specification queries offered here, e.g. joins with entities that are not
+   * associated with T.
+   *
+   * @param work the work to run with the entity manager of the service
+   */
+  protected final void executeReadOnly(@NotNull final Consumer<EntityManager> work) {
+    readOnlyTransactionTemplate.executeWithoutResult(status -> work.accept(entityManager));
+  }
+
+  @SuppressWarnings("unchecked")
+  protected final Class<T> getDomainClass() {
+    final Class<?>[] typeArguments =
+        GenericTypeResolver.resolveTypeArguments(getClass(), AbstractCrudService.class);
+    Assert.state(
+        Objects.nonNull(typeArguments) && Objects.nonNull(typeArguments[0]),
+        () -> "Could not resolve the entity type of " + getClass().getName());
+    return (Class<T>) typeArguments[0];
+  }
+
+  /**
+   * Time after which a total returned for {@link CountMode#ESTIMATED} is counted again.
+   *
+   * @return the expiration of estimated totals
+   */
+  @NotNull
+  protected Duration getEstimatedCountExpiration() {
+    return Duration.ofMinutes(1);
   }
 
   protected abstract Specification<T> specificationPreProcessing(Specification<T> spec);
@@ -238,6 +836,20 @@ public abstract class AbstractCrudService<
   @NotNull
   protected abstract List<T> getAllPostProcessing(@NotNull final List<T> allEntities);
 
+  /**
+   * Post-processing function that is called for every entity passed on by {@link
+   * #streamAllFiltered(Specification, Sort, Consumer)}.
+   *
+   * <p>Defaults to the {@link #getAllPostProcessing(List) post-processing of lists}.
+   *
+   * @param entity the entity that was read from the database
+   * @return the entity that shall be passed to the consumer, empty to skip the entity
+   */
+  @NotNull
+  protected Optional<T> streamPostProcessing(@NotNull final T entity) {
+    return getAllPostProcessing(List.of(entity)).stream().findFirst();
+  }
+
   /**
    * Pre-processing function that is called before a getAll request.
    *
@@ -260,6 +872,30 @@ public abstract class AbstractCrudService<
   @NotNull
   protected abstract Page<T> getAllPostProcessing(@NotNull final Page<T> page);
 
+  /**
+   * Post-processing function that is called after a getAll request using keyset pagination.
+   *
+   * <p>This function might be used for output validation or manipulation. Defaults to the {@link
+   * #getAllPostProcessing(List) post-processing of lists}. Every remaining entity keeps the scroll
+   * position it was loaded with, entities the list post-processing replaced get the position of the
+   * last loaded entity.
+   *
+   * @param window the window that was returned by the database repository
+   * @return the window that shall be presented after the getAll call.
+   */
+  @NotNull
+  protected Window<T> getAllPostProcessing(@NotNull final Window<T> window) {
+    List<T> loaded = window.getContent();
+    List<T> processed = getAllPostProcessing(loaded);
+    return Window.from(
+        processed,
+        index -> {
+          int loadedIndex = loaded.indexOf(processed.get(index));
+          return window.positionAt(loadedIndex < 0 ? loaded.size() - 1 : loadedIndex);
+        },
+        window.hasNext());
+  }
+
   /**
    * Pre-processing function that is called before a getById request.
    *
@@ -362,4 +998,17 @@ public abstract class AbstractCrudService<
   protected abstract void deletePreProcessing(@NotNull final ID id);
 
   protected abstract void deletePostProcessing(@NotNull final ID id);
+
+  private record EstimatedCount(long count, long expiresAt) {}
+
+  private static final class OperationContext<T, ID> {
+    private final Set<ID> ids;
+
+    // entities loaded so far, empty if the entity does not exist
+    private final Map<ID, Optional<T>> current = new HashMap<>();
+
+    private OperationContext(Set<ID> ids) {
+      this.ids = ids;
+    }
+  }
 }
@@ -29,7 +29,6 @@ import de.frachtwerk.essencium.backend.repository.BaseRepository;
 import jakarta.annotation.Nullable;
 import jakarta.validation.constraints.NotNull;
 import java.io.Serializable;
-import java.lang.reflect.Field;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URI;
@@ -50,6 +49,7 @@ import java.util.UUID;
 import java.util.function.Function;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 
 /**
@@ -126,6 +126,15 @@ public abstract class AbstractEntityService<
               }),
           Map.entry(URI.class, URI::create));
 
+  // Converter per target type, resolved once from the maps above
+  private static final ClassValue<Optional<Function<String, ?>>> CONVERTERS =
+      new ClassValue<>() {
+        @Override
+        protected Optional<Function<String, ?>> computeValue(Class<?> targetType) {
+          return Optional.ofNullable(resolveConverter(targetType));
+        }
+      };
+
   protected static final Set<String> PATCH_PROTECTED_FIELDS =
       Set.of(
           Identifiable.ID_FIELD,
@@ -157,6 +166,12 @@ public abstract class AbstractEntityService<
     return allEntities.stream().map(this::postProcessing).toList();
   }
 
+  @NotNull
+  @Override
+  protected Optional<OUT> streamPostProcessing(@NotNull final OUT entity) {
+    return Optional.of(postProcessing(entity));
+  }
+
   @NotNull
   @Override
   protected Pageable getAllPreProcessing(@NotNull final Pageable pageable) {
@@ -169,6 +184,12 @@ public abstract class AbstractEntityService<
     return page.map(this::postProcessing);
   }
 
+  @NotNull
+  @Override
+  protected Window<OUT> getAllPostProcessing(@NotNull final Window<OUT> window) {
+    return window.map(this::postProcessing);
+  }
+
   @NotNull
   @Override
   protected ID getByIdPreProcessing(@NotNull final ID id) {
@@ -196,7 +217,7 @@ public abstract class AbstractEntityService<
   @NotNull
   @Override
   protected <E extends IN> OUT updatePreProcessing(@NotNull final ID id, @NotNull final E dto) {
-    Optional<OUT> currentEntityOpt = repository.findById(id);
+    Optional<OUT> currentEntityOpt = findCurrent(id);
     if (currentEntityOpt.isEmpty()) {
       throw new ResourceNotFoundException("Entity to update is not persistent");
     }
@@ -221,7 +242,7 @@ public abstract class AbstractEntityService<
   @Override
   protected OUT patchPreProcessing(
       @NotNull final ID id, @NotNull final Map<String, Object> fieldUpdates) {
-    OUT out = repository.findById(id).orElseThrow(ResourceNotFoundException::new);
+    OUT out = findCurrent(id).orElseThrow(ResourceNotFoundException::new);
     final var toUpdate = (OUT) out.clone();
 
     final var sanitized = new HashMap<>(fieldUpdates);
@@ -255,7 +276,7 @@ public abstract class AbstractEntityService<
 
   @Override
   protected void deletePreProcessing(@NotNull final ID id) {
-    if (!repository.existsById(id)) {
+    if (!existsCurrent(id)) {
       throw new ResourceNotFoundException();
     }
   }
@@ -276,15 +297,15 @@ public abstract class AbstractEntityService<
       @NotNull final OUT toUpdate,
       @NotNull final String fieldName,
       @Nullable final Object fieldValue) {
+    final EntityFieldSetters.FieldSetter setter =
+        EntityFieldSetters.find(toUpdate.getClass(), fieldName)
+            .orElseThrow(
+                () ->
+                    new ResourceUpdateException(
+                        String.format("Field %s does not exist on this entity!", fieldName)));
     try {
-      @NotNull final Field fieldToUpdate = getField(toUpdate, fieldName);
-      fieldToUpdate.setAccessible(true);
-      Object valueToSet = convertFieldValue(fieldToUpdate.getType(), fieldValue);
-      fieldToUpdate.set(toUpdate, valueToSet);
-    } catch (NoSuchFieldException e) {
-      throw new ResourceUpdateException(
-          String.format("Field %s does not exist on this entity!", fieldName), e);
-    } catch (IllegalAccessException e) {
+      setter.set(toUpdate, convertFieldValue(setter.type(), fieldValue));
+    } catch (IllegalAccessException | ClassCastException e) {
       throw new ResourceUpdateException(
           String.format("Field %s can not be updated!", fieldName), e);
     }
@@ -315,27 +336,14 @@ public abstract class AbstractEntityService<
       return value;
     }
 
-    try {
-      // Handle primitive types
-      Function<String, ?> primitiveConverter = PRIMITIVE_CONVERTERS.get(targetType);
-      if (primitiveConverter != null) {
-        return primitiveConverter.apply(stringValue);
-      }
-
-      // Handle enum types
-      if (targetType.isEnum()) {
-        return Enum.valueOf(targetType.asSubclass(Enum.class), stringValue);
-      }
-
-      // Handle reference types using the converter map
-      Function<String, ?> converter = TYPE_CONVERTERS.get(targetType);
-      if (converter != null) {
-        return converter.apply(stringValue);
-      }
-
-      // If no conversion matches, return the original value
+    // If no conversion matches, return the original value
+    Optional<Function<String, ?>> converter = CONVERTERS.get(targetType);
+    if (converter.isEmpty()) {
       return value;
+    }
 
+    try {
+      return converter.get().apply(stringValue);
     } catch (Exception e) {
       throw new ResourceUpdateException(
           String.format(
@@ -344,16 +352,22 @@ public abstract class AbstractEntityService<
     }
   }
 
-  private Field getField(@NotNull final Object obj, @NotNull String fieldName)
-      throws NoSuchFieldException {
-    Class<?> cls = obj.getClass();
-    while (cls != null) {
-      try {
-        return cls.getDeclaredField(fieldName);
-      } catch (NoSuchFieldException e) {
-        cls = cls.getSuperclass();
-      }
+  @Nullable
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static Function<String, ?> resolveConverter(@NotNull final Class<?> targetType) {
+    // Handle primitive types
+    Function<String, ?> primitiveConverter = PRIMITIVE_CONVERTERS.get(targetType);
+    if (primitiveConverter != null) {
+      return primitiveConverter;
+    }
+
+    // Handle enum types
+    if (targetType.isEnum()) {
+      final Class<? extends Enum> enumType = targetType.asSubclass(Enum.class);
+      return s -> Enum.valueOf(enumType, s);
     }
-    throw new NoSuchFieldException(fieldName);
+
+    // Handle reference types using the converter map
+    return TYPE_CONVERTERS.get(targetType);
   }
 }
@@ -23,8 +23,11 @@ import static de.frachtwerk.essencium.backend.model.AbstractBaseUser.USER_ROLE_A
 
 import de.frachtwerk.essencium.backend.model.AbstractBaseUser;
 import de.frachtwerk.essencium.backend.model.AbstractBaseUser_;
+import de.frachtwerk.essencium.backend.model.Identifiable;
 import de.frachtwerk.essencium.backend.model.Role;
 import de.frachtwerk.essencium.backend.model.SessionToken;
+import de.frachtwerk.essencium.backend.model.SessionTokenType;
+import de.frachtwerk.essencium.backend.model.SessionToken_;
 import de.frachtwerk.essencium.backend.model.UserInfoEssentials;
 import de.frachtwerk.essencium.backend.model.dto.BaseUserDto;
 import de.frachtwerk.essencium.backend.model.dto.EssenciumUserDetails;
@@ -32,27 +35,48 @@ import de.frachtwerk.essencium.backend.model.dto.PasswordUpdateRequest;
 import de.frachtwerk.essencium.backend.model.exception.InvalidInputException;
 import de.frachtwerk.essencium.backend.model.exception.NotAllowedException;
 import de.frachtwerk.essencium.backend.model.exception.ResourceNotFoundException;
+import de.frachtwerk.essencium.backend.model.representation.TokenRepresentation;
 import de.frachtwerk.essencium.backend.repository.BaseUserRepository;
 import jakarta.annotation.Nullable;
 import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import java.io.Serializable;
 import java.security.Principal;
 import java.security.SecureRandom;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
@@ -68,6 +92,7 @@ public abstract class AbstractUserService<
         USERDTO extends BaseUserDto<ID>>
     extends AbstractEntityService<USER, ID, USERDTO> implements UserDetailsService {
   private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+  private static final int TOKEN_FETCH_SIZE = 500;
 
   /**
    * {@link AbstractEntityService#PATCH_PROTECTED_FIELDS} plus the user-specific fields that must
@@ -215,7 +240,7 @@ public abstract class AbstractUserService<
 
   @Override
   protected <E extends USERDTO> @NotNull USER updatePreProcessing(@NotNull ID id, @NotNull E dto) {
-    var existingUser = repository.findById(id);
+    var existingUser = findCurrent(id);
 
     Set<Role> rolesWithinUpdate = resolveRoles(dto);
 
@@ -324,7 +349,7 @@ public abstract class AbstractUserService<
 
   protected void sanitizePassword(@NotNull USER user, @Nullable String newPassword) {
     Optional<USER> existingUser =
-        Optional.ofNullable(user.getId()).flatMap(userRepository::findById);
+        Optional.ofNullable(user.getId()).flatMap(this::findCurrent);
     if (newPassword != null
         && !newPassword.isEmpty()
         && existingUser.map(AbstractBaseUser::hasLocalAuthentication).orElse(true)) {
@@ -419,6 +444,141 @@ public abstract class AbstractUserService<
     return jwtTokenService.getTokens(username);
   }
 
+  /**
+   * Passes the refresh tokens of all users matching the specification to the consumer, one user at
+   * a time while they are read from the database. The users are joined with their refresh tokens in
+   * a single query, so the number of statements does not grow with the number of users. Users
+   * without refresh tokens are passed with an empty list.
+   *
+   * @param specification specification describing filters to apply to the set of all users
+   * @param pageable the page of users to pass in the order of its sort, unpaged for all users
+   * @param consumer consumer of the id and the refresh tokens of every user
+   */
+  public void streamTokensFiltered(
+      Specification<USER> specification,
+      @NotNull final Pageable pageable,
+      @NotNull final BiConsumer<ID, List<TokenRepresentation>> consumer) {
+    final Specification<USER> spec = specificationPreProcessing(specification);
+    final Sort sort = pageable.getSort().and(Sort.by(Identifiable.ID_FIELD));
+    executeReadOnly(
+        entityManager -> {
+          Specification<USER> users = spec;
+          if (pageable.isPaged()) {
+            final List<Object> ids = findIds(entityManager, spec, pageable, sort);
+            if (ids.isEmpty()) {
+              return;
+            }
+            users = (root, query, criteriaBuilder) -> root.get(Identifiable.ID_FIELD).in(ids);
+          }
+          final CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+          final CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+          final Root<USER> root = query.from(getDomainClass());
+          final Join<USER, SessionToken> token = root.join(SessionToken.class, JoinType.LEFT);
+          token.on(
+              criteriaBuilder.equal(
+                  token.get(SessionToken_.username), root.get(AbstractBaseUser_.EMAIL)),
+              criteriaBuilder.equal(token.get(SessionToken_.type), SessionTokenType.REFRESH));
+          final List<Order> orders =
+              new ArrayList<>(QueryUtils.toOrders(sort, root, criteriaBuilder));
+          orders.add(criteriaBuilder.asc(token.get(SessionToken_.issuedAt)));
+          orders.add(criteriaBuilder.asc(token.get(SessionToken_.id)));
+          query.multiselect(
+              withOrderExpressions(
+                  List.of(
+                      root.get(Identifiable.ID_FIELD),
+                      token.get(SessionToken_.id),
+                      token.get(SessionToken_.type),
+                      token.get(SessionToken_.username),
+                      token.get(SessionToken_.issuedAt),
+                      token.get(SessionToken_.expiration),
+                      token.get(SessionToken_.userAgent),
+                      token.get(SessionToken_.lastUsed)),
+                  orders));
+          final Predicate predicate =
+              Objects.isNull(users) ? null : users.toPredicate(root, query, criteriaBuilder);
+          if (Objects.nonNull(predicate)) {
+            query.where(predicate);
+          }
+          query.orderBy(orders);
+          try (Stream<Tuple> rows =
+              entityManager
+                  .createQuery(query)
+                  .setHint(HibernateHints.HINT_FETCH_SIZE, TOKEN_FETCH_SIZE)
+                  .getResultStream()) {
+            passTokensPerUser(rows.iterator(), consumer);
+          }
+        });
+  }
+
+  private List<Object> findIds(
+      EntityManager entityManager, Specification<USER> spec, Pageable pageable, Sort sort) {
+    final CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+    final CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+    final Root<USER> root = query.from(getDomainClass());
+    final List<Order> orders = QueryUtils.toOrders(sort, root, criteriaBuilder);
+    query.multiselect(withOrderExpressions(List.of(root.get(Identifiable.ID_FIELD)), orders));
+    final Predicate predicate =
+        Objects.isNull(spec) ? null : spec.toPredicate(root, query, criteriaBuilder);
+    if (Objects.nonNull(predicate)) {
+      query.where(predicate);
+    }
+    query.orderBy(orders);
+    return entityManager
+        .createQuery(query)
+        .setFirstResult(Math.toIntExact(pageable.getOffset()))
+        .setMaxResults(pageable.getPageSize())
+        .getResultStream()
+        .map(row -> row.get(0))
+        .toList();
+  }
+
+  /**
+   * Appends the expressions of the orders to the selection. Joins of the specification may make
+   * the query {@code DISTINCT}, which can only be ordered by selected expressions.
+   */
+  private static List<Selection<?>> withOrderExpressions(
+      List<Selection<?>> selections, List<Order> orders) {
+    final List<Selection<?>> withOrders = new ArrayList<>(selections);
+    orders.forEach(order -> withOrders.add(order.getExpression()));
+    return withOrders;
+  }
+
+  /**
+   * The rows are ordered by user, so the tokens of a user are collected until the next user
+   * starts. Joins of the specification may repeat a token, hence they are collected by id.
+   */
+  @SuppressWarnings("unchecked")
+  private void passTokensPerUser(
+      Iterator<Tuple> rows, BiConsumer<ID, List<TokenRepresentation>> consumer) {
+    Object userId = null;
+    Map<UUID, TokenRepresentation> tokens = new LinkedHashMap<>();
+    while (rows.hasNext()) {
+      final Tuple row = rows.next();
+      if (Objects.nonNull(userId) && !Objects.equals(userId, row.get(0))) {
+        consumer.accept((ID) userId, List.copyOf(tokens.values()));
+        tokens = new LinkedHashMap<>();
+      }
+      userId = row.get(0);
+      final UUID tokenId = row.get(1, UUID.class);
+      if (Objects.nonNull(tokenId)) {
+        tokens.putIfAbsent(
+            tokenId,
+            TokenRepresentation.builder()
+                .id(tokenId)
+                .type(row.get(2, SessionTokenType.class))
+                .username(row.get(3, String.class))
+                .issuedAt(row.get(4, Date.class))
+                .expiration(row.get(5, Date.class))
+                .userAgent(row.get(6, String.class))
+                .lastUsed(TokenRepresentation.toUtcDateTime(row.get(7, Date.class)))
+                .build());
+      }
+    }
+    if (Objects.nonNull(userId)) {
+      consumer.accept((ID) userId, List.copyOf(tokens.values()));
+    }
+  }
+
   public void deleteToken(String username, @NotNull UUID id) {
     jwtTokenService.deleteToken(username, id);
   }
@@ -427,7 +587,7 @@ public abstract class AbstractUserService<
   protected void deletePreProcessing(@NotNull final ID id) {
     super.deletePreProcessing(id);
 
-    userRepository.findById(id).ifPresent(user -> throwNotAllowedExceptionIfNoOtherAdminExists(id));
+    findCurrent(id).ifPresent(user -> throwNotAllowedExceptionIfNoOtherAdminExists(id));
   }
 
   private void abortWhenRemovingAdminRole(ID id, Set<Role> rolesWithinUpdate) {
@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.service;
+
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+import java.util.Objects;
+
+/**
+ * Outcome of a bulk operation of {@link AbstractCrudService} for a single entity.
+ *
+ * @param id the id of the entity
+ * @param entity the resulting entity, {@code null} if the operation failed or deleted the entity
+ * @param failure the reason why the operation failed for this entity, {@code null} on success
+ * @param <T> the database entity type
+ * @param <ID> the id type of the entity
+ */
+public record BulkOperationResult<T, ID>(
+    @NotNull ID id, @Nullable T entity, @Nullable RuntimeException failure) {
+
+  static <T, ID> BulkOperationResult<T, ID> succeeded(@NotNull ID id, @Nullable T entity) {
+    return new BulkOperationResult<>(id, entity, null);
+  }
+
+  static <T, ID> BulkOperationResult<T, ID> failed(
+      @NotNull ID id, @NotNull RuntimeException failure) {
+    return new BulkOperationResult<>(id, null, failure);
+  }
+
+  public boolean isSuccessful() {
+    return Objects.isNull(failure);
+  }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.service;
+
+import org.springframework.data.domain.Page;
+
+/** Determines how the total number of elements of a requested {@link Page} is obtained. */
+public enum CountMode {
+  /** Counts all matching entities, unless the total follows from the fetched page itself. */
+  EXACT,
+  /**
+   * Reuses the total recently counted for the same query, so consecutive pages are counted only
+   * once. The total may be outdated by the time it is returned.
+   */
+  ESTIMATED,
+  /** Does not count at all, the page only tells whether there are further elements. */
+  NONE
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.service;
+
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Setters for the fields of entity classes as used by PATCH requests. The fields of a class are
+ * resolved once, including the ones inherited from its superclasses, and compiled into method
+ * handles, so applying a field update neither looks up nor reflectively writes the field again.
+ * Fields declared by a subclass hide equally named fields of its superclasses, static fields are
+ * not considered.
+ */
+final class EntityFieldSetters {
+
+  private static final MethodType SETTER_TYPE =
+      MethodType.methodType(void.class, Object.class, Object.class);
+
+  private static final ClassValue<Map<String, FieldSetter>> SETTERS =
+      new ClassValue<>() {
+        @Override
+        protected Map<String, FieldSetter> computeValue(Class<?> type) {
+          return resolveSetters(type);
+        }
+      };
+
+  private EntityFieldSetters() {}
+
+  /**
+   * @param type the runtime class of the entity to update
+   * @param fieldName the name of the field to update
+   * @return the setter of the field or an empty optional if no such field exists
+   */
+  static Optional<FieldSetter> find(@NotNull Class<?> type, @NotNull String fieldName) {
+    return Optional.ofNullable(SETTERS.get(type).get(fieldName));
+  }
+
+  private static Map<String, FieldSetter> resolveSetters(Class<?> type) {
+    Map<String, FieldSetter> setters = new HashMap<>();
+    for (Class<?> cls = type; cls != null; cls = cls.getSuperclass()) {
+      for (Field field : cls.getDeclaredFields()) {
+        if (!Modifier.isStatic(field.getModifiers())) {
+          setters.putIfAbsent(field.getName(), compile(field));
+        }
+      }
+    }
+    return Map.copyOf(setters);
+  }
+
+  private static FieldSetter compile(Field field) {
+    try {
+      // the accessible flag also permits writing final instance fields, like Field#set does
+      field.setAccessible(true);
+      MethodHandle handle = MethodHandles.lookup().unreflectSetter(field).asType(SETTER_TYPE);
+      return new FieldSetter(field.getType(), handle, null);
+    } catch (IllegalAccessException | RuntimeException e) {
+      return new FieldSetter(field.getType(), null, e);
+    }
+  }
+
+  /**
+   * Compiled setter of a single field.
+   *
+   * @param type the declared type of the field
+   * @param handle the setter taking the entity and the new value, {@code null} if the field can not
+   *     be written
+   * @param failure the reason why the field can not be written
+   */
+  record FieldSetter(
+      @NotNull Class<?> type, @Nullable MethodHandle handle, @Nullable Exception failure) {
+
+    /**
+     * @throws IllegalAccessException if the field can not be written
+     * @throws ClassCastException if the value is not assignable to the field
+     */
+    void set(@NotNull Object target, @Nullable Object value) throws IllegalAccessException {
+      if (handle == null) {
+        IllegalAccessException exception = new IllegalAccessException(failure.getMessage());
+        exception.initCause(failure);
+        throw exception;
+      }
+      try {
+        handle.invokeExact(target, value);
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+}
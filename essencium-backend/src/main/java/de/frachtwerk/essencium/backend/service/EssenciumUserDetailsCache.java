@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.service;
+
+import de.frachtwerk.essencium.backend.configuration.properties.auth.AppJwtProperties;
+import de.frachtwerk.essencium.backend.model.AbstractBaseUser;
+import de.frachtwerk.essencium.backend.model.dto.EssenciumUserDetails;
+import java.io.Serializable;
+import java.time.Clock;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Bounded cache of the {@link EssenciumUserDetails} (and the authentication source) of users,
+ * keyed by the case-insensitive username. It spares {@link JwtTokenService#renew} and {@link
+ * JwtTokenService#logout} loading the user with all roles and rights. Entries are evicted by {@link
+ * TokenInvalidationService} and on every modification of a user, and expire after {@link
+ * AppJwtProperties#getUserDetailsCacheExpiration()} at the latest, which bounds the staleness on
+ * other nodes of a cluster.
+ */
+@Slf4j
+@Component
+public class EssenciumUserDetailsCache {
+
+  private final AppJwtProperties appJwtProperties;
+  private final Clock clock;
+  private final Map<String, CachedUser> cache;
+  private long evictions;
+
+  @Autowired
+  public EssenciumUserDetailsCache(AppJwtProperties appJwtProperties) {
+    this(appJwtProperties, Clock.systemUTC());
+  }
+
+  EssenciumUserDetailsCache(AppJwtProperties appJwtProperties, Clock clock) {
+    this.appJwtProperties = appJwtProperties;
+    this.clock = clock;
+    // access ordered, so the least recently used entry is dropped once the cache is full
+    this.cache =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, CachedUser> eldest) {
+            return size() > appJwtProperties.getUserDetailsCacheSize();
+          }
+        };
+  }
+
+  /**
+   * Returns the cached entry of the user or loads and caches it.
+   *
+   * @param username the username of the user
+   * @param loader loads the user if there is no valid cache entry
+   * @return the cached or loaded user
+   */
+  public CachedUser get(
+      String username,
+      Function<String, ? extends AbstractBaseUser<? extends Serializable>> loader) {
+    if (appJwtProperties.getUserDetailsCacheSize() <= 0) {
+      return CachedUser.of(loader.apply(username), 0);
+    }
+    String key = key(username);
+    long now = clock.millis();
+    long generation;
+    synchronized (cache) {
+      CachedUser cachedUser = cache.get(key);
+      if (Objects.nonNull(cachedUser) && cachedUser.expiresAt() > now) {
+        return cachedUser;
+      }
+      generation = evictions;
+    }
+    // load outside the lock, a concurrent load of the same user merely replaces the entry
+    CachedUser loaded =
+        CachedUser.of(
+            loader.apply(username),
+            now + appJwtProperties.getUserDetailsCacheExpiration() * 1000L);
+    synchronized (cache) {
+      // the loaded state may already be outdated if users were evicted in the meantime
+      if (generation == evictions) {
+        cache.put(key, loaded);
+      }
+    }
+    return loaded;
+  }
+
+  public void evict(Collection<String> usernames) {
+    List<String> keys = usernames.stream().filter(Objects::nonNull).map(this::key).toList();
+    synchronized (cache) {
+      evictions++;
+      keys.forEach(cache::remove);
+    }
+  }
+
+  /**
+   * Evicts the users once the current transaction has committed, so a concurrent request cannot
+   * cache the state that is about to be replaced. Without an active transaction the users are
+   * evicted immediately.
+   */
+  public void evictAfterCommit(Collection<String> usernames) {
+    evict(usernames);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              evict(usernames);
+            }
+          });
+    }
+  }
+
+  public void clear() {
+    synchronized (cache) {
+      evictions++;
+      cache.clear();
+    }
+  }
+
+  private String key(String username) {
+    return username.toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * @param userDetails the details tokens are issued for
+   * @param source the authentication source of the user
+   * @param expiresAt epoch millis after which the entry is no longer used
+   */
+  public record CachedUser(
+      EssenciumUserDetails<? extends Serializable> userDetails, String source, long expiresAt) {
+
+    static CachedUser of(AbstractBaseUser<? extends Serializable> user, long expiresAt) {
+      return new CachedUser(user.toEssenciumUserDetails(), user.getSource(), expiresAt);
+    }
+  }
+}
@@ -116,16 +116,19 @@ public class JwtTokenService implements Clock {
       userService;
 
   private final UserMailService userMailService;
+  private final EssenciumUserDetailsCache userDetailsCache;
 
   public JwtTokenService(
       SessionTokenRepository sessionTokenRepository,
       SessionTokenKeyLocator sessionTokenKeyLocator,
       AppJwtProperties appJwtProperties,
-      UserMailService userMailService) {
+      UserMailService userMailService,
+      EssenciumUserDetailsCache userDetailsCache) {
     this.sessionTokenRepository = sessionTokenRepository;
     this.sessionTokenKeyLocator = sessionTokenKeyLocator;
     this.appJwtProperties = appJwtProperties;
     this.userMailService = userMailService;
+    this.userDetailsCache = userDetailsCache;
   }
 
   public String login(
@@ -283,6 +286,10 @@ public class JwtTokenService implements Clock {
                 sessionToken.setExpiration(now());
                 sessionTokenRepository.save(sessionToken);
               });
+      sessionTokenRepository.updateLastUsed(
+          refreshToken.getId(),
+          now,
+          Date.from(now.toInstant().minusSeconds(appJwtProperties.getLastUsedUpdateInterval())));
     }
     SecretKey key = Jwts.SIG.HS512.key().build();
     return sessionTokenRepository.save(
@@ -314,7 +321,9 @@ public class JwtTokenService implements Clock {
   public String renew(String bearerToken, String userAgent) {
     SessionToken sessionToken = getRequestingToken(bearerToken);
     EssenciumUserDetails<? extends Serializable> user =
-        userService.loadUserByUsername(sessionToken.getUsername()).toEssenciumUserDetails();
+        userDetailsCache
+            .get(sessionToken.getUsername(), userService::loadUserByUsername)
+            .userDetails();
     if (Objects.equals(sessionToken.getType(), SessionTokenType.REFRESH)) {
       return createToken(user, SessionTokenType.ACCESS, userAgent, bearerToken, null);
     } else {
@@ -381,16 +390,16 @@ public class JwtTokenService implements Clock {
                         "missing authorization header parameter"));
     SessionToken requestingToken = getRequestingToken(token);
 
-    AbstractBaseUser<? extends Serializable> user =
-        userService.loadUserByUsername(requestingToken.getUsername());
+    String source =
+        userDetailsCache
+            .get(requestingToken.getUsername(), userService::loadUserByUsername)
+            .source();
 
     Optional.ofNullable(requestingToken.getParentToken())
         .ifPresentOrElse(
             parentToken -> deleteToken(requestingToken.getUsername(), parentToken.getId()),
             () -> deleteToken(requestingToken.getUsername(), requestingToken.getId()));
 
-    String source = user.getSource();
-
     if (StringUtils.isBlank(source)
         || Strings.CI.equals(source, AbstractBaseUser.USER_AUTH_SOURCE_LDAP)
         || Strings.CI.equals(source, AbstractBaseUser.USER_AUTH_SOURCE_LOCAL)) {
@@ -0,0 +1,240 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.service;
+
+import de.frachtwerk.essencium.backend.model.Identifiable;
+import jakarta.annotation.Nullable;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.IdentifiableType;
+import jakarta.persistence.metamodel.PluralAttribute;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.ProjectionInformation;
+import org.springframework.data.projection.ProxyProjectionFactory;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Query fetching a page of projections of an entity. The scalar properties of the projection are
+ * selected as columns, each collection valued property is fetched for all entities of the page with
+ * one additional query. If the elements of a projected collection are not of the type of the
+ * associated entity, e.g. {@code Set<String> roles} instead of {@code Set<Role> roles}, only the
+ * ids of the associated entities are selected.
+ *
+ * @param <T> the entity
+ * @param <P> the projection, either a record or a closed interface
+ */
+final class ProjectionQuery<T, P> {
+
+  private static final ProjectionFactory PROJECTION_FACTORY = new ProxyProjectionFactory();
+
+  private final Class<T> domainClass;
+  private final Class<P> projectionType;
+  private final List<ProjectedProperty> properties = new ArrayList<>();
+  @Nullable private final Constructor<P> constructor;
+
+  ProjectionQuery(Class<T> domainClass, Class<P> projectionType) {
+    this.domainClass = domainClass;
+    this.projectionType = projectionType;
+    if (projectionType.isRecord()) {
+      RecordComponent[] components = projectionType.getRecordComponents();
+      for (RecordComponent component : components) {
+        properties.add(
+            new ProjectedProperty(
+                component.getName(),
+                component.getType(),
+                elementType(component.getGenericType())));
+      }
+      Class<?>[] parameterTypes =
+          Arrays.stream(components).map(RecordComponent::getType).toArray(Class<?>[]::new);
+      try {
+        this.constructor = ReflectionUtils.accessibleConstructor(projectionType, parameterTypes);
+      } catch (NoSuchMethodException e) {
+        throw new IllegalArgumentException(
+            "Projection " + projectionType.getName() + " has no canonical constructor", e);
+      }
+    } else if (projectionType.isInterface()) {
+      ProjectionInformation information =
+          PROJECTION_FACTORY.getProjectionInformation(projectionType);
+      if (!information.isClosed()) {
+        throw new IllegalArgumentException(
+            "Projection " + projectionType.getName() + " must only declare entity attributes");
+      }
+      for (PropertyDescriptor descriptor : information.getInputProperties()) {
+        properties.add(
+            new ProjectedProperty(
+                descriptor.getName(),
+                descriptor.getPropertyType(),
+                elementType(descriptor.getReadMethod().getGenericReturnType())));
+      }
+      this.constructor = null;
+    } else {
+      throw new IllegalArgumentException(
+          "Projection " + projectionType.getName() + " must be a record or an interface");
+    }
+  }
+
+  /**
+   * Fetches the projections of the page.
+   *
+   * @param fetchNext whether to fetch the first projection of the next page as well, so that the
+   *     result tells whether there is a next page without counting
+   */
+  List<P> fetch(
+      EntityManager entityManager,
+      @Nullable Specification<T> specification,
+      Pageable pageable,
+      boolean fetchNext) {
+    final CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+    final CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+    final Root<T> root = query.from(domainClass);
+    final List<Selection<?>> selections = new ArrayList<>();
+    selections.add(root.get(Identifiable.ID_FIELD));
+    for (ProjectedProperty property : properties) {
+      if (!property.isCollection()) {
+        selections.add(root.get(property.name()));
+      }
+    }
+    final List<Order> orders = QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder);
+    // joins of the specification may make the query DISTINCT, which can only be ordered by
+    // selected expressions, so they follow the projected columns
+    orders.forEach(order -> selections.add(order.getExpression()));
+    query.multiselect(selections);
+    if (Objects.nonNull(specification)) {
+      final Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+      if (Objects.nonNull(predicate)) {
+        query.where(predicate);
+      }
+    }
+    if (!orders.isEmpty()) {
+      query.orderBy(orders);
+    }
+    final TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+    if (pageable.isPaged()) {
+      typedQuery.setFirstResult(Math.toIntExact(pageable.getOffset()));
+      typedQuery.setMaxResults(fetchNext ? pageable.getPageSize() + 1 : pageable.getPageSize());
+    }
+
+    final Map<Object, Map<String, Object>> rows = new LinkedHashMap<>();
+    for (Tuple tuple : typedQuery.getResultList()) {
+      final Map<String, Object> values = new HashMap<>();
+      int column = 1;
+      for (ProjectedProperty property : properties) {
+        values.put(
+            property.name(),
+            property.isCollection() ? property.newCollection() : tuple.get(column++));
+      }
+      rows.putIfAbsent(tuple.get(0), values);
+    }
+    if (!rows.isEmpty()) {
+      for (ProjectedProperty property : properties) {
+        if (property.isCollection()) {
+          fetchCollection(entityManager, property, rows);
+        }
+      }
+    }
+    return rows.values().stream().map(this::instantiate).toList();
+  }
+
+  @SuppressWarnings("unchecked")
+  private void fetchCollection(
+      EntityManager entityManager,
+      ProjectedProperty property,
+      Map<Object, Map<String, Object>> rows) {
+    final CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+    final CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+    final Root<T> root = query.from(domainClass);
+    query.multiselect(
+        root.get(Identifiable.ID_FIELD), collectionElement(property, root.join(property.name())));
+    query.where(root.get(Identifiable.ID_FIELD).in(rows.keySet()));
+    for (Tuple tuple : entityManager.createQuery(query).getResultList()) {
+      ((Collection<Object>) rows.get(tuple.get(0)).get(property.name())).add(tuple.get(1));
+    }
+  }
+
+  /**
+   * Selects the joined entities, or only their ids if the projection declares elements of another
+   * type than the associated entity.
+   */
+  private static Selection<?> collectionElement(ProjectedProperty property, Join<?, ?> join) {
+    if (Objects.isNull(property.elementType())
+        || !(join.getAttribute() instanceof PluralAttribute<?, ?, ?> attribute)
+        || !(attribute.getElementType() instanceof IdentifiableType<?> elementType)
+        || property.elementType().isAssignableFrom(elementType.getJavaType())) {
+      return join;
+    }
+    return join.get(elementType.getId(elementType.getIdType().getJavaType()).getName());
+  }
+
+  @Nullable
+  private static Class<?> elementType(Type type) {
+    return type instanceof ParameterizedType parameterized
+            && parameterized.getActualTypeArguments()[0] instanceof Class<?> element
+        ? element
+        : null;
+  }
+
+  private P instantiate(Map<String, Object> values) {
+    if (Objects.isNull(constructor)) {
+      return PROJECTION_FACTORY.createProjection(projectionType, values);
+    }
+    final Object[] arguments = properties.stream().map(p -> values.get(p.name())).toArray();
+    try {
+      return constructor.newInstance(arguments);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Could not create projection " + projectionType.getName(), e);
+    }
+  }
+
+  private record ProjectedProperty(String name, Class<?> type, @Nullable Class<?> elementType) {
+
+    boolean isCollection() {
+      return Collection.class.isAssignableFrom(type);
+    }
+
+    Collection<Object> newCollection() {
+      return List.class.isAssignableFrom(type) ? new ArrayList<>() : new LinkedHashSet<>();
+    }
+  }
+}
@@ -20,6 +20,7 @@
 package de.frachtwerk.essencium.backend.service;
 
 import de.frachtwerk.essencium.backend.model.AbstractBaseUser;
+import de.frachtwerk.essencium.backend.model.AbstractBaseUser_;
 import de.frachtwerk.essencium.backend.model.ApiToken;
 import de.frachtwerk.essencium.backend.model.ApiTokenStatus;
 import de.frachtwerk.essencium.backend.model.Right;
@@ -33,26 +34,51 @@ import de.frachtwerk.essencium.backend.repository.RoleRepository;
 import de.frachtwerk.essencium.backend.repository.SessionTokenRepository;
 import java.io.Serializable;
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @Slf4j
 public class TokenInvalidationService<USER extends AbstractBaseUser<ID>, ID extends Serializable> {
 
+  /**
+   * User attributes which are part of the issued tokens or decide whether a user may authenticate
+   * at all. Tokens are only invalidated if one of these attributes has changed.
+   */
+  public static final Set<String> SECURITY_RELEVANT_USER_ATTRIBUTES =
+      Set.of(
+          AbstractBaseUser_.EMAIL,
+          AbstractBaseUser_.LOCALE,
+          AbstractBaseUser_.ROLES,
+          AbstractBaseUser_.ENABLED,
+          AbstractBaseUser_.LOGIN_DISABLED,
+          AbstractBaseUser_.SOURCE);
+
   private final SessionTokenRepository sessionTokenRepository;
   private final ApiTokenRepository apiTokenRepository;
   private final BaseUserRepository<USER, ID> baseUserRepository;
   private final RoleRepository roleRepository;
   private final RightRepository rightRepository;
-  private final UserStateService<USER, ID> userStateService;
+  private final EssenciumUserDetailsCache userDetailsCache;
+  private final TransactionTemplate afterCommitTransactionTemplate;
 
   @Autowired
   public TokenInvalidationService(
@@ -61,18 +87,24 @@ public class TokenInvalidationService<USER extends AbstractBaseUser<ID>, ID exte
       BaseUserRepository<USER, ID> baseUserRepository,
       RoleRepository roleRepository,
       RightRepository rightRepository,
-      UserStateService<USER, ID> userStateService) {
+      EssenciumUserDetailsCache userDetailsCache,
+      PlatformTransactionManager transactionManager) {
     this.sessionTokenRepository = sessionTokenRepository;
     this.apiTokenRepository = apiTokenRepository;
     this.baseUserRepository = baseUserRepository;
     this.roleRepository = roleRepository;
     this.rightRepository = rightRepository;
-    this.userStateService = userStateService;
+    this.userDetailsCache = userDetailsCache;
+    // the surrounding transaction has already committed when the pending invalidations run
+    this.afterCommitTransactionTemplate = new TransactionTemplate(transactionManager);
+    this.afterCommitTransactionTemplate.setPropagationBehavior(
+        TransactionDefinition.PROPAGATION_REQUIRES_NEW);
   }
 
   @Transactional
   public void invalidateTokensForUserByUsername(String username, ApiTokenStatus apiTokenStatus) {
     log.info("Invalidating all session tokens for user '{}'.", username);
+    userDetailsCache.evict(List.of(username));
     try {
       sessionTokenRepository.deleteAllByUsernameEqualsIgnoreCaseAndType(
           username, SessionTokenType.ACCESS);
@@ -93,6 +125,48 @@ public class TokenInvalidationService<USER extends AbstractBaseUser<ID>, ID exte
     }
   }
 
+  /**
+   * Batched variant of {@link #invalidateTokensForUserByUsername(String, ApiTokenStatus)}. The
+   * session tokens of all given users are deleted with one statement per token type, linked API
+   * tokens which are still active are revoked with one statement per status. API tokens which are
+   * already revoked or expired keep their status and expiration date.
+   *
+   * @param invalidations the usernames whose tokens shall be invalidated, mapped to the status
+   *     their API tokens receive
+   */
+  @Transactional
+  public void invalidateTokensForUsersByUsername(Map<String, ApiTokenStatus> invalidations) {
+    if (invalidations.isEmpty()) {
+      return;
+    }
+    log.info("Invalidating all session tokens for {} user(s).", invalidations.size());
+    userDetailsCache.evict(invalidations.keySet());
+    try {
+      deleteSessionTokens(invalidations.keySet());
+      Map<ApiTokenStatus, List<ApiToken>> apiTokensByStatus =
+          apiTokenRepository.findAllByLinkedUserIn(invalidations.keySet()).stream()
+              .filter(apiToken -> invalidations.containsKey(apiToken.getLinkedUser()))
+              .filter(ApiToken::isAccountNonExpired)
+              .collect(
+                  Collectors.groupingBy(
+                      apiToken -> invalidations.get(apiToken.getLinkedUser()),
+                      LinkedHashMap::new,
+                      Collectors.toList()));
+      apiTokensByStatus.forEach(
+          (apiTokenStatus, apiTokens) -> {
+            sessionTokenRepository.deleteAllByUsernameInIgnoreCaseAndType(
+                lowerCase(apiTokens.stream().map(ApiToken::getUsername).toList()),
+                SessionTokenType.API);
+            apiTokenRepository.setStatusAndExpirationByIds(
+                apiTokenStatus, LocalDate.now(), apiTokens.stream().map(ApiToken::getId).toList());
+          });
+      log.debug("All tokens for {} user(s) successfully invalidated.", invalidations.size());
+    } catch (Exception e) {
+      throw new TokenInvalidationException(
+          "Failed to invalidate tokens for users " + invalidations.keySet(), e);
+    }
+  }
+
   @Transactional
   public void invalidateTokensForUserByID(ID id, ApiTokenStatus apiTokenStatus) {
     Optional<? extends AbstractBaseUser<ID>> userOptional = baseUserRepository.findById(id);
@@ -103,36 +177,6 @@ public class TokenInvalidationService<USER extends AbstractBaseUser<ID>, ID exte
     }
   }
 
-  @Transactional
-  public void invalidateTokensOnUserUpdate(USER updatedUser, ApiTokenStatus apiTokenStatus) {
-    try {
-      Optional<USER> originalUser = userStateService.fetchOriginalUserState(updatedUser);
-
-      USER user = originalUser.orElse(updatedUser);
-
-      if ((originalUser.isPresent() && hasRelevantChanges(originalUser.get(), updatedUser))
-          || (originalUser.isEmpty() && Objects.nonNull(updatedUser))) {
-        log.info("Invalidating tokens for user: {}", user.getUsername());
-        sessionTokenRepository.deleteAllByUsernameEqualsIgnoreCaseAndType(
-            user.getEmail(), SessionTokenType.ACCESS);
-        sessionTokenRepository.deleteAllByUsernameEqualsIgnoreCaseAndType(
-            user.getEmail(), SessionTokenType.REFRESH);
-        apiTokenRepository.findAllByLinkedUser(user.getEmail()).stream()
-            .filter(ApiToken::isAccountNonExpired)
-            .forEach(
-                apiToken -> {
-                  sessionTokenRepository.deleteAllByUsernameEqualsIgnoreCaseAndType(
-                      apiToken.getUsername(), SessionTokenType.API);
-                  apiTokenRepository.setStatusAndExpirationById(
-                      apiTokenStatus, LocalDate.now(), apiToken.getId());
-                });
-      }
-    } catch (Exception e) {
-      throw new TokenInvalidationException(
-          "Failed to invalidate tokens for user mit ID " + updatedUser.getId(), e);
-    }
-  }
-
   @Transactional
   public void invalidateTokensForRole(
       String roleName, Role roleToSave, ApiTokenStatus apiTokenStatus) {
@@ -148,7 +192,7 @@ public class TokenInvalidationService<USER extends AbstractBaseUser<ID>, ID exte
     log.info("Invalidating all session tokens for role '{}'.", roleName);
     try {
       List<String> allByRole = baseUserRepository.findAllUsernamesByRole(roleName);
-      allByRole.forEach(username -> invalidateTokensForUserByUsername(username, apiTokenStatus));
+      scheduleTokenInvalidation(allByRole, apiTokenStatus);
       log.debug("All tokens for role '{}' successfully invalidated.", roleName);
     } catch (DataIntegrityViolationException dataIntegrityViolationException) {
       throw dataIntegrityViolationException;
@@ -177,7 +221,7 @@ public class TokenInvalidationService<USER extends AbstractBaseUser<ID>, ID exte
     log.info("Invalidating all session tokens for right '{}'.", rightName);
     try {
       List<String> allByRight = baseUserRepository.findAllUsernamesByRight(rightName);
-      allByRight.forEach(username -> invalidateTokensForUserByUsername(username, apiTokenStatus));
+      scheduleTokenInvalidation(allByRight, apiTokenStatus);
       log.debug("All tokens for right '{}' successfully invalidated.", rightName);
     } catch (Exception e) {
       throw new TokenInvalidationException("Failed to invalidate tokens for right " + rightName, e);
@@ -196,15 +240,59 @@ public class TokenInvalidationService<USER extends AbstractBaseUser<ID>, ID exte
     apiTokenRepository.deleteAllByIdInBatch(allByRightName);
   }
 
-  public boolean hasRelevantChanges(USER originalUser, USER currentUser) {
-    if (Objects.nonNull(originalUser) && Objects.nonNull(currentUser)) {
-      return !Objects.equals(originalUser.getEmail(), currentUser.getEmail())
-          || !Objects.equals(originalUser.getLocale(), currentUser.getLocale())
-          || !Objects.equals(originalUser.getRoles(), currentUser.getRoles())
-          || originalUser.isEnabled() != currentUser.isEnabled()
-          || originalUser.isAccountNonLocked() != currentUser.isAccountNonLocked()
-          || !Objects.equals(originalUser.getSource(), currentUser.getSource());
+  /**
+   * Invalidates the tokens of the given users once the current transaction has committed. All
+   * invalidations requested within one transaction are collected, deduplicated by username and
+   * executed as a single batch, so a rolled back modification does not log anybody out. Without an
+   * active transaction the tokens are invalidated immediately.
+   *
+   * @param usernames the users whose tokens shall be invalidated
+   * @param apiTokenStatus the status linked API tokens receive
+   */
+  public void scheduleTokenInvalidation(
+      Collection<String> usernames, ApiTokenStatus apiTokenStatus) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()
+        || !TransactionSynchronizationManager.isActualTransactionActive()) {
+      usernames.forEach(username -> invalidateTokensForUserByUsername(username, apiTokenStatus));
+      return;
+    }
+    PendingTokenInvalidations pending =
+        (PendingTokenInvalidations) TransactionSynchronizationManager.getResource(this);
+    if (Objects.isNull(pending)) {
+      pending = new PendingTokenInvalidations();
+      TransactionSynchronizationManager.bindResource(this, pending);
+      TransactionSynchronizationManager.registerSynchronization(pending);
+    }
+    for (String username : usernames) {
+      pending.invalidations.putIfAbsent(username, apiTokenStatus);
+    }
+  }
+
+  private void deleteSessionTokens(Collection<String> usernames) {
+    List<String> lowerCaseUsernames = lowerCase(usernames);
+    // avoid DataIntegrityViolationException by deleting in correct order
+    sessionTokenRepository.deleteAllByUsernameInIgnoreCaseAndType(
+        lowerCaseUsernames, SessionTokenType.ACCESS);
+    sessionTokenRepository.deleteAllByUsernameInIgnoreCaseAndType(
+        lowerCaseUsernames, SessionTokenType.REFRESH);
+  }
+
+  private static List<String> lowerCase(Collection<String> usernames) {
+    return usernames.stream().map(username -> username.toLowerCase(Locale.ROOT)).toList();
+  }
+
+  private class PendingTokenInvalidations implements TransactionSynchronization {
+    private final Map<String, ApiTokenStatus> invalidations = new LinkedHashMap<>();
+
+    @Override
+    public void afterCommit() {
+      afterCommitTransactionTemplate.executeWithoutResult(
+          status -> invalidateTokensForUsersByUsername(invalidations));
+    }
+
+    @Override
+    public void afterCompletion(int status) {
+      TransactionSynchronizationManager.unbindResourceIfPossible(TokenInvalidationService.this);
     }
-    return true;
   }
 }
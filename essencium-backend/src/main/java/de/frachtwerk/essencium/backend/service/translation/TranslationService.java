@@ -21,6 +21,7 @@ package de.frachtwerk.essencium.backend.service.translation;
 
 import static de.frachtwerk.essencium.backend.service.translation.TranslationFileService.TRANSLATION_FILE_CACHE;
 
+import de.frachtwerk.essencium.backend.configuration.properties.EssenciumTranslationProperties;
 import de.frachtwerk.essencium.backend.model.Translation;
 import de.frachtwerk.essencium.backend.model.exception.InvalidInputException;
 import de.frachtwerk.essencium.backend.repository.TranslationRepository;
@@ -35,20 +36,41 @@ import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
 import org.springframework.data.util.Pair;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 public class TranslationService {
 
   private final TranslationRepository translationRepository;
+  private final EssenciumTranslationProperties translationProperties;
+  private final Object tableLock = new Object();
+  private volatile TranslationTable table = TranslationTable.EMPTY;
 
   @Autowired
-  public TranslationService(@NotNull final TranslationRepository translationRepository) {
+  public TranslationService(
+      @NotNull final TranslationRepository translationRepository,
+      @NotNull final EssenciumTranslationProperties translationProperties) {
     this.translationRepository = translationRepository;
+    this.translationProperties = translationProperties;
+  }
+
+  /**
+   * Loads the translation table once the data initializers (see {@code DataInitializationService})
+   * have seeded and migrated the translations.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Order
+  public void loadTranslationTable() {
+    invalidateTable();
+    table();
   }
 
   public Collection<Translation> getTranslations() {
@@ -65,22 +87,22 @@ public class TranslationService {
 
   // Inspired https://kazupon.github.io/vue-i18n/guide/pluralization.html
   public Optional<String> translateVariant(String key, Locale locale, int variantIndex) {
-    final var translation = translationRepository.findByKeyAndLocale(key, locale);
-    return translation
-        .map(Translation::getValue)
-        .flatMap(s -> Stream.of(s.split("\\|")).skip(variantIndex).findFirst())
-        .map(String::trim);
+    return table().lookup(key, locale, variantIndex);
   }
 
   @CacheEvict(value = TRANSLATION_FILE_CACHE, allEntries = true)
   public Translation updateTranslation(@NotNull final Translation translation) {
-    return translationRepository.save(translation);
+    Translation saved = translationRepository.save(translation);
+    invalidateTableAfterCompletion();
+    return saved;
   }
 
   @CacheEvict(value = TRANSLATION_FILE_CACHE, allEntries = true)
   public Collection<Translation> updateTranslations(
       @NotNull final Collection<Translation> translations) {
-    return translationRepository.saveAll(translations);
+    Collection<Translation> saved = translationRepository.saveAll(translations);
+    invalidateTableAfterCompletion();
+    return saved;
   }
 
   @CacheEvict(value = TRANSLATION_FILE_CACHE, allEntries = true)
@@ -95,11 +117,15 @@ public class TranslationService {
                     new Translation(
                         locale, translationPair.getFirst(), translationPair.getSecond()))
             .collect(Collectors.toCollection(LinkedList::new));
-    return translationRepository.saveAll(translations);
+    Collection<Translation> saved = translationRepository.saveAll(translations);
+    invalidateTableAfterCompletion();
+    return saved;
   }
 
+  @CacheEvict(value = TRANSLATION_FILE_CACHE, allEntries = true)
   public void deleteTranslation(String key) {
     translationRepository.deleteAll(translationRepository.findAllByKey(key));
+    invalidateTableAfterCompletion();
   }
 
   public SortedMap<String, List<Translation>> getTranslationsGroupedByKey() {
@@ -135,6 +161,52 @@ public class TranslationService {
                     Pair::getSecond, p -> p.getFirst().getDisplayLanguage(p.getSecond()))));
   }
 
+  /**
+   * Returns the current translation table, loading it if it expired (see {@link
+   * EssenciumTranslationProperties#getTableTimeToLive()}) or was invalidated. Lookups only read the
+   * volatile reference unless the table has to be loaded.
+   */
+  private TranslationTable table() {
+    TranslationTable current = table;
+    if (current.isExpired(System.currentTimeMillis())) {
+      synchronized (tableLock) {
+        current = table;
+        if (current.isExpired(System.currentTimeMillis())) {
+          long expiresAt =
+              System.currentTimeMillis() + translationProperties.getTableTimeToLive().toMillis();
+          current = TranslationTable.of(translationRepository.findAll(), expiresAt);
+          table = current;
+        }
+      }
+    }
+    return current;
+  }
+
+  // waits for a running load, which may have read the state that is about to be replaced
+  private void invalidateTable() {
+    synchronized (tableLock) {
+      table = TranslationTable.EMPTY;
+    }
+  }
+
+  /**
+   * Invalidates the translation table immediately and again once the current transaction has
+   * completed. A table loaded in between may contain the state that is about to be replaced, or
+   * uncommitted rows if the transaction is rolled back, so it is dropped either way.
+   */
+  private void invalidateTableAfterCompletion() {
+    invalidateTable();
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+              invalidateTable();
+            }
+          });
+    }
+  }
+
   @NotNull
   private Collection<Pair<String, String>> parseKeyValueList(
       final String headKey, final Map<String, Object> translationObjects) {
@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.frachtwerk.essencium.backend.service.translation;
+
+import de.frachtwerk.essencium.backend.model.Translation;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Immutable snapshot of all translations, grouped by locale and key. The plural variants of a value
+ * (separated by {@code |}) are split and trimmed once while the table is built and kept as ready
+ * made {@link Optional}s, so a lookup neither parses nor allocates anything.
+ */
+final class TranslationTable {
+
+  static final TranslationTable EMPTY = new TranslationTable(Map.of(), 0);
+
+  private final Map<Locale, Map<String, List<Optional<String>>>> variants;
+  private final long expiresAt;
+
+  private TranslationTable(
+      Map<Locale, Map<String, List<Optional<String>>>> variants, long expiresAt) {
+    this.variants = variants;
+    this.expiresAt = expiresAt;
+  }
+
+  /**
+   * @param translations all translations to include
+   * @param expiresAt epoch millis after which the table is loaded again
+   */
+  static TranslationTable of(Collection<Translation> translations, long expiresAt) {
+    Map<Locale, Map<String, List<Optional<String>>>> variants = new HashMap<>();
+    for (Translation translation : translations) {
+      if (Objects.isNull(translation.getValue())) {
+        continue;
+      }
+      variants
+          .computeIfAbsent(translation.getLocale(), locale -> new HashMap<>())
+          .put(translation.getKey(), split(translation.getValue()));
+    }
+    return new TranslationTable(variants, expiresAt);
+  }
+
+  Optional<String> lookup(String key, Locale locale, int variantIndex) {
+    Map<String, List<Optional<String>>> translations = variants.get(locale);
+    if (Objects.isNull(translations)) {
+      return Optional.empty();
+    }
+    List<Optional<String>> values = translations.get(key);
+    if (Objects.isNull(values) || variantIndex < 0 || variantIndex >= values.size()) {
+      return Optional.empty();
+    }
+    return values.get(variantIndex);
+  }
+
+  boolean isExpired(long now) {
+    return now >= expiresAt;
+  }
+
+  // same result as Stream.of(value.split("\\|")).map(String::trim), without the regex
+  private static List<Optional<String>> split(String value) {
+    List<String> parts = new ArrayList<>();
+    int start = 0;
+    int separator;
+    while ((separator = value.indexOf('|', start)) >= 0) {
+      parts.add(value.substring(start, separator));
+      start = separator + 1;
+    }
+    parts.add(value.substring(start));
+    // like String.split, drop trailing empty parts unless the value contains no separator at all
+    while (parts.size() > 1 && parts.getLast().isEmpty()) {
+      parts.removeLast();
+    }
+    if (parts.size() == 1 && parts.getFirst().isEmpty() && !value.isEmpty()) {
+      return List.of();
+    }
+    return parts.stream().map(String::trim).map(Optional::of).toList();
+  }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.util;
+
+import de.frachtwerk.essencium.backend.model.exception.InvalidInputException;
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+/**
+ * Converts {@link KeysetScrollPosition keyset positions} from and to opaque cursors handed out to
+ * clients. A cursor contains the values of the sort properties (and the id) of the last element of
+ * a slice together with their type, so they can be restored without knowing the entity type.
+ */
+public final class KeysetCursorUtils {
+
+  private static final String ENTRY_SEPARATOR = ";";
+  private static final String FIELD_SEPARATOR = "=";
+  private static final String NULL_TYPE = "null";
+
+  private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+  private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+  private static final Map<String, Function<String, ?>> DECODERS =
+      Map.<Class<?>, Function<String, ?>>ofEntries(
+              Map.entry(String.class, Function.identity()),
+              Map.entry(UUID.class, UUID::fromString),
+              Map.entry(LocalDateTime.class, LocalDateTime::parse),
+              Map.entry(LocalDate.class, LocalDate::parse),
+              Map.entry(LocalTime.class, LocalTime::parse),
+              Map.entry(Instant.class, Instant::parse),
+              Map.entry(ZonedDateTime.class, ZonedDateTime::parse),
+              Map.entry(OffsetDateTime.class, OffsetDateTime::parse),
+              Map.entry(Integer.class, Integer::valueOf),
+              Map.entry(Long.class, Long::valueOf),
+              Map.entry(Double.class, Double::valueOf),
+              Map.entry(Float.class, Float::valueOf),
+              Map.entry(Short.class, Short::valueOf),
+              Map.entry(Byte.class, Byte::valueOf),
+              Map.entry(BigDecimal.class, BigDecimal::new),
+              Map.entry(BigInteger.class, BigInteger::new),
+              Map.entry(Boolean.class, Boolean::valueOf))
+          .entrySet()
+          .stream()
+          .collect(Collectors.toUnmodifiableMap(e -> e.getKey().getName(), Map.Entry::getValue));
+
+  private KeysetCursorUtils() {}
+
+  /**
+   * Encodes the keys of a keyset position into an opaque, URL safe cursor.
+   *
+   * @param position the position of the last element of a slice
+   * @return the cursor
+   * @throws IllegalArgumentException if the position is no keyset position or contains values of
+   *     an unsupported type
+   */
+  @NotNull
+  public static String encode(@NotNull ScrollPosition position) {
+    if (!(position instanceof KeysetScrollPosition keysetPosition)) {
+      throw new IllegalArgumentException("Only keyset positions can be encoded: " + position);
+    }
+    StringJoiner cursor = new StringJoiner(ENTRY_SEPARATOR);
+    keysetPosition
+        .getKeys()
+        .forEach(
+            (property, value) ->
+                cursor.add(
+                    String.join(FIELD_SEPARATOR, property, typeOf(value), encodeValue(value))));
+    return toBase64(cursor.toString());
+  }
+
+  /**
+   * Decodes a cursor created by {@link #encode(ScrollPosition)}.
+   *
+   * @param cursor the cursor passed by the client, {@code null} or blank to start at the beginning
+   * @return the keyset position following the element the cursor was created for
+   * @throws InvalidInputException if the cursor is malformed
+   */
+  @NotNull
+  public static KeysetScrollPosition decode(@Nullable String cursor) {
+    if (Objects.isNull(cursor) || cursor.isBlank()) {
+      return ScrollPosition.keyset();
+    }
+    try {
+      Map<String, Object> keys = new LinkedHashMap<>();
+      for (String entry : fromBase64(cursor).split(ENTRY_SEPARATOR)) {
+        String[] fields = entry.split(FIELD_SEPARATOR, -1);
+        if (fields.length != 3 || fields[0].isBlank()) {
+          throw new InvalidInputException("Invalid cursor");
+        }
+        keys.put(fields[0], decodeValue(fields[1], fields[2]));
+      }
+      return ScrollPosition.forward(keys);
+    } catch (DateTimeException | IllegalArgumentException | ReflectiveOperationException e) {
+      throw new InvalidInputException("Invalid cursor", e);
+    }
+  }
+
+  private static String typeOf(@Nullable Object value) {
+    if (Objects.isNull(value)) {
+      return NULL_TYPE;
+    }
+    if (value instanceof Enum<?> enumValue) {
+      return enumValue.getDeclaringClass().getName();
+    }
+    if (!DECODERS.containsKey(value.getClass().getName())) {
+      throw new IllegalArgumentException(
+          "Unsupported type of keyset value: " + value.getClass().getName());
+    }
+    return value.getClass().getName();
+  }
+
+  private static String encodeValue(@Nullable Object value) {
+    if (Objects.isNull(value)) {
+      return "";
+    }
+    return toBase64(value instanceof Enum<?> enumValue ? enumValue.name() : value.toString());
+  }
+
+  @Nullable
+  private static Object decodeValue(String type, String value)
+      throws ReflectiveOperationException {
+    if (NULL_TYPE.equals(type)) {
+      return null;
+    }
+    Function<String, ?> decoder = DECODERS.get(type);
+    if (Objects.nonNull(decoder)) {
+      return decoder.apply(fromBase64(value));
+    }
+    // do not initialize arbitrary classes named by the client
+    Class<?> enumType = Class.forName(type, false, KeysetCursorUtils.class.getClassLoader());
+    if (!enumType.isEnum()) {
+      throw new IllegalArgumentException("Unsupported type of keyset value: " + type);
+    }
+    String name = fromBase64(value);
+    for (Object constant : enumType.getEnumConstants()) {
+      if (((Enum<?>) constant).name().equals(name)) {
+        return constant;
+      }
+    }
+    throw new IllegalArgumentException("Unknown constant " + name + " of " + type);
+  }
+
+  private static String toBase64(String value) {
+    return ENCODER.encodeToString(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static String fromBase64(String value) {
+    return new String(DECODER.decode(value), StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.frachtwerk.essencium.backend.controller.access.JsonFilteredTypes;
+import de.frachtwerk.essencium.backend.controller.advice.AccessAwareJsonViewAdvice;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+class AccessAwareJsonConfigTest {
+
+  private final ApplicationContextRunner contextRunner =
+      new ApplicationContextRunner().withBean(AccessAwareJsonViewAdvice.class);
+
+  @Test
+  void scansFilteredTypesByDefault() {
+    contextRunner
+        .withUserConfiguration(AccessAwareJsonConfig.class)
+        .run(
+            context -> {
+              assertThat(context).hasNotFailed().hasSingleBean(JsonFilteredTypes.class);
+              assertThat(context).hasSingleBean(AccessAwareJsonViewAdvice.class);
+            });
+  }
+
+  @Test
+  void userSuppliedFilteredTypesWin() {
+    contextRunner
+        .withUserConfiguration(CustomFilteredTypesConfig.class, AccessAwareJsonConfig.class)
+        .run(
+            context -> {
+              assertThat(context).hasNotFailed().hasSingleBean(JsonFilteredTypes.class);
+              assertThat(context.getBean(JsonFilteredTypes.class))
+                  .isSameAs(context.getBean("customFilteredTypes"));
+              assertThat(context).hasSingleBean(AccessAwareJsonViewAdvice.class);
+            });
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  static class CustomFilteredTypesConfig {
+
+    @Bean
+    JsonFilteredTypes customFilteredTypes() {
+      return new JsonFilteredTypes(List.of());
+    }
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.frachtwerk.essencium.backend.configuration.properties.EssenciumJpaProperties;
+import java.util.HashMap;
+import java.util.Map;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.id.SequenceMismatchStrategy;
+import org.junit.jupiter.api.Test;
+
+class HibernateBatchingConfigTest {
+
+  private final EssenciumJpaProperties properties = new EssenciumJpaProperties();
+
+  @Test
+  void appliesDefaults() {
+    Map<String, Object> hibernateProperties = customize(new HashMap<>());
+
+    assertThat(hibernateProperties)
+        .containsEntry(AvailableSettings.STATEMENT_BATCH_SIZE, 50)
+        .containsEntry(AvailableSettings.ORDER_INSERTS, true)
+        .containsEntry(AvailableSettings.ORDER_UPDATES, true)
+        .containsEntry(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo")
+        .containsEntry(
+            AvailableSettings.SEQUENCE_INCREMENT_SIZE_MISMATCH_STRATEGY,
+            SequenceMismatchStrategy.FIX);
+  }
+
+  @Test
+  void appliesConfiguredValues() {
+    properties.setJdbcBatchSize(0);
+    properties.setOrderUpdates(false);
+
+    Map<String, Object> hibernateProperties = customize(new HashMap<>());
+
+    assertThat(hibernateProperties)
+        .containsEntry(AvailableSettings.STATEMENT_BATCH_SIZE, 0)
+        .containsEntry(AvailableSettings.ORDER_UPDATES, false);
+  }
+
+  @Test
+  void keepsExplicitHibernateProperties() {
+    Map<String, Object> hibernateProperties = new HashMap<>();
+    hibernateProperties.put(AvailableSettings.STATEMENT_BATCH_SIZE, "20");
+
+    customize(hibernateProperties);
+
+    assertThat(hibernateProperties).containsEntry(AvailableSettings.STATEMENT_BATCH_SIZE, "20");
+  }
+
+  private Map<String, Object> customize(Map<String, Object> hibernateProperties) {
+    new HibernateBatchingConfig(properties)
+        .batchingHibernatePropertiesCustomizer()
+        .customize(hibernateProperties);
+    return hibernateProperties;
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import de.frachtwerk.essencium.backend.configuration.properties.EssenciumJpaProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.HashMap;
+import java.util.Map;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.query.criteria.ValueHandlingMode;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+
+class HibernateQueryPlanConfigTest {
+
+  private final EssenciumJpaProperties properties = new EssenciumJpaProperties();
+
+  @Test
+  void appliesDefaults() {
+    Map<String, Object> hibernateProperties = customize(new HashMap<>());
+
+    assertThat(hibernateProperties)
+        .containsEntry(AvailableSettings.CRITERIA_VALUE_HANDLING_MODE, ValueHandlingMode.BIND)
+        .containsEntry(AvailableSettings.CRITERIA_PLAN_CACHE_ENABLED, true)
+        .containsEntry(AvailableSettings.QUERY_PLAN_CACHE_MAX_SIZE, 2048)
+        .containsEntry(AvailableSettings.IN_CLAUSE_PARAMETER_PADDING, true)
+        .doesNotContainKey(AvailableSettings.GENERATE_STATISTICS);
+  }
+
+  @Test
+  void enablesStatistics() {
+    properties.setQueryPlanStatistics(true);
+
+    Map<String, Object> hibernateProperties = customize(new HashMap<>());
+
+    assertThat(hibernateProperties).containsEntry(AvailableSettings.GENERATE_STATISTICS, true);
+  }
+
+  @Test
+  void keepsExplicitHibernateProperties() {
+    Map<String, Object> hibernateProperties = new HashMap<>();
+    hibernateProperties.put(AvailableSettings.CRITERIA_PLAN_CACHE_ENABLED, "false");
+
+    customize(hibernateProperties);
+
+    assertThat(hibernateProperties)
+        .containsEntry(AvailableSettings.CRITERIA_PLAN_CACHE_ENABLED, "false");
+  }
+
+  @Test
+  void publishesPlanCacheHitsAndMisses() {
+    EntityManagerFactory entityManagerFactory = mock();
+    SessionFactory sessionFactory = mock();
+    Statistics statistics = mock();
+    when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+    when(sessionFactory.getStatistics()).thenReturn(statistics);
+    when(statistics.getQueryPlanCacheHitCount()).thenReturn(7L);
+    when(statistics.getQueryPlanCacheMissCount()).thenReturn(3L);
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    new HibernateQueryPlanConfig(properties)
+        .queryPlanCacheMeterBinder(entityManagerFactory)
+        .bindTo(registry);
+
+    assertThat(
+            registry
+                .get(HibernateQueryPlanConfig.PLAN_CACHE_METER)
+                .tag("result", "hit")
+                .functionCounter()
+                .count())
+        .isEqualTo(7);
+    assertThat(
+            registry
+                .get(HibernateQueryPlanConfig.PLAN_CACHE_METER)
+                .tag("result", "miss")
+                .functionCounter()
+                .count())
+        .isEqualTo(3);
+  }
+
+  private Map<String, Object> customize(Map<String, Object> hibernateProperties) {
+    new HibernateQueryPlanConfig(properties)
+        .queryPlanHibernatePropertiesCustomizer()
+        .customize(hibernateProperties);
+    return hibernateProperties;
+  }
+}
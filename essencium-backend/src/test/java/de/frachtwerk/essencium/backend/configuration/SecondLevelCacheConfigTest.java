@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import de.frachtwerk.essencium.backend.configuration.properties.EssenciumJpaProperties;
+import de.frachtwerk.essencium.backend.model.Role;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.configuration.MutableConfiguration;
+import javax.cache.expiry.ExpiryPolicy;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+@ExtendWith(MockitoExtension.class)
+class SecondLevelCacheConfigTest {
+
+  private final EssenciumJpaProperties properties = new EssenciumJpaProperties();
+
+  @Mock private ObjectProvider<CacheManager> cacheManagerProvider;
+  @Mock private CacheManager cacheManager;
+
+  @Test
+  void disabledByDefault() {
+    Map<String, Object> hibernateProperties = customize(new HashMap<>());
+
+    assertThat(hibernateProperties)
+        .containsOnly(Map.entry(AvailableSettings.USE_SECOND_LEVEL_CACHE, false));
+    verifyNoInteractions(cacheManagerProvider);
+  }
+
+  @Test
+  void enabled() {
+    properties.getSecondLevelCache().setEnabled(true);
+    when(cacheManagerProvider.getIfAvailable(any())).thenReturn(cacheManager);
+
+    Map<String, Object> hibernateProperties = customize(new HashMap<>());
+
+    assertThat(hibernateProperties)
+        .containsEntry(AvailableSettings.USE_SECOND_LEVEL_CACHE, true)
+        .containsEntry(AvailableSettings.USE_QUERY_CACHE, true)
+        .containsEntry(AvailableSettings.CACHE_REGION_FACTORY, "jcache")
+        .containsEntry(ConfigSettings.CACHE_MANAGER, cacheManager);
+    SecondLevelCacheConfig.REGIONS.forEach(
+        region -> verify(cacheManager).createCache(eq(region), any(MutableConfiguration.class)));
+    verify(cacheManager)
+        .createCache(
+            eq(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME),
+            any(MutableConfiguration.class));
+  }
+
+  @Test
+  void keepsExplicitHibernateProperties() {
+    Map<String, Object> hibernateProperties = new HashMap<>();
+    hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, "true");
+
+    customize(hibernateProperties);
+
+    assertThat(hibernateProperties).containsEntry(AvailableSettings.USE_SECOND_LEVEL_CACHE, "true");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void regionsExpireAfterTimeToLive() {
+    ArgumentCaptor<MutableConfiguration<Object, Object>> configuration =
+        ArgumentCaptor.forClass(MutableConfiguration.class);
+
+    SecondLevelCacheConfig.createRegions(cacheManager, Duration.ofMinutes(5));
+
+    verify(cacheManager).createCache(eq(Role.class.getName()), configuration.capture());
+    assertThat(configuration.getValue().isStoreByValue()).isFalse();
+    ExpiryPolicy expiryPolicy = configuration.getValue().getExpiryPolicyFactory().create();
+    assertThat(expiryPolicy.getExpiryForCreation().getAdjustedTime(0))
+        .isEqualTo(Duration.ofMinutes(5).toMillis());
+  }
+
+  @Test
+  void keepsExistingRegions() {
+    Cache<Object, Object> existing = mock();
+    when(cacheManager.getCache(any())).thenReturn(existing);
+
+    SecondLevelCacheConfig.createRegions(cacheManager, Duration.ofMinutes(5));
+
+    verify(cacheManager, never()).createCache(any(), any(MutableConfiguration.class));
+  }
+
+  private Map<String, Object> customize(Map<String, Object> hibernateProperties) {
+    new SecondLevelCacheConfig(properties)
+        .secondLevelCacheHibernatePropertiesCustomizer(cacheManagerProvider)
+        .customize(hibernateProperties);
+    return hibernateProperties;
+  }
+}
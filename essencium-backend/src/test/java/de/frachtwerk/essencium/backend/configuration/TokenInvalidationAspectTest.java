@@ -26,7 +26,6 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
-import de.frachtwerk.essencium.backend.model.AbstractBaseUser;
 import de.frachtwerk.essencium.backend.model.ApiTokenStatus;
 import de.frachtwerk.essencium.backend.model.Right;
 import de.frachtwerk.essencium.backend.model.Role;
@@ -47,49 +46,12 @@ class TokenInvalidationAspectTest {
       new UserTokenInvalidationAspect(tokenInvalidationServiceMock);
 
   @Test
-  void aroundUserModificationWithSingleUser() throws Throwable {
-    ProceedingJoinPoint ProceedingJoinPointMock = Mockito.mock(ProceedingJoinPoint.class);
-    AbstractBaseUser userMock = Mockito.mock(AbstractBaseUser.class);
-
-    when(ProceedingJoinPointMock.getArgs()).thenReturn(new Object[] {userMock});
-    when(userMock.getUsername()).thenReturn("testuser@example.com");
-    when(userMock.getId()).thenReturn("1L");
-
-    testSubject.beforeUserModification(ProceedingJoinPointMock);
-
-    verify(tokenInvalidationServiceMock)
-        .invalidateTokensOnUserUpdate(userMock, ApiTokenStatus.REVOKED_USER_CHANGED);
-    verifyNoMoreInteractions(tokenInvalidationServiceMock);
-  }
-
-  @Test
-  void aroundUserModificationWithUserCollection() throws Throwable {
-    ProceedingJoinPoint ProceedingJoinPointMock = Mockito.mock(ProceedingJoinPoint.class);
-    AbstractBaseUser user1Mock = Mockito.mock(AbstractBaseUser.class);
-    AbstractBaseUser user2Mock = Mockito.mock(AbstractBaseUser.class);
-    List<AbstractBaseUser> users = Arrays.asList(user1Mock, user2Mock);
-
-    when(ProceedingJoinPointMock.getArgs()).thenReturn(new Object[] {users});
-    when(user1Mock.getUsername()).thenReturn("user1@example.com");
-    when(user2Mock.getUsername()).thenReturn("user2@example.com");
-    when(user1Mock.getId()).thenReturn("1L");
-    when(user2Mock.getId()).thenReturn("2L");
-    testSubject.beforeUserModification(ProceedingJoinPointMock);
-
-    verify(tokenInvalidationServiceMock)
-        .invalidateTokensOnUserUpdate(user1Mock, ApiTokenStatus.REVOKED_USER_CHANGED);
-    verify(tokenInvalidationServiceMock)
-        .invalidateTokensOnUserUpdate(user2Mock, ApiTokenStatus.REVOKED_USER_CHANGED);
-    verifyNoMoreInteractions(tokenInvalidationServiceMock);
-  }
-
-  @Test
-  void aroundUserModificationWithNoArgs() throws Throwable {
+  void beforeRoleModificationWithNoArgs() throws Throwable {
     ProceedingJoinPoint ProceedingJoinPointMock = Mockito.mock(ProceedingJoinPoint.class);
 
     when(ProceedingJoinPointMock.getArgs()).thenReturn(new Object[] {});
 
-    testSubject.beforeUserModification(ProceedingJoinPointMock);
+    testSubject.beforeRoleModification(ProceedingJoinPointMock);
 
     verifyNoInteractions(tokenInvalidationServiceMock);
   }
@@ -170,7 +132,7 @@ class TokenInvalidationAspectTest {
   @Test
   void extractEntitiesWithUnexpectedType() throws Throwable {
     ProceedingJoinPoint ProceedingJoinPointMock = Mockito.mock(ProceedingJoinPoint.class);
-    String unexpectedArg = "not a user";
+    String unexpectedArg = "not a role";
 
     when(ProceedingJoinPointMock.getArgs()).thenReturn(new Object[] {unexpectedArg});
     when(ProceedingJoinPointMock.getSignature()).thenReturn(Mockito.mock(Signature.class));
@@ -179,7 +141,7 @@ class TokenInvalidationAspectTest {
     String message =
         assertThrows(
                 IllegalStateException.class,
-                () -> testSubject.beforeUserModification(ProceedingJoinPointMock))
+                () -> testSubject.beforeRoleModification(ProceedingJoinPointMock))
             .getMessage();
     assertEquals("Unexpected value: " + unexpectedArg, message);
 
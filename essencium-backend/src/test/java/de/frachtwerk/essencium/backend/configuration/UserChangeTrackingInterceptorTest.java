@@ -0,0 +1,251 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import de.frachtwerk.essencium.backend.api.data.user.TestUUIDUser;
+import de.frachtwerk.essencium.backend.configuration.initialization.DataInitializer;
+import de.frachtwerk.essencium.backend.model.ApiTokenStatus;
+import de.frachtwerk.essencium.backend.model.Role;
+import de.frachtwerk.essencium.backend.service.EssenciumUserDetailsCache;
+import de.frachtwerk.essencium.backend.service.TokenInvalidationService;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.collection.spi.PersistentSet;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+@ExtendWith(MockitoExtension.class)
+class UserChangeTrackingInterceptorTest {
+
+  private static final String ROLES_COLLECTION_ROLE = TestUUIDUser.class.getName() + ".roles";
+  private static final String USERNAME = "user@example.com";
+  private static final String[] PROPERTY_NAMES = {"email", "firstName", "locale", "enabled"};
+
+  @Mock private ObjectProvider<TokenInvalidationService<?, ?>> tokenInvalidationServiceProvider;
+  @Mock private TokenInvalidationService<?, ?> tokenInvalidationService;
+  @Mock private EssenciumUserDetailsCache userDetailsCache;
+
+  private UserChangeTrackingInterceptor interceptor;
+  private TestUUIDUser user;
+
+  @BeforeEach
+  void setUp() {
+    interceptor =
+        new UserChangeTrackingInterceptor(tokenInvalidationServiceProvider, userDetailsCache);
+    user =
+        TestUUIDUser.builder()
+            .id(UUID.randomUUID())
+            .email(USERNAME)
+            .firstName("John")
+            .lastName("Doe")
+            .build();
+  }
+
+  @AfterEach
+  void tearDown() {
+    verifyNoMoreInteractions(
+        tokenInvalidationServiceProvider, tokenInvalidationService, userDetailsCache);
+  }
+
+  @Test
+  void customizeRegistersInterceptor() {
+    Map<String, Object> hibernateProperties = new HashMap<>();
+
+    interceptor.customize(hibernateProperties);
+
+    assertSame(interceptor, hibernateProperties.get(AvailableSettings.INTERCEPTOR));
+  }
+
+  @Nested
+  class OnFlushDirty {
+
+    @Test
+    void irrelevantChange() {
+      Object[] previousState = {"user@example.com", "Jane", Locale.GERMAN, true};
+      Object[] currentState = {"user@example.com", "John", Locale.GERMAN, true};
+
+      assertFalse(flushDirty(user, currentState, previousState));
+
+      verify(userDetailsCache).evictAfterCommit(List.of(USERNAME));
+    }
+
+    @Test
+    void relevantChange() {
+      when(tokenInvalidationServiceProvider.getIfAvailable())
+          .thenAnswer(invocation -> tokenInvalidationService);
+      Object[] previousState = {"user@example.com", "John", Locale.GERMAN, true};
+      Object[] currentState = {"user@example.com", "John", Locale.ENGLISH, true};
+
+      assertFalse(flushDirty(user, currentState, previousState));
+
+      verify(userDetailsCache).evictAfterCommit(List.of(USERNAME));
+      verify(tokenInvalidationServiceProvider).getIfAvailable();
+      verify(tokenInvalidationService)
+          .scheduleTokenInvalidation(Set.of(USERNAME), ApiTokenStatus.REVOKED_USER_CHANGED);
+    }
+
+    @Test
+    void emailChangeInvalidatesPreviousAndCurrentUsername() {
+      when(tokenInvalidationServiceProvider.getIfAvailable())
+          .thenAnswer(invocation -> tokenInvalidationService);
+      Object[] previousState = {"old@example.com", "John", Locale.GERMAN, true};
+      Object[] currentState = {"user@example.com", "John", Locale.GERMAN, true};
+
+      assertFalse(flushDirty(user, currentState, previousState));
+
+      verify(userDetailsCache).evictAfterCommit(List.of(USERNAME));
+      verify(tokenInvalidationServiceProvider).getIfAvailable();
+      verify(tokenInvalidationService)
+          .scheduleTokenInvalidation(
+              Set.of("old@example.com", "user@example.com"), ApiTokenStatus.REVOKED_USER_CHANGED);
+    }
+
+    @Test
+    void serviceNotAvailable() {
+      when(tokenInvalidationServiceProvider.getIfAvailable()).thenReturn(null);
+      Object[] previousState = {"user@example.com", "John", Locale.GERMAN, true};
+      Object[] currentState = {"user@example.com", "John", Locale.GERMAN, false};
+
+      assertFalse(flushDirty(user, currentState, previousState));
+
+      verify(userDetailsCache).evictAfterCommit(List.of(USERNAME));
+      verify(tokenInvalidationServiceProvider).getIfAvailable();
+    }
+
+    @Test
+    void calledFromDataInitializer() {
+      Object[] previousState = {"user@example.com", "John", Locale.GERMAN, true};
+      Object[] currentState = {"user@example.com", "John", Locale.ENGLISH, true};
+      DataInitializer initializer =
+          new DataInitializer() {
+            @Override
+            public void run() {
+              assertFalse(flushDirty(user, currentState, previousState));
+            }
+          };
+
+      initializer.run();
+
+      verify(userDetailsCache).evictAfterCommit(List.of(USERNAME));
+    }
+
+    @Test
+    void otherEntity() {
+      Object[] previousState = {"user@example.com", "John", Locale.GERMAN, true};
+      Object[] currentState = {"other@example.com", "John", Locale.ENGLISH, false};
+
+      assertFalse(flushDirty(Role.builder().name("ADMIN").build(), currentState, previousState));
+    }
+
+    private boolean flushDirty(Object entity, Object[] currentState, Object[] previousState) {
+      return interceptor.onFlushDirty(
+          entity, user.getId(), currentState, previousState, PROPERTY_NAMES, null);
+    }
+  }
+
+  @Nested
+  class OnCollectionChange {
+
+    private final Role admin = Role.builder().name("ADMIN").build();
+    private final Role editor = Role.builder().name("EDITOR").build();
+
+    @Test
+    void sameRolesAssignedAgain() {
+      PersistentSet<Role> roles = loadedRoles(admin);
+      roles.clear();
+      roles.add(admin);
+
+      interceptor.onCollectionUpdate(roles, user.getId());
+    }
+
+    @Test
+    void rolesModifiedInPlace() {
+      when(tokenInvalidationServiceProvider.getIfAvailable())
+          .thenAnswer(invocation -> tokenInvalidationService);
+      PersistentSet<Role> roles = loadedRoles(admin);
+      roles.add(editor);
+
+      interceptor.onCollectionUpdate(roles, user.getId());
+
+      verify(tokenInvalidationServiceProvider).getIfAvailable();
+      verify(tokenInvalidationService)
+          .scheduleTokenInvalidation(Set.of(USERNAME), ApiTokenStatus.REVOKED_USER_CHANGED);
+    }
+
+    @Test
+    void rolesCollectionReplaced() {
+      when(tokenInvalidationServiceProvider.getIfAvailable())
+          .thenAnswer(invocation -> tokenInvalidationService);
+      PersistentSet<Role> roles = loadedRoles(admin);
+      user.setRoles(new HashSet<>(List.of(editor)));
+
+      interceptor.onCollectionRemove(roles, user.getId());
+
+      verify(tokenInvalidationServiceProvider).getIfAvailable();
+      verify(tokenInvalidationService)
+          .scheduleTokenInvalidation(Set.of(USERNAME), ApiTokenStatus.REVOKED_USER_CHANGED);
+    }
+
+    @Test
+    void rolesCollectionReplacedByEqualRoles() {
+      PersistentSet<Role> roles = loadedRoles(admin);
+      user.setRoles(new HashSet<>(List.of(admin)));
+
+      interceptor.onCollectionRemove(roles, user.getId());
+    }
+
+    @Test
+    void userDeleted() {
+      PersistentSet<Role> roles = loadedRoles(admin);
+
+      interceptor.onCollectionRemove(roles, user.getId());
+    }
+
+    private PersistentSet<Role> loadedRoles(Role... loaded) {
+      PersistentSet<Role> roles = new PersistentSet<>(null, new HashSet<>(List.of(loaded)));
+      HashMap<Role, Role> snapshot = new HashMap<>();
+      for (Role role : loaded) {
+        snapshot.put(role, role);
+      }
+      roles.setSnapshot(user.getId(), ROLES_COLLECTION_ROLE, snapshot);
+      roles.setOwner(user);
+      user.setRoles(roles);
+      return roles;
+    }
+  }
+}
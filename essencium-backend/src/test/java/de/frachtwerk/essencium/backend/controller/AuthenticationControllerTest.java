@@ -48,6 +48,7 @@ import de.frachtwerk.essencium.backend.model.SessionTokenType;
 import de.frachtwerk.essencium.backend.model.dto.EssenciumUserDetails;
 import de.frachtwerk.essencium.backend.model.dto.LoginRequest;
 import de.frachtwerk.essencium.backend.model.dto.TokenResponse;
+import de.frachtwerk.essencium.backend.security.BruteForceProtectionService;
 import de.frachtwerk.essencium.backend.security.JwtTokenAuthenticationFilter;
 import de.frachtwerk.essencium.backend.security.event.CustomAuthenticationSuccessEvent;
 import de.frachtwerk.essencium.backend.service.JwtTokenService;
@@ -100,6 +101,7 @@ class AuthenticationControllerTest {
   @Mock private ApplicationEventPublisher applicationEventPublisherMock;
   @Mock private OAuth2ClientRegistrationProperties oAuth2ClientRegistrationPropertiesMock;
   @Mock private AppOAuth2Properties appOAuth2PropertiesMock;
+  @Mock private BruteForceProtectionService<?, ?> bruteForceProtectionServiceMock;
 
   @InjectMocks AuthenticationController authenticationController;
 
@@ -108,7 +110,10 @@ class AuthenticationControllerTest {
     LoginRequest loginRequest =
         new LoginRequest("test@example.com", "verySecurePassword123456789!#");
     String userAgent = "Unit Test";
+    HttpServletRequest httpServletRequest = mock(HttpServletRequest.class);
     HttpServletResponse httpServletResponse = mock(HttpServletResponse.class);
+    when(httpServletRequest.getRemoteAddr()).thenReturn("127.0.0.1");
+    when(bruteForceProtectionServiceMock.isThrottled("127.0.0.1")).thenReturn(false);
 
     LocalDateTime now = LocalDateTime.now();
     SessionToken sessionToken =
@@ -156,7 +161,8 @@ class AuthenticationControllerTest {
     when(jwtTokenServiceMock.renew(token, userAgent)).thenReturn(token);
 
     TokenResponse tokenResponse =
-        authenticationController.postLogin(loginRequest, userAgent, httpServletResponse);
+        authenticationController.postLogin(
+            loginRequest, userAgent, httpServletRequest, httpServletResponse);
 
     assertNotNull(tokenResponse);
     assertNotNull(tokenResponse.token());
@@ -180,14 +186,19 @@ class AuthenticationControllerTest {
     LoginRequest loginRequest =
         new LoginRequest("test@example.com", "verySecurePassword123456789!#");
     String userAgent = "Unit Test";
+    HttpServletRequest httpServletRequest = mock(HttpServletRequest.class);
     HttpServletResponse httpServletResponse = mock(HttpServletResponse.class);
+    when(httpServletRequest.getRemoteAddr()).thenReturn("127.0.0.1");
+    when(bruteForceProtectionServiceMock.isThrottled("127.0.0.1")).thenReturn(false);
 
     when(authenticationManagerMock.authenticate(any())).thenThrow(BadCredentialsException.class);
 
     ResponseStatusException responseStatusException =
         assertThrows(
             ResponseStatusException.class,
-            () -> authenticationController.postLogin(loginRequest, userAgent, httpServletResponse));
+            () ->
+                authenticationController.postLogin(
+                    loginRequest, userAgent, httpServletRequest, httpServletResponse));
     assertEquals(HttpStatus.UNAUTHORIZED, responseStatusException.getStatusCode());
     verify(authenticationManagerMock, times(1)).authenticate(any());
     verifyNoMoreInteractions(authenticationManagerMock);
@@ -196,6 +207,27 @@ class AuthenticationControllerTest {
     verifyNoMoreInteractions(appConfigJwtPropertiesMock);
   }
 
+  @Test
+  void postLoginThrottled() {
+    LoginRequest loginRequest =
+        new LoginRequest("test@example.com", "verySecurePassword123456789!#");
+    HttpServletRequest httpServletRequest = mock(HttpServletRequest.class);
+    HttpServletResponse httpServletResponse = mock(HttpServletResponse.class);
+    when(httpServletRequest.getRemoteAddr()).thenReturn("127.0.0.1");
+    when(bruteForceProtectionServiceMock.isThrottled("127.0.0.1")).thenReturn(true);
+
+    ResponseStatusException responseStatusException =
+        assertThrows(
+            ResponseStatusException.class,
+            () ->
+                authenticationController.postLogin(
+                    loginRequest, "Unit Test", httpServletRequest, httpServletResponse));
+    assertEquals(HttpStatus.TOO_MANY_REQUESTS, responseStatusException.getStatusCode());
+    verifyNoMoreInteractions(authenticationManagerMock);
+    verifyNoMoreInteractions(applicationEventPublisherMock);
+    verifyNoMoreInteractions(jwtTokenServiceMock);
+  }
+
   @Test
   void postRenew() {
     String userAgent = "Unit Test";
@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ser.std.SimpleBeanPropertyFilter;
+import tools.jackson.databind.ser.std.SimpleFilterProvider;
+
+class JsonArrayWriterTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+  @Test
+  void writesElementsAsArray() throws Exception {
+    JsonArrayWriter.<Entry>write(
+        response,
+        objectMapper.writer(),
+        consumer -> {
+          consumer.accept(new Entry(1L, "first"));
+          consumer.accept(new Entry(2L, "second"));
+        });
+
+    assertThat(response.getContentType()).startsWith(MediaType.APPLICATION_JSON_VALUE);
+    assertThat(response.getContentAsString())
+        .isEqualTo("[{\"id\":1,\"name\":\"first\"},{\"id\":2,\"name\":\"second\"}]");
+  }
+
+  @Test
+  void appliesFiltersOfWriter() throws Exception {
+    SimpleFilterProvider filters =
+        new SimpleFilterProvider()
+            .addFilter("entryFilter", SimpleBeanPropertyFilter.filterOutAllExcept("id"));
+
+    JsonArrayWriter.<FilteredEntry>write(
+        response,
+        objectMapper.writer(filters),
+        consumer -> consumer.accept(new FilteredEntry(1L, "secret")));
+
+    assertThat(response.getContentAsString()).isEqualTo("[{\"id\":1}]");
+  }
+
+  @Test
+  void writesEmptyArray() throws Exception {
+    JsonArrayWriter.write(response, objectMapper.writer(), consumer -> {});
+
+    assertThat(response.getContentAsString()).isEqualTo("[]");
+  }
+
+  record Entry(long id, String name) {}
+
+  @JsonFilter("entryFilter")
+  record FilteredEntry(long id, String name) {}
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import tools.jackson.databind.ObjectMapper;
+
+class JsonObjectWriterTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+  @Test
+  void writesEntriesAsObject() throws Exception {
+    JsonObjectWriter.<List<String>>write(
+        response,
+        objectMapper.writer(),
+        consumer -> {
+          consumer.accept("1", List.of("first", "second"));
+          consumer.accept("2", List.of());
+        });
+
+    assertThat(response.getContentType()).startsWith(MediaType.APPLICATION_JSON_VALUE);
+    assertThat(response.getContentAsString()).isEqualTo("{\"1\":[\"first\",\"second\"],\"2\":[]}");
+  }
+
+  @Test
+  void writesEmptyObject() throws Exception {
+    JsonObjectWriter.write(response, objectMapper.writer(), consumer -> {});
+
+    assertThat(response.getContentAsString()).isEqualTo("{}");
+  }
+}
@@ -24,6 +24,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -39,25 +40,34 @@ import de.frachtwerk.essencium.backend.model.assembler.LongUserAssembler;
 import de.frachtwerk.essencium.backend.model.dto.BaseUserDto;
 import de.frachtwerk.essencium.backend.model.dto.EssenciumUserDetails;
 import de.frachtwerk.essencium.backend.model.exception.DuplicateResourceException;
+import de.frachtwerk.essencium.backend.model.exception.InvalidInputException;
 import de.frachtwerk.essencium.backend.model.exception.ResourceNotFoundException;
 import de.frachtwerk.essencium.backend.model.representation.TokenRepresentation;
 import de.frachtwerk.essencium.backend.repository.specification.BaseUserSpec;
 import io.jsonwebtoken.Jwts;
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
-import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
 
 class LongUserControllerTest {
 
@@ -235,9 +245,8 @@ class LongUserControllerTest {
 
   @Test
   void getMyTokens() {
-    UserStub userMock = mock(UserStub.class);
-    SessionToken mockedAccessToken = mock(SessionToken.class);
     EssenciumUserDetails essenciumUserDetails = mock(EssenciumUserDetails.class);
+    LocalDateTime lastUsed = LocalDateTime.now().minusHours(1);
 
     SessionToken sessionToken =
         SessionToken.builder()
@@ -248,11 +257,9 @@ class LongUserControllerTest {
             .issuedAt(Date.from(LocalDateTime.now().minusWeeks(1).toInstant(ZoneOffset.UTC)))
             .expiration(Date.from(LocalDateTime.now().plusWeeks(1).toInstant(ZoneOffset.UTC)))
             .parentToken(null)
-            .accessTokens(List.of(mockedAccessToken))
             .userAgent("test")
+            .lastUsed(Date.from(lastUsed.toInstant(ZoneOffset.UTC)))
             .build();
-    LocalDateTime lastUsed = LocalDateTime.now().minusHours(1);
-    when(mockedAccessToken.getIssuedAt()).thenReturn(Date.from(lastUsed.toInstant(ZoneOffset.UTC)));
     when(userServiceMock.getTokens(essenciumUserDetails.getUsername()))
         .thenReturn(List.of(sessionToken));
     List<TokenRepresentation> myTokens = testSubject.getMyTokens(essenciumUserDetails);
@@ -287,117 +294,148 @@ class LongUserControllerTest {
   class TokenAdministration {
     private static final String USERNAME = "testuser";
 
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
     @Test
-    void findAllWithTokens_Empty() {
+    void findAllWithTokens_Empty() throws IOException {
       BaseUserSpec<UserStub, Long> baseUserSpec = mock(BaseUserSpec.class);
-      when(userServiceMock.getAllFiltered(baseUserSpec)).thenReturn(Collections.emptyList());
 
       Map<String, List<TokenRepresentation>> allWithTokens =
-          testSubject.findAllWithTokens(baseUserSpec);
+          findAllWithTokens(baseUserSpec, consumer -> {});
       assertThat(allWithTokens).isEmpty();
 
-      verify(userServiceMock, times(1)).getAllFiltered(baseUserSpec);
+      verify(userServiceMock, times(1)).streamTokensFiltered(eq(baseUserSpec), any(), any());
       verifyNoMoreInteractions(userServiceMock);
     }
 
     @Test
-    void findAllWithTokens_OneUserNoTokens() {
+    void findAllWithTokens_OneUserNoTokens() throws IOException {
       BaseUserSpec<UserStub, Long> baseUserSpec = mock(BaseUserSpec.class);
-      UserStub userMock = mock(UserStub.class);
-      when(userServiceMock.getAllFiltered(baseUserSpec)).thenReturn(List.of(userMock));
-      when(userMock.getUsername()).thenReturn(USERNAME);
-      when(userServiceMock.getTokens(USERNAME)).thenReturn(Collections.emptyList());
 
       Map<String, List<TokenRepresentation>> allWithTokens =
-          testSubject.findAllWithTokens(baseUserSpec);
+          findAllWithTokens(baseUserSpec, consumer -> consumer.accept(42L, List.of()));
       assertThat(allWithTokens).hasSize(1);
-      assertThat(allWithTokens.get(String.valueOf(userMock.getId()))).isEmpty();
+      assertThat(allWithTokens.get("42")).isEmpty();
 
-      verify(userServiceMock, times(1)).getAllFiltered(baseUserSpec);
-      verify(userServiceMock, times(1)).getTokens(USERNAME);
+      verify(userServiceMock, times(1)).streamTokensFiltered(eq(baseUserSpec), any(), any());
       verifyNoMoreInteractions(userServiceMock);
     }
 
     @Test
-    void findAllWithTokens_OneUserOneToken() {
+    void findAllWithTokens_OneUserOneToken() throws IOException {
       BaseUserSpec<UserStub, Long> baseUserSpec = mock(BaseUserSpec.class);
-      UserStub userMock = mock(UserStub.class);
-      SessionToken sessionToken1 = SessionToken.builder().id(UUID.randomUUID()).build();
-      when(userServiceMock.getAllFiltered(baseUserSpec)).thenReturn(List.of(userMock));
-      when(userMock.getUsername()).thenReturn(USERNAME);
-      when(userServiceMock.getTokens(USERNAME)).thenReturn(List.of(sessionToken1));
+      TokenRepresentation token1 = TokenRepresentation.builder().id(UUID.randomUUID()).build();
 
       Map<String, List<TokenRepresentation>> allWithTokens =
-          testSubject.findAllWithTokens(baseUserSpec);
+          findAllWithTokens(baseUserSpec, consumer -> consumer.accept(42L, List.of(token1)));
       assertThat(allWithTokens).hasSize(1);
-      assertThat(allWithTokens.get(String.valueOf(userMock.getId()))).hasSize(1);
-      assertThat(allWithTokens.get(String.valueOf(userMock.getId())).getFirst().getId())
-          .isEqualTo(sessionToken1.getId());
+      assertThat(allWithTokens.get("42")).hasSize(1);
+      assertThat(allWithTokens.get("42").getFirst().getId()).isEqualTo(token1.getId());
 
-      verify(userServiceMock, times(1)).getAllFiltered(baseUserSpec);
-      verify(userServiceMock, times(1)).getTokens(USERNAME);
+      verify(userServiceMock, times(1)).streamTokensFiltered(eq(baseUserSpec), any(), any());
       verifyNoMoreInteractions(userServiceMock);
     }
 
     @Test
-    void findAllWithTokens_OneUserManyTokens() {
+    void findAllWithTokens_OneUserManyTokens() throws IOException {
       BaseUserSpec<UserStub, Long> baseUserSpec = mock(BaseUserSpec.class);
-      UserStub userMock = mock(UserStub.class);
-      SessionToken sessionToken1 = SessionToken.builder().id(UUID.randomUUID()).build();
-      SessionToken sessionToken2 = SessionToken.builder().id(UUID.randomUUID()).build();
-      when(userServiceMock.getAllFiltered(baseUserSpec)).thenReturn(List.of(userMock));
-      when(userMock.getUsername()).thenReturn(USERNAME);
-      when(userServiceMock.getTokens(USERNAME)).thenReturn(List.of(sessionToken1, sessionToken2));
+      TokenRepresentation token1 = TokenRepresentation.builder().id(UUID.randomUUID()).build();
+      TokenRepresentation token2 = TokenRepresentation.builder().id(UUID.randomUUID()).build();
 
       Map<String, List<TokenRepresentation>> allWithTokens =
-          testSubject.findAllWithTokens(baseUserSpec);
+          findAllWithTokens(
+              baseUserSpec, consumer -> consumer.accept(42L, List.of(token1, token2)));
       assertThat(allWithTokens).hasSize(1);
-      assertThat(allWithTokens.get(String.valueOf(userMock.getId()))).hasSize(2);
-      assertThat(
-              allWithTokens.get(String.valueOf(userMock.getId())).stream()
-                  .map(TokenRepresentation::getId))
-          .containsExactlyInAnyOrder(sessionToken1.getId(), sessionToken2.getId());
+      assertThat(allWithTokens.get("42").stream().map(TokenRepresentation::getId))
+          .containsExactly(token1.getId(), token2.getId());
 
-      verify(userServiceMock, times(1)).getAllFiltered(baseUserSpec);
-      verify(userServiceMock, times(1)).getTokens(USERNAME);
+      verify(userServiceMock, times(1)).streamTokensFiltered(eq(baseUserSpec), any(), any());
       verifyNoMoreInteractions(userServiceMock);
     }
 
     @Test
-    void findAllWithTokens_ManyUserOneTokenEach() {
+    void findAllWithTokens_ManyUserOneTokenEach() throws IOException {
       BaseUserSpec<UserStub, Long> baseUserSpec = mock(BaseUserSpec.class);
-      UserStub userMock1 = mock(UserStub.class);
-      UserStub userMock2 = mock(UserStub.class);
-      SessionToken sessionToken1 = SessionToken.builder().id(UUID.randomUUID()).build();
-      SessionToken sessionToken2 = SessionToken.builder().id(UUID.randomUUID()).build();
-      when(userServiceMock.getAllFiltered(baseUserSpec)).thenReturn(List.of(userMock1, userMock2));
-      when(userMock1.getId()).thenReturn(42L);
-      when(userMock2.getId()).thenReturn(43L);
-      when(userMock1.getUsername()).thenReturn(USERNAME + "1");
-      when(userMock2.getUsername()).thenReturn(USERNAME + "2");
-      when(userServiceMock.getTokens(USERNAME + "1")).thenReturn(List.of(sessionToken1));
-      when(userServiceMock.getTokens(USERNAME + "2")).thenReturn(List.of(sessionToken2));
+      TokenRepresentation token1 = TokenRepresentation.builder().id(UUID.randomUUID()).build();
+      TokenRepresentation token2 = TokenRepresentation.builder().id(UUID.randomUUID()).build();
 
       Map<String, List<TokenRepresentation>> allWithTokens =
-          testSubject.findAllWithTokens(baseUserSpec);
+          findAllWithTokens(
+              baseUserSpec,
+              consumer -> {
+                consumer.accept(42L, List.of(token1));
+                consumer.accept(43L, List.of(token2));
+              });
       assertThat(allWithTokens).hasSize(2);
-      assertThat(allWithTokens.get(String.valueOf(userMock1.getId()))).hasSize(1);
-      assertThat(
-              allWithTokens.get(String.valueOf(userMock1.getId())).stream()
-                  .map(TokenRepresentation::getId))
-          .containsExactlyInAnyOrder(sessionToken1.getId());
-      assertThat(allWithTokens.get(String.valueOf(userMock2.getId()))).hasSize(1);
-      assertThat(
-              allWithTokens.get(String.valueOf(userMock2.getId())).stream()
-                  .map(TokenRepresentation::getId))
-          .containsExactlyInAnyOrder(sessionToken2.getId());
-
-      verify(userServiceMock, times(1)).getAllFiltered(baseUserSpec);
-      verify(userServiceMock, times(1)).getTokens(USERNAME + "1");
-      verify(userServiceMock, times(1)).getTokens(USERNAME + "2");
+      assertThat(allWithTokens.get("42").stream().map(TokenRepresentation::getId))
+          .containsExactly(token1.getId());
+      assertThat(allWithTokens.get("43").stream().map(TokenRepresentation::getId))
+          .containsExactly(token2.getId());
+
+      verify(userServiceMock, times(1)).streamTokensFiltered(eq(baseUserSpec), any(), any());
       verifyNoMoreInteractions(userServiceMock);
     }
 
+    @Test
+    void findAllWithTokens_Unpaged() throws IOException {
+      BaseUserSpec<UserStub, Long> baseUserSpec = mock(BaseUserSpec.class);
+      Sort sort = Sort.by("email");
+
+      testSubject.findAllWithTokens(baseUserSpec, null, null, sort, response);
+
+      ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+      verify(userServiceMock).streamTokensFiltered(eq(baseUserSpec), pageable.capture(), any());
+      assertThat(pageable.getValue().isUnpaged()).isTrue();
+      assertThat(pageable.getValue().getSort()).isEqualTo(sort);
+      verifyNoMoreInteractions(userServiceMock);
+    }
+
+    @Test
+    void findAllWithTokens_Paged() throws IOException {
+      BaseUserSpec<UserStub, Long> baseUserSpec = mock(BaseUserSpec.class);
+      Sort sort = Sort.by("email");
+
+      testSubject.findAllWithTokens(baseUserSpec, 2, null, sort, response);
+
+      verify(userServiceMock)
+          .streamTokensFiltered(eq(baseUserSpec), eq(PageRequest.of(2, 20, sort)), any());
+      verifyNoMoreInteractions(userServiceMock);
+    }
+
+    @Test
+    void findAllWithTokens_InvalidPage() {
+      BaseUserSpec<UserStub, Long> baseUserSpec = mock(BaseUserSpec.class);
+
+      assertThrows(
+          InvalidInputException.class,
+          () -> testSubject.findAllWithTokens(baseUserSpec, -1, 10, Sort.unsorted(), response));
+      assertThrows(
+          InvalidInputException.class,
+          () -> testSubject.findAllWithTokens(baseUserSpec, 0, 0, Sort.unsorted(), response));
+
+      verifyNoMoreInteractions(userServiceMock);
+    }
+
+    private Map<String, List<TokenRepresentation>> findAllWithTokens(
+        BaseUserSpec<UserStub, Long> baseUserSpec,
+        Consumer<BiConsumer<Long, List<TokenRepresentation>>> tokensByUser)
+        throws IOException {
+      doAnswer(
+              invocation -> {
+                tokensByUser.accept(invocation.getArgument(2));
+                return null;
+              })
+          .when(userServiceMock)
+          .streamTokensFiltered(eq(baseUserSpec), any(), any());
+
+      testSubject.findAllWithTokens(baseUserSpec, null, null, Sort.unsorted(), response);
+
+      return new ObjectMapper()
+          .readValue(
+              response.getContentAsString(),
+              new TypeReference<Map<String, List<TokenRepresentation>>>() {});
+    }
+
     @Test
     void getTokensByUserId_UserNotFound() {
       BaseUserSpec<UserStub, Long> baseUserSpec = mock(BaseUserSpec.class);
@@ -24,6 +24,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -41,17 +42,23 @@ import de.frachtwerk.essencium.backend.model.exception.ResourceNotFoundException
 import de.frachtwerk.essencium.backend.model.representation.TokenRepresentation;
 import de.frachtwerk.essencium.backend.model.representation.assembler.UserRepresentationDefaultAssembler;
 import de.frachtwerk.essencium.backend.repository.specification.BaseUserSpec;
-import java.util.Collections;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
 
 class UUIDUserControllerTest {
 
@@ -231,120 +238,118 @@ class UUIDUserControllerTest {
   class TokenAdministration {
     private static final String USERNAME = "testuser";
 
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
     @Test
-    void findAllWithTokens_Empty() {
+    void findAllWithTokens_Empty() throws IOException {
       BaseUserSpec<TestUUIDUser, UUID> baseUserSpec = mock(BaseUserSpec.class);
-      when(userServiceMock.getAllFiltered(baseUserSpec)).thenReturn(Collections.emptyList());
 
       Map<String, List<TokenRepresentation>> allWithTokens =
-          testSubject.findAllWithTokens(baseUserSpec);
+          findAllWithTokens(baseUserSpec, consumer -> {});
       assertThat(allWithTokens).isEmpty();
 
-      verify(userServiceMock, times(1)).getAllFiltered(baseUserSpec);
+      verify(userServiceMock, times(1)).streamTokensFiltered(eq(baseUserSpec), any(), any());
       verifyNoMoreInteractions(userServiceMock);
     }
 
     @Test
-    void findAllWithTokens_OneUserNoTokens() {
+    void findAllWithTokens_OneUserNoTokens() throws IOException {
       BaseUserSpec<TestUUIDUser, UUID> baseUserSpec = mock(BaseUserSpec.class);
-      TestUUIDUser userMock = mock(TestUUIDUser.class);
-      when(userServiceMock.getAllFiltered(baseUserSpec)).thenReturn(List.of(userMock));
-      when(userMock.getUsername()).thenReturn(USERNAME);
-      when(userMock.getId()).thenReturn(UUID.randomUUID());
-      when(userServiceMock.getTokens(USERNAME)).thenReturn(Collections.emptyList());
+      UUID userId = UUID.randomUUID();
 
       Map<String, List<TokenRepresentation>> allWithTokens =
-          testSubject.findAllWithTokens(baseUserSpec);
+          findAllWithTokens(baseUserSpec, consumer -> consumer.accept(userId, List.of()));
       assertThat(allWithTokens).hasSize(1);
-      assertThat(allWithTokens.get(String.valueOf(userMock.getId()))).isEmpty();
+      assertThat(allWithTokens.get(String.valueOf(userId))).isEmpty();
 
-      verify(userServiceMock, times(1)).getAllFiltered(baseUserSpec);
-      verify(userServiceMock, times(1)).getTokens(USERNAME);
+      verify(userServiceMock, times(1)).streamTokensFiltered(eq(baseUserSpec), any(), any());
       verifyNoMoreInteractions(userServiceMock);
     }
 
     @Test
-    void findAllWithTokens_OneUserOneToken() {
+    void findAllWithTokens_OneUserOneToken() throws IOException {
       BaseUserSpec<TestUUIDUser, UUID> baseUserSpec = mock(BaseUserSpec.class);
-      TestUUIDUser userMock = mock(TestUUIDUser.class);
-      SessionToken sessionToken1 = SessionToken.builder().id(UUID.randomUUID()).build();
-      when(userServiceMock.getAllFiltered(baseUserSpec)).thenReturn(List.of(userMock));
-      when(userMock.getUsername()).thenReturn(USERNAME);
-      when(userMock.getId()).thenReturn(UUID.randomUUID());
-      when(userServiceMock.getTokens(USERNAME)).thenReturn(List.of(sessionToken1));
+      UUID userId = UUID.randomUUID();
+      TokenRepresentation token1 = TokenRepresentation.builder().id(UUID.randomUUID()).build();
 
       Map<String, List<TokenRepresentation>> allWithTokens =
-          testSubject.findAllWithTokens(baseUserSpec);
+          findAllWithTokens(baseUserSpec, consumer -> consumer.accept(userId, List.of(token1)));
       assertThat(allWithTokens).hasSize(1);
-      assertThat(allWithTokens.get(String.valueOf(userMock.getId()))).hasSize(1);
-      assertThat(allWithTokens.get(String.valueOf(userMock.getId())).getFirst().getId())
-          .isEqualTo(sessionToken1.getId());
+      assertThat(allWithTokens.get(String.valueOf(userId))).hasSize(1);
+      assertThat(allWithTokens.get(String.valueOf(userId)).getFirst().getId())
+          .isEqualTo(token1.getId());
 
-      verify(userServiceMock, times(1)).getAllFiltered(baseUserSpec);
-      verify(userServiceMock, times(1)).getTokens(USERNAME);
+      verify(userServiceMock, times(1)).streamTokensFiltered(eq(baseUserSpec), any(), any());
       verifyNoMoreInteractions(userServiceMock);
     }
 
     @Test
-    void findAllWithTokens_OneUserManyTokens() {
+    void findAllWithTokens_OneUserManyTokens() throws IOException {
       BaseUserSpec<TestUUIDUser, UUID> baseUserSpec = mock(BaseUserSpec.class);
-      TestUUIDUser userMock = mock(TestUUIDUser.class);
-      SessionToken sessionToken1 = SessionToken.builder().id(UUID.randomUUID()).build();
-      SessionToken sessionToken2 = SessionToken.builder().id(UUID.randomUUID()).build();
-      when(userServiceMock.getAllFiltered(baseUserSpec)).thenReturn(List.of(userMock));
-      when(userMock.getUsername()).thenReturn(USERNAME);
-      when(userMock.getId()).thenReturn(UUID.randomUUID());
-      when(userServiceMock.getTokens(USERNAME)).thenReturn(List.of(sessionToken1, sessionToken2));
+      UUID userId = UUID.randomUUID();
+      TokenRepresentation token1 = TokenRepresentation.builder().id(UUID.randomUUID()).build();
+      TokenRepresentation token2 = TokenRepresentation.builder().id(UUID.randomUUID()).build();
 
       Map<String, List<TokenRepresentation>> allWithTokens =
-          testSubject.findAllWithTokens(baseUserSpec);
+          findAllWithTokens(
+              baseUserSpec, consumer -> consumer.accept(userId, List.of(token1, token2)));
       assertThat(allWithTokens).hasSize(1);
-      assertThat(allWithTokens.get(String.valueOf(userMock.getId()))).hasSize(2);
-      assertThat(
-              allWithTokens.get(String.valueOf(userMock.getId())).stream()
-                  .map(TokenRepresentation::getId))
-          .containsExactlyInAnyOrder(sessionToken1.getId(), sessionToken2.getId());
+      assertThat(allWithTokens.get(String.valueOf(userId)).stream().map(TokenRepresentation::getId))
+          .containsExactly(token1.getId(), token2.getId());
 
-      verify(userServiceMock, times(1)).getAllFiltered(baseUserSpec);
-      verify(userServiceMock, times(1)).getTokens(USERNAME);
+      verify(userServiceMock, times(1)).streamTokensFiltered(eq(baseUserSpec), any(), any());
       verifyNoMoreInteractions(userServiceMock);
     }
 
     @Test
-    void findAllWithTokens_ManyUserOneTokenEach() {
+    void findAllWithTokens_ManyUserOneTokenEach() throws IOException {
       BaseUserSpec<TestUUIDUser, UUID> baseUserSpec = mock(BaseUserSpec.class);
-      TestUUIDUser userMock1 = mock(TestUUIDUser.class);
-      TestUUIDUser userMock2 = mock(TestUUIDUser.class);
-      SessionToken sessionToken1 = SessionToken.builder().id(UUID.randomUUID()).build();
-      SessionToken sessionToken2 = SessionToken.builder().id(UUID.randomUUID()).build();
-      when(userServiceMock.getAllFiltered(baseUserSpec)).thenReturn(List.of(userMock1, userMock2));
-      when(userMock1.getId()).thenReturn(UUID.randomUUID());
-      when(userMock2.getId()).thenReturn(UUID.randomUUID());
-      when(userMock1.getUsername()).thenReturn(USERNAME + "1");
-      when(userMock2.getUsername()).thenReturn(USERNAME + "2");
-      when(userServiceMock.getTokens(USERNAME + "1")).thenReturn(List.of(sessionToken1));
-      when(userServiceMock.getTokens(USERNAME + "2")).thenReturn(List.of(sessionToken2));
+      UUID userId1 = UUID.randomUUID();
+      UUID userId2 = UUID.randomUUID();
+      TokenRepresentation token1 = TokenRepresentation.builder().id(UUID.randomUUID()).build();
+      TokenRepresentation token2 = TokenRepresentation.builder().id(UUID.randomUUID()).build();
 
       Map<String, List<TokenRepresentation>> allWithTokens =
-          testSubject.findAllWithTokens(baseUserSpec);
+          findAllWithTokens(
+              baseUserSpec,
+              consumer -> {
+                consumer.accept(userId1, List.of(token1));
+                consumer.accept(userId2, List.of(token2));
+              });
       assertThat(allWithTokens).hasSize(2);
-      assertThat(allWithTokens.get(String.valueOf(userMock1.getId()))).hasSize(1);
       assertThat(
-              allWithTokens.get(String.valueOf(userMock1.getId())).stream()
+              allWithTokens.get(String.valueOf(userId1)).stream()
                   .map(TokenRepresentation::getId))
-          .containsExactlyInAnyOrder(sessionToken1.getId());
-      assertThat(allWithTokens.get(String.valueOf(userMock2.getId()))).hasSize(1);
+          .containsExactly(token1.getId());
       assertThat(
-              allWithTokens.get(String.valueOf(userMock2.getId())).stream()
+              allWithTokens.get(String.valueOf(userId2)).stream()
                   .map(TokenRepresentation::getId))
-          .containsExactlyInAnyOrder(sessionToken2.getId());
+          .containsExactly(token2.getId());
 
-      verify(userServiceMock, times(1)).getAllFiltered(baseUserSpec);
-      verify(userServiceMock, times(1)).getTokens(USERNAME + "1");
-      verify(userServiceMock, times(1)).getTokens(USERNAME + "2");
+      verify(userServiceMock, times(1)).streamTokensFiltered(eq(baseUserSpec), any(), any());
       verifyNoMoreInteractions(userServiceMock);
     }
 
+    private Map<String, List<TokenRepresentation>> findAllWithTokens(
+        BaseUserSpec<TestUUIDUser, UUID> baseUserSpec,
+        Consumer<BiConsumer<UUID, List<TokenRepresentation>>> tokensByUser)
+        throws IOException {
+      doAnswer(
+              invocation -> {
+                tokensByUser.accept(invocation.getArgument(2));
+                return null;
+              })
+          .when(userServiceMock)
+          .streamTokensFiltered(eq(baseUserSpec), any(), any());
+
+      testSubject.findAllWithTokens(baseUserSpec, null, null, Sort.unsorted(), response);
+
+      return new ObjectMapper()
+          .readValue(
+              response.getContentAsString(),
+              new TypeReference<Map<String, List<TokenRepresentation>>>() {});
+    }
+
     @Test
     void getTokensByUserId_UserNotFound() {
       BaseUserSpec<TestUUIDUser, UUID> baseUserSpec = mock(BaseUserSpec.class);
@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.controller.access;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import de.frachtwerk.essencium.backend.controller.advice.AccessAwareJsonViewAdvice;
+import de.frachtwerk.essencium.backend.model.dto.EssenciumUserDetails;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.ser.FilterProvider;
+import tools.jackson.databind.ser.std.SimpleFilterProvider;
+
+/**
+ * Measures the serialization throughput of a list of 1,000 entries with and without {@link
+ * AccessAwareJsonFilter}, i.e. with and without the filter provider that {@link
+ * AccessAwareJsonViewAdvice} attaches to a response. Not part of the test suite, run it via {@link
+ * #main(String[])} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccessAwareJsonFilterBenchmark {
+
+  private static final int ENTRIES = 1_000;
+
+  private EssenciumUserDetails<Long> principal;
+  private JsonAllowForRules rules;
+  private ObjectWriter writer;
+  private List<FilteredEntry> filteredEntries;
+  private List<PlainEntry> plainEntries;
+
+  @Setup
+  public void setUp() {
+    principal =
+        EssenciumUserDetails.<Long>builder()
+            .id(42L)
+            .username("user@example.com")
+            .roles(Set.of(new SimpleGrantedAuthority("USER")))
+            .rights(Set.of(new SimpleGrantedAuthority("USER_READ")))
+            .build();
+    rules = new JsonAllowForRules();
+    writer = JsonMapper.builder().build().writer();
+    filteredEntries =
+        IntStream.range(0, ENTRIES)
+            .mapToObj(i -> new FilteredEntry(i, "entry " + i, "secret " + i))
+            .toList();
+    plainEntries =
+        IntStream.range(0, ENTRIES)
+            .mapToObj(i -> new PlainEntry(i, "entry " + i, "secret " + i))
+            .toList();
+  }
+
+  @Benchmark
+  public byte[] filteredTypeWithFilter() {
+    return writer.with(filters()).writeValueAsBytes(filteredEntries);
+  }
+
+  @Benchmark
+  public byte[] plainTypeWithFilter() {
+    return writer.with(filters()).writeValueAsBytes(plainEntries);
+  }
+
+  @Benchmark
+  public byte[] plainTypeWithoutFilter() {
+    return writer.writeValueAsBytes(plainEntries);
+  }
+
+  private FilterProvider filters() {
+    return new SimpleFilterProvider()
+        .addFilter(
+            AccessAwareJsonViewAdvice.FILTER_NAME, new AccessAwareJsonFilter<>(principal, rules))
+        .setFailOnUnknownId(false);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(AccessAwareJsonFilterBenchmark.class.getSimpleName())
+                .build())
+        .run();
+  }
+
+  @JsonFilter(AccessAwareJsonViewAdvice.FILTER_NAME)
+  public record FilteredEntry(long id, String name, @JsonAllowFor(roles = "ADMIN") String secret) {}
+
+  public record PlainEntry(long id, String name, String secret) {}
+}
@@ -24,6 +24,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -105,6 +106,7 @@ class AccessAwareJsonFilterTest {
     when(writer.getMember()).thenReturn(annotatedMember);
     when(annotatedMember.getAnnotation(JsonAllowFor.class)).thenReturn(annotation);
     when(annotation.roles()).thenReturn(new String[] {"ROLE_ADMIN"});
+    when(annotation.rights()).thenReturn(new String[0]);
     stubPrincipalRoles(Set.of("ROLE_ADMIN"));
 
     filter.serializeAsProperty(pojo, jsonGenerator, serializationContext, writer);
@@ -154,6 +156,39 @@ class AccessAwareJsonFilterTest {
     verify(writer).serializeAsOmittedProperty(value, jsonGenerator, serializationContext);
   }
 
+  @Test
+  void serializeAsProperty_resolvesAnnotationOncePerProperty() throws Exception {
+    Object pojo = new Object();
+    JsonAllowForRules rules = new JsonAllowForRules();
+    denyByAnnotation();
+    when(jsonGenerator.canOmitProperties()).thenReturn(true);
+
+    new AccessAwareJsonFilter<>(principal, rules)
+        .serializeAsProperty(pojo, jsonGenerator, serializationContext, writer);
+    new AccessAwareJsonFilter<>(principal, rules)
+        .serializeAsProperty(pojo, jsonGenerator, serializationContext, writer);
+
+    verify(annotatedMember, times(1)).getAnnotation(JsonAllowFor.class);
+    verify(annotation, times(1)).roles();
+    verify(writer, never()).serializeAsProperty(any(), any(), any());
+  }
+
+  @Test
+  void serializeAsProperty_collectsPrincipalAuthoritiesOnce() throws Exception {
+    Object pojo = new Object();
+    when(writer.getMember()).thenReturn(annotatedMember);
+    when(annotatedMember.getAnnotation(JsonAllowFor.class)).thenReturn(annotation);
+    when(annotation.roles()).thenReturn(new String[] {"ROLE_ADMIN"});
+    when(annotation.rights()).thenReturn(new String[0]);
+    stubPrincipalRoles(Set.of("ROLE_ADMIN"));
+
+    filter.serializeAsProperty(pojo, jsonGenerator, serializationContext, writer);
+    filter.serializeAsProperty(pojo, jsonGenerator, serializationContext, writer);
+
+    verify(writer, times(2)).serializeAsProperty(pojo, jsonGenerator, serializationContext);
+    verify(principal, times(1)).getRoles();
+  }
+
   @Test
   void snapshot_returnsSameFilterInstance() {
     PropertyFilter snapshot = filter.snapshot();
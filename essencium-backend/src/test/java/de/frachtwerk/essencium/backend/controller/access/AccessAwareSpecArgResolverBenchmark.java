@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.controller.access;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import de.frachtwerk.essencium.backend.api.data.service.UserServiceStub;
+import de.frachtwerk.essencium.backend.api.data.user.UserStub;
+import de.frachtwerk.essencium.backend.configuration.properties.EssenciumJpaProperties;
+import de.frachtwerk.essencium.backend.model.dto.BaseUserDto;
+import de.frachtwerk.essencium.backend.model.dto.EssenciumUserDetails;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.MethodParameter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Measures the restriction part of {@link AccessAwareSpecArgResolver} for a handler parameter with
+ * and without {@link RestrictAccessToOwnedEntities}. Not part of the test suite, run it via {@link
+ * #main(String[])} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccessAwareSpecArgResolverBenchmark {
+
+  private GenericApplicationContext applicationContext;
+  private AccessAwareSpecArgResolver<UserStub, EssenciumUserDetails<Long>, Long, BaseUserDto<Long>>
+      resolver;
+  private MethodParameter restricted;
+  private MethodParameter unrestricted;
+  private NativeWebRequest webRequest;
+
+  @Setup
+  public void setUp() throws NoSuchMethodException {
+    applicationContext = new GenericApplicationContext();
+    applicationContext.refresh();
+
+    UserServiceStub userService = mock();
+    when(userService.getAUTHUSERFromPrincipal(any()))
+        .thenReturn(
+            EssenciumUserDetails.<Long>builder()
+                .id(42L)
+                .username("user@example.com")
+                .roles(Set.of(new SimpleGrantedAuthority("USER")))
+                .rights(Set.of())
+                .build());
+
+    resolver =
+        new AccessAwareSpecArgResolver<>(
+            applicationContext, userService, new EssenciumJpaProperties());
+    restricted =
+        new MethodParameter(SampleController.class.getMethod("restricted", Object.class), 0);
+    unrestricted =
+        new MethodParameter(SampleController.class.getMethod("unrestricted", Object.class), 0);
+    webRequest = new ServletWebRequest(new MockHttpServletRequest());
+  }
+
+  @TearDown
+  public void tearDown() {
+    applicationContext.close();
+  }
+
+  @Benchmark
+  public Object restricted() throws Exception {
+    return resolver.getRestrictionSpec(restricted, webRequest, new ArrayList<>());
+  }
+
+  @Benchmark
+  public Object unrestricted() throws Exception {
+    return resolver.getRestrictionSpec(unrestricted, webRequest, new ArrayList<>());
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(AccessAwareSpecArgResolverBenchmark.class.getSimpleName())
+                .build())
+        .run();
+  }
+
+  public static class SampleController {
+
+    @RestrictAccessToOwnedEntities(roles = "USER")
+    @OwnershipSpec.Or({
+      @OwnershipSpec(path = "createdBy", userAttribute = "username"),
+      @OwnershipSpec(path = "owner", userAttribute = "id")
+    })
+    public void restricted(Object spec) {}
+
+    public void unrestricted(Object spec) {}
+  }
+}
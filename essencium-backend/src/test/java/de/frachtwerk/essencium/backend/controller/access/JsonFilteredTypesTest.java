@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.controller.access;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import de.frachtwerk.essencium.backend.controller.advice.AccessAwareJsonViewAdvice;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.domain.Page;
+import org.springframework.http.ResponseEntity;
+
+class JsonFilteredTypesTest {
+
+  private final JsonFilteredTypes filteredTypes = new JsonFilteredTypes(List.of(Filtered.class));
+
+  @Test
+  void filteredTypeAndSubtypes() {
+    assertThat(mayContain(ResolvableType.forClass(Filtered.class))).isTrue();
+    assertThat(mayContain(ResolvableType.forClass(FilteredSubtype.class))).isTrue();
+  }
+
+  @Test
+  void typesOnlyKnownAtRuntime() {
+    assertThat(mayContain(ResolvableType.forClass(Object.class))).isTrue();
+    assertThat(mayContain(ResolvableType.forClass(Payload.class))).isTrue();
+    assertThat(mayContain(ResolvableType.forClass(List.class))).isTrue();
+  }
+
+  @Test
+  void containersOfFilteredType() {
+    assertThat(mayContain(ResolvableType.forClassWithGenerics(List.class, Filtered.class)))
+        .isTrue();
+    assertThat(mayContain(ResolvableType.forClass(Filtered[].class))).isTrue();
+    assertThat(
+            mayContain(
+                ResolvableType.forClassWithGenerics(
+                    ResponseEntity.class,
+                    ResolvableType.forClassWithGenerics(Page.class, Filtered.class))))
+        .isTrue();
+    assertThat(
+            mayContain(
+                ResolvableType.forClassWithGenerics(Map.class, String.class, Filtered.class)))
+        .isTrue();
+    assertThat(mayContain(ResolvableType.forClassWithGenerics(Optional.class, Filtered.class)))
+        .isTrue();
+  }
+
+  @Test
+  void nestedProperties() {
+    assertThat(mayContain(ResolvableType.forClass(Wrapper.class))).isTrue();
+    assertThat(mayContain(ResolvableType.forClassWithGenerics(Generic.class, Filtered.class)))
+        .isTrue();
+    assertThat(mayContain(ResolvableType.forClass(Tree.class))).isTrue();
+  }
+
+  @Test
+  void typesWithoutFilter() {
+    assertThat(mayContain(ResolvableType.forClass(String.class))).isFalse();
+    assertThat(mayContain(ResolvableType.forClass(Plain.class))).isFalse();
+    assertThat(mayContain(ResolvableType.forClassWithGenerics(List.class, Plain.class))).isFalse();
+    assertThat(
+            mayContain(
+                ResolvableType.forClassWithGenerics(
+                    ResponseEntity.class,
+                    ResolvableType.forClassWithGenerics(Page.class, Plain.class))))
+        .isFalse();
+    assertThat(mayContain(ResolvableType.forClassWithGenerics(Generic.class, Plain.class)))
+        .isFalse();
+    assertThat(mayContain(ResolvableType.forClass(PlainTree.class))).isFalse();
+  }
+
+  @Test
+  void noFilteredTypes() {
+    JsonFilteredTypes none = new JsonFilteredTypes(List.of());
+
+    assertThat(none.mayContainFilteredType(ResolvableType.forClass(Object.class))).isFalse();
+  }
+
+  @Test
+  void scanFindsAnnotatedTypes() {
+    JsonFilteredTypes scanned =
+        JsonFilteredTypes.scan(List.of(JsonFilteredTypesTest.class.getPackageName()));
+
+    assertThat(scanned.mayContainFilteredType(ResolvableType.forClass(Wrapper.class))).isTrue();
+    assertThat(scanned.mayContainFilteredType(ResolvableType.forClass(Plain.class))).isFalse();
+  }
+
+  @Test
+  void withAdditionalTypes() {
+    JsonFilteredTypes combined = filteredTypes.with(List.of(Plain.class));
+
+    assertThat(combined.mayContainFilteredType(ResolvableType.forClass(Filtered.class))).isTrue();
+    assertThat(combined.mayContainFilteredType(ResolvableType.forClass(Plain.class))).isTrue();
+    assertThat(mayContain(ResolvableType.forClass(Plain.class))).isFalse();
+  }
+
+  private boolean mayContain(ResolvableType type) {
+    return filteredTypes.mayContainFilteredType(type);
+  }
+
+  interface Payload {}
+
+  @JsonFilter(AccessAwareJsonViewAdvice.FILTER_NAME)
+  static class Filtered implements Payload {
+    private String name;
+  }
+
+  static class FilteredSubtype extends Filtered {}
+
+  record Plain(String name, int count, List<String> tags) {}
+
+  record Wrapper(Plain plain, List<Filtered> filtered) {}
+
+  record Generic<T>(T content) {}
+
+  record Tree(Tree parent, List<Tree> children, Filtered value) {}
+
+  record PlainTree(PlainTree parent, List<PlainTree> children, Plain value) {}
+}
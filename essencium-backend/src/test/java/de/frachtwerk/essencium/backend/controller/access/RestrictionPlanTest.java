@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.controller.access;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import de.frachtwerk.essencium.backend.model.dto.BaseEssenciumUserDetails;
+import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.web.method.HandlerMethod;
+
+class RestrictionPlanTest {
+
+  @Test
+  void unrestricted() throws NoSuchMethodException {
+    assertThat(RestrictionPlan.resolve(parameter(UnrestrictedController.class, "list"))).isEmpty();
+  }
+
+  @Test
+  void methodLevel() throws NoSuchMethodException {
+    RestrictionPlan plan =
+        RestrictionPlan.resolve(parameter(RestrictedController.class, "restrictedList"))
+            .orElseThrow();
+
+    assertThat(plan.roles()).containsExactly("USER");
+    assertThat(plan.rights()).isEmpty();
+    assertThat(plan.ownershipSpecs())
+        .extracting(Annotation::annotationType)
+        .containsExactly(OwnershipSpec.class, OwnershipSpec.Or.class);
+  }
+
+  @Test
+  void overriddenHandlerMethod() throws NoSuchMethodException {
+    MethodParameter parameter =
+        new HandlerMethod(
+                new OverridingController(),
+                OverridingController.class.getMethod("restrictedList", Object.class))
+            .getMethodParameters()[0];
+
+    RestrictionPlan plan = RestrictionPlan.resolve(parameter).orElseThrow();
+
+    assertThat(plan.roles()).containsExactly("USER");
+    assertThat(plan.ownershipSpecs())
+        .extracting(Annotation::annotationType)
+        .containsExactly(OwnershipSpec.class, OwnershipSpec.Or.class);
+  }
+
+  @Test
+  void classLevel() throws NoSuchMethodException {
+    RestrictionPlan plan =
+        RestrictionPlan.resolve(parameter(RestrictedController.class, "list")).orElseThrow();
+
+    assertThat(plan.roles()).isEmpty();
+    assertThat(plan.rights()).containsExactly("READ_OWN");
+    assertThat(plan.ownershipSpecs())
+        .extracting(Annotation::annotationType)
+        .containsExactly(OwnershipSpec.class);
+  }
+
+  @Test
+  void entityLevel() throws NoSuchMethodException {
+    RestrictionPlan plan =
+        RestrictionPlan.resolve(parameter(EntityController.class, "list")).orElseThrow();
+
+    assertThat(plan.roles()).containsExactly("USER");
+    assertThat(plan.ownershipSpecs())
+        .extracting(Annotation::annotationType)
+        .containsExactly(OwnershipSpec.And.class);
+  }
+
+  @Test
+  void appliesTo() {
+    RestrictionPlan plan = new RestrictionPlan(Set.of("READ_OWN"), Set.of("USER"), List.of());
+
+    assertThat(plan.appliesTo(user(Set.of("USER"), Set.of()))).isTrue();
+    assertThat(plan.appliesTo(user(Set.of("ADMIN"), Set.of("READ_OWN")))).isTrue();
+    assertThat(plan.appliesTo(user(Set.of("ADMIN"), Set.of("READ_ALL")))).isFalse();
+  }
+
+  private static MethodParameter parameter(Class<?> controller, String method)
+      throws NoSuchMethodException {
+    return new MethodParameter(controller.getMethod(method, Object.class), 0);
+  }
+
+  private static BaseEssenciumUserDetails<?> user(Set<String> roles, Set<String> rights) {
+    BaseEssenciumUserDetails<?> user = mock();
+    doReturn(authorities(roles)).when(user).getRoles();
+    doReturn(authorities(rights)).when(user).getRights();
+    return user;
+  }
+
+  private static Set<SimpleGrantedAuthority> authorities(Set<String> names) {
+    return names.stream().map(SimpleGrantedAuthority::new).collect(Collectors.toSet());
+  }
+
+  static class UnrestrictedController {
+    public void list(Object spec) {}
+  }
+
+  @RestrictAccessToOwnedEntities(rights = "READ_OWN")
+  @OwnershipSpec(path = "createdBy", userAttribute = "email")
+  static class RestrictedController {
+    public void list(Object spec) {}
+
+    @RestrictAccessToOwnedEntities(roles = "USER")
+    @OwnershipSpec(path = "id")
+    @OwnershipSpec.Or({@OwnershipSpec(path = "owner"), @OwnershipSpec(path = "assignee")})
+    public void restrictedList(Object spec) {}
+  }
+
+  static class OverridingController extends RestrictedController {
+    @Override
+    public void restrictedList(Object spec) {}
+  }
+
+  @ExposesEntity(RestrictedEntity.class)
+  static class EntityController {
+    public void list(Object spec) {}
+  }
+
+  @RestrictAccessToOwnedEntities(roles = "USER")
+  @OwnershipSpec.And({@OwnershipSpec(path = "owner")})
+  static class RestrictedEntity {}
+}
@@ -23,19 +23,23 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mockStatic;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import de.frachtwerk.essencium.backend.controller.access.JsonFilteredTypes;
 import de.frachtwerk.essencium.backend.model.dto.EssenciumUserDetails;
 import de.frachtwerk.essencium.backend.util.EssenciumUserUtil;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.MethodParameter;
+import org.springframework.data.domain.Page;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
 import org.springframework.http.server.ServerHttpRequest;
@@ -47,7 +51,8 @@ import tools.jackson.databind.ser.FilterProvider;
 @ExtendWith(MockitoExtension.class)
 class AccessAwareJsonViewAdviceTest {
 
-  @InjectMocks private AccessAwareJsonViewAdvice advice;
+  private final AccessAwareJsonViewAdvice advice =
+      new AccessAwareJsonViewAdvice(new JsonFilteredTypes(List.of(FilteredPayload.class)));
 
   @Mock private MethodParameter returnType;
   @Mock private MediaType selectedContentType;
@@ -56,12 +61,29 @@ class AccessAwareJsonViewAdviceTest {
   @Mock private EssenciumUserDetails<?> principal;
 
   @Test
-  void supports_returnsTrueForJacksonJsonHttpMessageConverter() {
-    boolean result = advice.supports(returnType, JacksonJsonHttpMessageConverter.class);
+  void supports_returnsTrueForJacksonJsonHttpMessageConverter() throws NoSuchMethodException {
+    boolean result =
+        advice.supports(returnTypeOf("filtered"), JacksonJsonHttpMessageConverter.class);
 
     assertThat(result).isTrue();
   }
 
+  @Test
+  void supports_returnsTrueForPageOfFilteredType() throws NoSuchMethodException {
+    boolean result =
+        advice.supports(returnTypeOf("filteredPage"), JacksonJsonHttpMessageConverter.class);
+
+    assertThat(result).isTrue();
+  }
+
+  @Test
+  void supports_returnsFalseForTypeWithoutFilter() throws NoSuchMethodException {
+    boolean result =
+        advice.supports(returnTypeOf("plainPage"), JacksonJsonHttpMessageConverter.class);
+
+    assertThat(result).isFalse();
+  }
+
   @Test
   void supports_returnsFalseForOtherConverters() {
     boolean result = advice.supports(returnType, StringHttpMessageConverter.class);
@@ -189,4 +211,21 @@ class AccessAwareJsonViewAdviceTest {
       assertThat(result).containsKey(FilterProvider.class.getName());
     }
   }
+
+  private static MethodParameter returnTypeOf(String method) throws NoSuchMethodException {
+    return new MethodParameter(SampleController.class.getMethod(method), -1);
+  }
+
+  @JsonFilter(AccessAwareJsonViewAdvice.FILTER_NAME)
+  record FilteredPayload(String name) {}
+
+  record PlainPayload(String name) {}
+
+  interface SampleController {
+    FilteredPayload filtered();
+
+    ResponseEntity<Page<FilteredPayload>> filteredPage();
+
+    ResponseEntity<Page<PlainPayload>> plainPage();
+  }
 }
@@ -55,6 +55,7 @@ class SessionTokenTest {
     String userAgent = "Unit Test";
     LocalDateTime now = LocalDateTime.now();
     Date issuedAtAccessToken = Date.from(now.minusDays(1).toInstant(ZoneOffset.UTC));
+    Date lastUsed = Date.from(now.minusHours(1).toInstant(ZoneOffset.UTC));
     SessionToken sessionToken =
         SessionToken.builder()
             .id(UUID.randomUUID())
@@ -76,8 +77,10 @@ class SessionTokenTest {
                         .userAgent(userAgent)
                         .accessTokens(List.of())
                         .build()))
+            .lastUsed(lastUsed)
             .build();
 
-    assertEquals(sessionToken.getLastUsed(), issuedAtAccessToken);
+    // the stored last use is returned, the access tokens are not consulted
+    assertEquals(lastUsed, sessionToken.getLastUsed());
   }
 }
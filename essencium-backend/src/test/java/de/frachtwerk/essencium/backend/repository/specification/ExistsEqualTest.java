@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.repository.specification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.frachtwerk.essencium.backend.model.exception.InvalidInputException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import net.kaczmarzyk.spring.data.jpa.utils.Converter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ExistsEqualTest {
+
+  @Mock private Root<Object> root;
+  @Mock private Root<Object> correlated;
+  @Mock private Join<Object, Object> roles;
+  @Mock private Path<Object> name;
+  @Mock private CriteriaQuery<?> query;
+  @Mock private Subquery<Integer> subquery;
+  @Mock private CriteriaBuilder cb;
+  @Mock private Expression<Integer> one;
+  @Mock private Predicate equal;
+  @Mock private Predicate exists;
+  @Mock private Converter converter;
+
+  @Test
+  void joinsInsideCorrelatedSubquery() {
+    when(query.subquery(Integer.class)).thenReturn(subquery);
+    when(subquery.correlate(root)).thenReturn(correlated);
+    doReturn(roles).when(correlated).join("roles");
+    doReturn(name).when(roles).get("name");
+    doReturn(String.class).when(name).getJavaType();
+    when(converter.convert("ADMIN", String.class)).thenReturn("ADMIN");
+    when(cb.literal(1)).thenReturn(one);
+    when(subquery.select(one)).thenReturn(subquery);
+    when(cb.equal(name, "ADMIN")).thenReturn(equal);
+    when(cb.exists(subquery)).thenReturn(exists);
+
+    assertThat(spec("roles.name", "ADMIN").toPredicate(root, query, cb)).isSameAs(exists);
+
+    verify(subquery).where(equal);
+  }
+
+  @Test
+  void pathWithoutAssociation() {
+    when(query.subquery(Integer.class)).thenReturn(subquery);
+    when(subquery.correlate(root)).thenReturn(correlated);
+    doReturn(name).when(correlated).get("name");
+    doReturn(String.class).when(name).getJavaType();
+    when(converter.convert("ADMIN", String.class)).thenReturn("ADMIN");
+    when(cb.literal(1)).thenReturn(one);
+    when(subquery.select(one)).thenReturn(subquery);
+    when(cb.equal(name, "ADMIN")).thenReturn(equal);
+    when(cb.exists(subquery)).thenReturn(exists);
+
+    assertThat(spec("name", "ADMIN").toPredicate(root, query, cb)).isSameAs(exists);
+
+    verify(subquery).where(equal);
+  }
+
+  @Test
+  void requiresExactlyOneValue() {
+    assertThatThrownBy(() -> new ExistsEqual<>(null, "roles.name", new String[0], converter))
+        .isInstanceOf(InvalidInputException.class);
+    assertThatThrownBy(() -> new ExistsEqual<>(null, "roles.name", null, converter))
+        .isInstanceOf(InvalidInputException.class);
+  }
+
+  private ExistsEqual<Object> spec(String path, String value) {
+    return new ExistsEqual<>(null, path, new String[] {value}, converter);
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.repository.specification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.frachtwerk.essencium.backend.api.data.user.TestUUIDUser;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class LikeConcatenatedTest {
+
+  private static final String[] TERMS = {"John", "Doe"};
+
+  @Mock private Root<Object> root;
+  @Mock private CriteriaQuery<?> query;
+  @Mock private CriteriaBuilder cb;
+  @Mock private Path<Object> firstName;
+  @Mock private Path<Object> lastName;
+  @Mock private Path<Object> email;
+  @Mock private Path<String> searchText;
+
+  @Test
+  void likeSearchWithoutSearchColumn() {
+    doReturn(TestUUIDUser.class).when(root).getJavaType();
+    doReturn(firstName).when(root).get("firstName");
+    doReturn(lastName).when(root).get("lastName");
+
+    spec().toPredicate(root, query, cb);
+
+    verify(cb, times(2)).like(any(), eq("%john doe%"));
+    verify(cb, times(2)).like(any(), eq("%doe john%"));
+  }
+
+  @Test
+  void searchColumnOfEntity() {
+    Predicate predicate = mock();
+    doReturn(SearchableEntity.class).when(root).getJavaType();
+    doReturn(searchText).when(root).get("searchText");
+    when(cb.and(any(Predicate[].class))).thenReturn(predicate);
+
+    assertThat(spec().toPredicate(root, query, cb)).isSameAs(predicate);
+
+    verify(cb).like(searchText, "%john%");
+    verify(cb).like(searchText, "%doe%");
+    verify(cb, never()).concat(any(), any(String.class));
+  }
+
+  @Test
+  void searchColumnOfReversedPaths() {
+    doReturn(SearchableEntity.class).when(root).getJavaType();
+    doReturn(searchText).when(root).get("searchText");
+
+    new LikeConcatenated<>(null, "lastName,firstName", TERMS, null).toPredicate(root, query, cb);
+
+    verify(cb).like(searchText, "%john%");
+    verify(cb).like(searchText, "%doe%");
+  }
+
+  @Test
+  void likeSearchForPathsNotHeldBySearchColumn() {
+    doReturn(SearchableEntity.class).when(root).getJavaType();
+    doReturn(firstName).when(root).get("firstName");
+    doReturn(email).when(root).get("email");
+
+    new LikeConcatenated<>(null, "firstName,email", TERMS, null).toPredicate(root, query, cb);
+
+    verify(root, never()).get("searchText");
+    verify(cb, times(2)).like(any(), eq("%john doe%"));
+    verify(cb, times(2)).like(any(), eq("%doe john%"));
+  }
+
+  @Test
+  void searchColumnIsInherited() {
+    assertThat(SearchColumnSearchBackend.forEntity(SearchableSubEntity.class))
+        .singleElement()
+        .satisfies(
+            backend -> {
+              assertThat(backend.getAttribute()).isEqualTo("searchText");
+              assertThat(backend.getPaths()).containsExactlyInAnyOrder("firstName", "lastName");
+            });
+    assertThat(SearchColumnSearchBackend.forEntity(TestUUIDUser.class)).isEmpty();
+  }
+
+  private LikeConcatenated<Object> spec() {
+    return new LikeConcatenated<>(null, "firstName,lastName", TERMS, null);
+  }
+
+  static class SearchableEntity {
+    private String firstName;
+    private String lastName;
+    private String email;
+
+    @SearchColumn(paths = "firstName, lastName")
+    private String searchText;
+  }
+
+  static class SearchableSubEntity extends SearchableEntity {}
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.security;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import de.frachtwerk.essencium.backend.api.data.user.TestUUIDUser;
+import de.frachtwerk.essencium.backend.configuration.properties.security.AppSecurityProperties;
+import de.frachtwerk.essencium.backend.repository.BaseUserRepository;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+@ExtendWith(MockitoExtension.class)
+class BruteForceProtectionServiceTest {
+
+  private static final String USERNAME = "Test@Example.com";
+  private static final String USERNAME_KEY = "username:test@example.com";
+  private static final String REMOTE_ADDRESS = "127.0.0.1";
+  private static final String REMOTE_ADDRESS_KEY = "remote-address:127.0.0.1";
+
+  @Mock private BaseUserRepository<TestUUIDUser, UUID> userRepository;
+  @Mock private LoginFailureCounter loginFailureCounter;
+
+  private final AppSecurityProperties appSecurityProperties = new AppSecurityProperties();
+  private BruteForceProtectionService<TestUUIDUser, UUID> bruteForceProtectionService;
+
+  @BeforeEach
+  void setUp() {
+    appSecurityProperties.setMaxFailedLogins(3);
+    appSecurityProperties.setMaxFailedLoginsPerIp(5);
+    bruteForceProtectionService =
+        new BruteForceProtectionService<>(
+            appSecurityProperties, userRepository, loginFailureCounter);
+  }
+
+  @AfterEach
+  void tearDown() {
+    verifyNoMoreInteractions(userRepository, loginFailureCounter);
+  }
+
+  @Nested
+  class RegisterLoginFailure {
+
+    @Test
+    void belowThreshold() {
+      when(loginFailureCounter.increment(USERNAME_KEY)).thenReturn(2L);
+
+      bruteForceProtectionService.registerLoginFailure(USERNAME, REMOTE_ADDRESS);
+
+      verify(loginFailureCounter).increment(REMOTE_ADDRESS_KEY);
+      verify(loginFailureCounter).increment(USERNAME_KEY);
+    }
+
+    @Test
+    void thresholdReached() {
+      when(loginFailureCounter.increment(USERNAME_KEY)).thenReturn(3L);
+      when(userRepository.disableLogin(USERNAME, 3)).thenReturn(1);
+
+      bruteForceProtectionService.registerLoginFailure(USERNAME, REMOTE_ADDRESS);
+
+      verify(loginFailureCounter).increment(REMOTE_ADDRESS_KEY);
+      verify(loginFailureCounter).increment(USERNAME_KEY);
+      verify(loginFailureCounter).reset(USERNAME_KEY);
+      verify(userRepository).disableLogin(USERNAME, 3);
+    }
+
+    @Test
+    void throttlingDisabled() {
+      appSecurityProperties.setMaxFailedLoginsPerIp(0);
+      when(loginFailureCounter.increment(USERNAME_KEY)).thenReturn(1L);
+
+      bruteForceProtectionService.registerLoginFailure(USERNAME, REMOTE_ADDRESS);
+
+      verify(loginFailureCounter).increment(USERNAME_KEY);
+    }
+
+    @Test
+    void withoutRemoteAddress() {
+      when(loginFailureCounter.increment(USERNAME_KEY)).thenReturn(1L);
+
+      bruteForceProtectionService.registerLoginFailure(USERNAME);
+
+      verify(loginFailureCounter).increment(USERNAME_KEY);
+    }
+  }
+
+  @Nested
+  class IsThrottled {
+
+    @Test
+    void belowThreshold() {
+      when(loginFailureCounter.count(REMOTE_ADDRESS_KEY)).thenReturn(4L);
+
+      assertFalse(bruteForceProtectionService.isThrottled(REMOTE_ADDRESS));
+
+      verify(loginFailureCounter).count(REMOTE_ADDRESS_KEY);
+    }
+
+    @Test
+    void thresholdReached() {
+      when(loginFailureCounter.count(REMOTE_ADDRESS_KEY)).thenReturn(5L);
+
+      assertTrue(bruteForceProtectionService.isThrottled(REMOTE_ADDRESS));
+
+      verify(loginFailureCounter).count(REMOTE_ADDRESS_KEY);
+    }
+
+    @Test
+    void disabled() {
+      appSecurityProperties.setMaxFailedLoginsPerIp(0);
+
+      assertFalse(bruteForceProtectionService.isThrottled(REMOTE_ADDRESS));
+    }
+  }
+
+  @Nested
+  class ResetBruteForceCounter {
+
+    @Test
+    void byUsername() {
+      bruteForceProtectionService.resetBruteForceCounter(USERNAME);
+
+      verify(loginFailureCounter).reset(USERNAME_KEY);
+      verify(userRepository).resetFailedLoginAttempts(USERNAME);
+    }
+
+    @Test
+    void authenticatedUserWithoutFailures() {
+      TestUUIDUser user = TestUUIDUser.builder().email(USERNAME).build();
+
+      bruteForceProtectionService.resetBruteForceCounter(
+          new UsernamePasswordAuthenticationToken(user, null, List.of()));
+
+      verify(loginFailureCounter).reset(USERNAME_KEY);
+    }
+
+    @Test
+    void authenticatedUserWithFailures() {
+      TestUUIDUser user = TestUUIDUser.builder().email(USERNAME).failedLoginAttempts(2).build();
+
+      bruteForceProtectionService.resetBruteForceCounter(
+          new UsernamePasswordAuthenticationToken(user, null, List.of()));
+
+      verify(loginFailureCounter).reset(USERNAME_KEY);
+      verify(userRepository).resetFailedLoginAttempts(USERNAME);
+    }
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import de.frachtwerk.essencium.backend.configuration.properties.security.AppSecurityProperties;
+import java.time.Clock;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryLoginFailureCounterTest {
+
+  private static final long WINDOW = Duration.ofMinutes(10).toMillis();
+  private static final String KEY = "username:test@example.com";
+
+  @Mock private Clock clock;
+
+  private InMemoryLoginFailureCounter counter;
+
+  @BeforeEach
+  void setUp() {
+    AppSecurityProperties appSecurityProperties = new AppSecurityProperties();
+    appSecurityProperties.setFailedLoginWindow(Duration.ofMillis(WINDOW));
+    counter = new InMemoryLoginFailureCounter(appSecurityProperties, clock);
+  }
+
+  @Test
+  void countsWithinWindow() {
+    when(clock.millis()).thenReturn(WINDOW, WINDOW + 1, WINDOW + 2, WINDOW + 3);
+
+    assertEquals(1, counter.increment(KEY));
+    assertEquals(2, counter.increment(KEY));
+    assertEquals(3, counter.increment(KEY));
+    assertEquals(3, counter.count(KEY));
+  }
+
+  @Test
+  void previousWindowIsWeightedByOverlap() {
+    when(clock.millis()).thenReturn(0L, 1L, 2L, 3L, WINDOW + WINDOW / 2, 3 * WINDOW);
+    for (int i = 0; i < 4; i++) {
+      counter.increment(KEY);
+    }
+
+    // half of the sliding window still overlaps the previous fixed window
+    assertEquals(2, counter.count(KEY));
+    // the failures left the sliding window entirely
+    assertEquals(0, counter.count(KEY));
+  }
+
+  @Test
+  void keysAreCountedSeparately() {
+    when(clock.millis()).thenReturn(0L);
+
+    counter.increment(KEY);
+    counter.increment(KEY);
+
+    assertEquals(1, counter.increment("remote-address:127.0.0.1"));
+    assertEquals(2, counter.count(KEY));
+  }
+
+  @Test
+  void reset() {
+    when(clock.millis()).thenReturn(0L);
+    counter.increment(KEY);
+
+    counter.reset(KEY);
+
+    assertEquals(0, counter.count(KEY));
+  }
+
+  @Test
+  void evictExpired() {
+    when(clock.millis()).thenReturn(0L, 2 * WINDOW, 2 * WINDOW, 2 * WINDOW);
+    counter.increment(KEY);
+    counter.increment("remote-address:127.0.0.1");
+
+    counter.evictExpired();
+
+    assertEquals(0, counter.count(KEY));
+    assertEquals(1, counter.count("remote-address:127.0.0.1"));
+  }
+
+  @Test
+  void boundedNumberOfCounters() {
+    AppSecurityProperties appSecurityProperties = new AppSecurityProperties();
+    appSecurityProperties.setFailedLoginWindow(Duration.ofMillis(WINDOW));
+    appSecurityProperties.setMaxFailedLoginCounters(10);
+    counter = new InMemoryLoginFailureCounter(appSecurityProperties, clock);
+    when(clock.millis()).thenReturn(WINDOW);
+
+    for (int i = 0; i < 1000; i++) {
+      counter.increment("username:" + i + "@example.com");
+    }
+
+    assertEquals(10, counter.size());
+  }
+}
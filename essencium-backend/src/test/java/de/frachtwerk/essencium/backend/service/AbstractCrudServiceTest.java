@@ -23,7 +23,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import de.frachtwerk.essencium.backend.model.SequenceIdModel;
+import de.frachtwerk.essencium.backend.model.exception.InvalidInputException;
 import de.frachtwerk.essencium.backend.model.exception.ResourceNotFoundException;
+import de.frachtwerk.essencium.backend.model.representation.UncountedPage;
 import de.frachtwerk.essencium.backend.repository.BaseRepository;
 import jakarta.validation.constraints.NotNull;
 import java.util.HashMap;
@@ -38,7 +40,11 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 
 class AbstractCrudServiceTest {
@@ -99,6 +105,105 @@ class AbstractCrudServiceTest {
     Mockito.verify(repositoryMock, Mockito.times(1)).findAll(preprocessedPageableMock);
   }
 
+  @Test
+  void getAllFiltered_Scrolled() {
+    var inputSpecMock = Mockito.mock(Specification.class);
+    var preprocessedSpecMock = Mockito.mock(Specification.class);
+    var inputPageableMock = Mockito.mock(Pageable.class);
+    var preprocessedPageable = PageRequest.of(0, 10, Sort.by("name"));
+    var databaseWindowMock = Mockito.mock(Window.class);
+    var postProcessedWindowMock = Mockito.mock(Window.class);
+
+    mockMap.put("specificationPreProcessing", preprocessedSpecMock);
+    mockMap.put("getAllPagedPreProcessing", preprocessedPageable);
+    // noinspection unchecked
+    Mockito.when(repositoryMock.findBy(Mockito.eq(preprocessedSpecMock), Mockito.any()))
+        .thenReturn(databaseWindowMock);
+    mockMap.put("getAllScrolledPostProcessing", postProcessedWindowMock);
+
+    assertThat(
+            testSubject.getAllFiltered(
+                inputSpecMock,
+                inputPageableMock,
+                ScrollPosition.forward(Map.of("name", "foo", "id", 42L))))
+        .isSameAs(postProcessedWindowMock);
+    assertThat(callMap.get("specificationPreProcessing")).isSameAs(inputSpecMock);
+    assertThat(callMap.get("getAllPagedPreProcessing")).isSameAs(inputPageableMock);
+    assertThat(callMap.get("getAllScrolledPostProcessing")).isSameAs(databaseWindowMock);
+
+    Mockito.verify(repositoryMock, Mockito.times(1))
+        .findBy(Mockito.eq(preprocessedSpecMock), Mockito.any());
+  }
+
+  @Nested
+  class GetAllFilteredWithCountMode {
+    private final Specification<TestSequenceIdModel> specMock = Mockito.mock(Specification.class);
+    private final Pageable pageable = PageRequest.of(1, 2);
+    private final List<TestSequenceIdModel> content =
+        List.of(new TestSequenceIdModel("a"), new TestSequenceIdModel("b"));
+
+    @BeforeEach
+    void setUp() {
+      mockMap.put("specificationPreProcessing", specMock);
+      mockMap.put("getAllPagedPreProcessing", pageable);
+    }
+
+    @Test
+    void none() {
+      mockWindow(true);
+
+      testSubject.getAllFiltered(specMock, pageable, CountMode.NONE, "key");
+
+      Page<?> page = (Page<?>) callMap.get("getAllPagedPostProcessing");
+      assertThat(page).isInstanceOf(UncountedPage.class);
+      assertThat(page.getContent()).isEqualTo(content);
+      assertThat(page.hasNext()).isTrue();
+      Mockito.verify(repositoryMock, Mockito.never()).count(specMock);
+    }
+
+    @Test
+    void estimatedReusesCount() {
+      mockWindow(true);
+      Mockito.when(repositoryMock.count(specMock)).thenReturn(42L);
+
+      testSubject.getAllFiltered(specMock, pageable, CountMode.ESTIMATED, "key");
+      testSubject.getAllFiltered(specMock, pageable, CountMode.ESTIMATED, "key");
+
+      Page<?> page = (Page<?>) callMap.get("getAllPagedPostProcessing");
+      assertThat(page.getTotalElements()).isEqualTo(42L);
+      Mockito.verify(repositoryMock, Mockito.times(1)).count(specMock);
+    }
+
+    @Test
+    void estimatedOnLastPage() {
+      mockWindow(false);
+
+      testSubject.getAllFiltered(specMock, pageable, CountMode.ESTIMATED, "key");
+
+      Page<?> page = (Page<?>) callMap.get("getAllPagedPostProcessing");
+      assertThat(page.getTotalElements()).isEqualTo(4L);
+      Mockito.verify(repositoryMock, Mockito.never()).count(specMock);
+    }
+
+    private void mockWindow(boolean hasNext) {
+      // noinspection unchecked
+      Mockito.when(repositoryMock.findBy(Mockito.eq(specMock), Mockito.any()))
+          .thenReturn(Window.from(content, ScrollPosition::offset, hasNext));
+    }
+  }
+
+  @Test
+  void getAll_ScrolledWithCursorOfOtherSortOrder() {
+    mockMap.put("getAllPagedPreProcessing", PageRequest.of(0, 10, Sort.by("name")));
+    var position = ScrollPosition.forward(Map.of("createdAt", "2021-01-01T00:00:01", "id", 42L));
+    var pageable = Pageable.unpaged();
+
+    assertThatThrownBy(() -> testSubject.getAll(pageable, position))
+        .isInstanceOf(InvalidInputException.class);
+
+    Mockito.verifyNoInteractions(repositoryMock);
+  }
+
   @Nested
   class GetById {
     @Test
@@ -204,6 +309,57 @@ class AbstractCrudServiceTest {
     Mockito.verify(repositoryMock, Mockito.times(1)).deleteById(inputId);
   }
 
+  @Test
+  void deleteByIdLoadsCurrentEntityOnce() {
+    var inputId = 42L;
+    var databaseEntity = new TestSequenceIdModel("current");
+
+    Mockito.when(repositoryMock.findById(inputId)).thenReturn(Optional.of(databaseEntity));
+
+    testSubject.deleteById(inputId);
+
+    assertThat(callMap.get("deletePreProcessing_current")).isEqualTo(Optional.of(databaseEntity));
+    assertThat(callMap.get("deletePostProcessing_current"))
+        .isSameAs(callMap.get("deletePreProcessing_current"));
+    Mockito.verify(repositoryMock, Mockito.times(1)).findById(inputId);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void getAllPostProcessingOfWindowDefaultsToListPostProcessing() {
+    AbstractCrudService<TestSequenceIdModel, Long, String> service =
+        Mockito.mock(AbstractCrudService.class, Mockito.CALLS_REAL_METHODS);
+    var first = new TestSequenceIdModel("first");
+    first.setId(1L);
+    var second = new TestSequenceIdModel("second");
+    second.setId(2L);
+    Mockito.doReturn(List.of(second)).when(service).getAllPostProcessing(List.of(first, second));
+
+    Window<TestSequenceIdModel> window =
+        service.getAllPostProcessing(
+            Window.from(List.of(first, second), ScrollPosition::offset, true));
+
+    assertThat(window.getContent()).containsExactly(second);
+    assertThat(window.positionAt(0)).isEqualTo(ScrollPosition.offset(1));
+    assertThat(window.hasNext()).isTrue();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void streamPostProcessingSkipsEntitiesFilteredByListPostProcessing() {
+    AbstractCrudService<TestSequenceIdModel, Long, String> service =
+        Mockito.mock(AbstractCrudService.class, Mockito.CALLS_REAL_METHODS);
+    var visible = new TestSequenceIdModel("visible");
+    visible.setId(1L);
+    var hidden = new TestSequenceIdModel("hidden");
+    hidden.setId(2L);
+    Mockito.doReturn(List.of(visible)).when(service).getAllPostProcessing(List.of(visible));
+    Mockito.doReturn(List.of()).when(service).getAllPostProcessing(List.of(hidden));
+
+    assertThat(service.streamPostProcessing(visible)).containsSame(visible);
+    assertThat(service.streamPostProcessing(hidden)).isEmpty();
+  }
+
   @SuppressWarnings("unchecked")
   static class TestImpl extends AbstractCrudService<TestSequenceIdModel, Long, String> {
     private final Map<String, Object> mockMap;
@@ -245,6 +401,13 @@ class AbstractCrudServiceTest {
       return (Page<TestSequenceIdModel>) mockMap.get("getAllPagedPostProcessing");
     }
 
+    @Override
+    protected @NotNull Window<TestSequenceIdModel> getAllPostProcessing(
+        final @NotNull Window<TestSequenceIdModel> window) {
+      callMap.put("getAllScrolledPostProcessing", window);
+      return (Window<TestSequenceIdModel>) mockMap.get("getAllScrolledPostProcessing");
+    }
+
     @Override
     protected @NotNull Long getByIdPreProcessing(final @NotNull Long id) {
       callMap.put("getByIdPreProcessing", id);
@@ -311,11 +474,13 @@ class AbstractCrudServiceTest {
     @Override
     public void deletePreProcessing(final @NotNull Long id) {
       callMap.put("deleteById", id);
+      callMap.put("deletePreProcessing_current", findCurrent(id));
     }
 
     @Override
     protected void deletePostProcessing(@NotNull Long id) {
       callMap.put("deletePostProcessing", id);
+      callMap.put("deletePostProcessing_current", findCurrent(id));
     }
   }
 
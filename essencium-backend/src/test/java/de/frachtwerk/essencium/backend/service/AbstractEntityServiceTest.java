@@ -43,6 +43,8 @@ import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
@@ -55,6 +57,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 
 class AbstractEntityServiceTest {
 
@@ -331,6 +334,79 @@ class AbstractEntityServiceTest {
     }
   }
 
+  @Nested
+  class Bulk {
+    private final Specification<TestSequenceIdModel> unrestricted =
+        (root, query, criteriaBuilder) -> null;
+
+    @Test
+    void patchAll() {
+      var existing = new TestSequenceIdModel(4711L);
+      existing.setId(1L);
+      var rejected = new TestSequenceIdModel(4712L);
+      rejected.setId(2L);
+      var fieldUpdates = new LinkedHashMap<Long, Map<String, Object>>();
+      fieldUpdates.put(1L, Map.of("identifier", 42L));
+      fieldUpdates.put(2L, Map.of("TOTALLY_UNKNOWN!!!", "Dont care"));
+      fieldUpdates.put(3L, Map.of("identifier", 43L));
+
+      when(repositoryMock.findAll(any(Specification.class)))
+          .thenReturn(List.of(existing, rejected));
+      when(repositoryMock.save(any(TestSequenceIdModel.class))).thenAnswer(i -> i.getArgument(0));
+
+      var results = testSubject.patchAll(unrestricted, fieldUpdates);
+
+      assertThat(results).extracting(BulkOperationResult::id).containsExactly(1L, 2L, 3L);
+      assertThat(results.get(0).isSuccessful()).isTrue();
+      assertThat(results.get(0).entity().identifier).isEqualTo(42L);
+      assertThat(results.get(1).failure()).isInstanceOf(ResourceUpdateException.class);
+      assertThat(results.get(2).failure()).isInstanceOf(ResourceNotFoundException.class);
+
+      Mockito.verify(repositoryMock, Mockito.times(1)).findAll(any(Specification.class));
+      Mockito.verify(repositoryMock, Mockito.never()).findById(any());
+      Mockito.verify(repositoryMock, Mockito.times(1)).save(any(TestSequenceIdModel.class));
+    }
+
+    @Test
+    void patchAllFailsAsAWholeAfterSave() {
+      var existing = new TestSequenceIdModel(4711L);
+      existing.setId(1L);
+
+      when(repositoryMock.findAll(any(Specification.class))).thenReturn(List.of(existing));
+      when(repositoryMock.save(any(TestSequenceIdModel.class)))
+          .thenThrow(new ResourceUpdateException("rejected"));
+
+      assertThatThrownBy(
+              () -> testSubject.patchAll(unrestricted, Map.of(1L, Map.of("identifier", 42L))))
+          .isInstanceOf(ResourceUpdateException.class);
+    }
+
+    @Test
+    void deleteAllById() {
+      var existing = new TestSequenceIdModel(4711L);
+      existing.setId(1L);
+
+      when(repositoryMock.findAll(any(Specification.class))).thenReturn(List.of(existing));
+
+      var results = testSubject.deleteAllById(unrestricted, List.of(1L, 3L, 1L));
+
+      assertThat(results).extracting(BulkOperationResult::id).containsExactly(1L, 3L);
+      assertThat(results.get(0).isSuccessful()).isTrue();
+      assertThat(results.get(1).failure()).isInstanceOf(ResourceNotFoundException.class);
+
+      Mockito.verify(repositoryMock, Mockito.times(1)).deleteById(1L);
+      Mockito.verify(repositoryMock, Mockito.never()).deleteById(3L);
+      Mockito.verify(repositoryMock, Mockito.never()).existsById(any());
+    }
+
+    @Test
+    void emptyRequest() {
+      assertThat(testSubject.deleteAllById(unrestricted, List.of())).isEmpty();
+
+      Mockito.verifyNoInteractions(repositoryMock);
+    }
+  }
+
   @Nested
   class ConvertFieldValue {
 
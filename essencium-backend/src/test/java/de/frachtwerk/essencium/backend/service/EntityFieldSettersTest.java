@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class EntityFieldSettersTest {
+
+  @Test
+  void setsDeclaredField() throws Exception {
+    Child child = new Child();
+
+    EntityFieldSetters.find(Child.class, "name").orElseThrow().set(child, "value");
+
+    assertThat(child.name).isEqualTo("value");
+  }
+
+  @Test
+  void setsInheritedPrivateField() throws Exception {
+    Child child = new Child();
+
+    EntityFieldSetters.find(Child.class, "count").orElseThrow().set(child, 42);
+
+    assertThat(child.getCount()).isEqualTo(42);
+  }
+
+  @Test
+  void subclassFieldHidesSuperclassField() throws Exception {
+    Child child = new Child();
+
+    EntityFieldSetters.FieldSetter setter =
+        EntityFieldSetters.find(Child.class, "shadowed").orElseThrow();
+    setter.set(child, "child");
+
+    assertThat(setter.type()).isEqualTo(String.class);
+    assertThat(child.shadowed).isEqualTo("child");
+    assertThat(((Parent) child).shadowed).isNull();
+  }
+
+  @Test
+  void setsFinalField() throws Exception {
+    Child child = new Child();
+
+    EntityFieldSetters.find(Child.class, "fixed").orElseThrow().set(child, "changed");
+
+    assertThat(child.fixed).isEqualTo("changed");
+  }
+
+  @Test
+  void ignoresStaticAndUnknownFields() {
+    assertThat(EntityFieldSetters.find(Child.class, "CONSTANT")).isEmpty();
+    assertThat(EntityFieldSetters.find(Child.class, "unknown")).isEmpty();
+  }
+
+  @Test
+  void rejectsValueOfWrongType() {
+    EntityFieldSetters.FieldSetter setter =
+        EntityFieldSetters.find(Child.class, "name").orElseThrow();
+
+    assertThatThrownBy(() -> setter.set(new Child(), 42)).isInstanceOf(ClassCastException.class);
+  }
+
+  @Test
+  void resolvesSettersOncePerClass() {
+    assertThat(EntityFieldSetters.find(Child.class, "name").orElseThrow())
+        .isSameAs(EntityFieldSetters.find(Child.class, "name").orElseThrow());
+  }
+
+  static class Parent {
+    private int count;
+    Object shadowed;
+
+    int getCount() {
+      return count;
+    }
+  }
+
+  static class Child extends Parent {
+    static String CONSTANT = "constant";
+    final String fixed = String.valueOf("fixed");
+    String name;
+    String shadowed;
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import de.frachtwerk.essencium.backend.api.data.service.UserServiceStub;
+import de.frachtwerk.essencium.backend.api.data.user.UserStub;
+import de.frachtwerk.essencium.backend.configuration.properties.auth.AppJwtProperties;
+import de.frachtwerk.essencium.backend.model.AbstractBaseUser;
+import de.frachtwerk.essencium.backend.service.EssenciumUserDetailsCache.CachedUser;
+import java.time.Clock;
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class EssenciumUserDetailsCacheTest {
+
+  private static final String USERNAME = "test@example.com";
+
+  @Mock private UserServiceStub userService;
+  @Mock private Clock clock;
+
+  private final AppJwtProperties appJwtProperties = new AppJwtProperties();
+  private EssenciumUserDetailsCache userDetailsCache;
+
+  @BeforeEach
+  void setUp() {
+    appJwtProperties.setUserDetailsCacheSize(1);
+    appJwtProperties.setUserDetailsCacheExpiration(60);
+    userDetailsCache = new EssenciumUserDetailsCache(appJwtProperties, clock);
+  }
+
+  @AfterEach
+  void tearDown() {
+    verifyNoMoreInteractions(userService);
+  }
+
+  @Test
+  void loadsOnce() {
+    UserStub user = user(USERNAME);
+    when(clock.millis()).thenReturn(0L);
+    when(userService.loadUserByUsername(USERNAME)).thenReturn(user);
+
+    CachedUser cachedUser = userDetailsCache.get(USERNAME, userService::loadUserByUsername);
+
+    assertSame(
+        cachedUser, userDetailsCache.get("Test@Example.com", userService::loadUserByUsername));
+    assertEquals(USERNAME, cachedUser.userDetails().getUsername());
+    assertEquals(AbstractBaseUser.USER_AUTH_SOURCE_LOCAL, cachedUser.source());
+    verify(userService).loadUserByUsername(USERNAME);
+  }
+
+  @Test
+  void reloadsAfterEviction() {
+    when(clock.millis()).thenReturn(0L);
+    when(userService.loadUserByUsername(USERNAME)).thenReturn(user(USERNAME));
+
+    userDetailsCache.get(USERNAME, userService::loadUserByUsername);
+    userDetailsCache.evict(List.of("TEST@example.com"));
+    userDetailsCache.get(USERNAME, userService::loadUserByUsername);
+
+    verify(userService, times(2)).loadUserByUsername(USERNAME);
+  }
+
+  @Test
+  void reloadsAfterExpiration() {
+    when(clock.millis()).thenReturn(0L, 60_000L);
+    when(userService.loadUserByUsername(USERNAME)).thenReturn(user(USERNAME));
+
+    userDetailsCache.get(USERNAME, userService::loadUserByUsername);
+    userDetailsCache.get(USERNAME, userService::loadUserByUsername);
+
+    verify(userService, times(2)).loadUserByUsername(USERNAME);
+  }
+
+  @Test
+  void dropsLeastRecentlyUsedUser() {
+    String otherUsername = "other@example.com";
+    when(clock.millis()).thenReturn(0L);
+    when(userService.loadUserByUsername(USERNAME)).thenReturn(user(USERNAME));
+    when(userService.loadUserByUsername(otherUsername)).thenReturn(user(otherUsername));
+
+    userDetailsCache.get(USERNAME, userService::loadUserByUsername);
+    userDetailsCache.get(otherUsername, userService::loadUserByUsername);
+    userDetailsCache.get(USERNAME, userService::loadUserByUsername);
+
+    verify(userService, times(2)).loadUserByUsername(USERNAME);
+    verify(userService).loadUserByUsername(otherUsername);
+  }
+
+  @Test
+  void disabled() {
+    appJwtProperties.setUserDetailsCacheSize(0);
+    when(userService.loadUserByUsername(USERNAME)).thenReturn(user(USERNAME));
+
+    userDetailsCache.get(USERNAME, userService::loadUserByUsername);
+    userDetailsCache.get(USERNAME, userService::loadUserByUsername);
+
+    verify(userService, times(2)).loadUserByUsername(USERNAME);
+  }
+
+  private static UserStub user(String email) {
+    return UserStub.builder()
+        .id(1L)
+        .email(email)
+        .firstName("John")
+        .lastName("Doe")
+        .locale(Locale.GERMAN)
+        .build();
+  }
+}
@@ -114,7 +114,8 @@ class JwtTokenServiceTest {
             sessionTokenRepository,
             sessionTokenKeyLocator,
             appConfigJwtProperties,
-            userMailService);
+            userMailService,
+            new EssenciumUserDetailsCache(appConfigJwtProperties));
     jwtTokenService.setUserService(userService);
   }
 
@@ -385,6 +386,12 @@ class JwtTokenServiceTest {
     verify(sessionTokenRepository, times(2)).getReferenceById(any(UUID.class));
     verify(sessionTokenRepository, times(2)).save(any(SessionToken.class));
     verify(sessionTokenRepository, times(1)).findAllByParentToken(any(SessionToken.class));
+    ArgumentCaptor<Date> lastUsed = ArgumentCaptor.forClass(Date.class);
+    ArgumentCaptor<Date> threshold = ArgumentCaptor.forClass(Date.class);
+    verify(sessionTokenRepository, times(1))
+        .updateLastUsed(eq(sessionToken.getId()), lastUsed.capture(), threshold.capture());
+    assertEquals(
+        lastUsed.getValue().toInstant().minusSeconds(60), threshold.getValue().toInstant());
     verifyNoMoreInteractions(sessionTokenKeyLocator);
     verifyNoMoreInteractions(sessionTokenRepository);
   }
@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import de.frachtwerk.essencium.backend.api.data.user.TestUUIDUser;
+import de.frachtwerk.essencium.backend.model.Role;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+
+class ProjectionQueryTest {
+
+  record UserRecord(UUID id, String email, Set<Role> roles) {}
+
+  record UserRecordWithRoleNames(UUID id, String email, Set<String> roles) {}
+
+  interface ClosedUserProjection {
+    UUID getId();
+
+    String getEmail();
+  }
+
+  interface OpenUserProjection {
+    @Value("#{target.firstName + ' ' + target.lastName}")
+    String getName();
+  }
+
+  static class UserClass {
+    String email;
+  }
+
+  @Test
+  void acceptsRecords() {
+    assertThatCode(() -> new ProjectionQuery<>(TestUUIDUser.class, UserRecord.class))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void acceptsRecordsWithIdCollections() {
+    assertThatCode(() -> new ProjectionQuery<>(TestUUIDUser.class, UserRecordWithRoleNames.class))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void acceptsClosedInterfaces() {
+    assertThatCode(() -> new ProjectionQuery<>(TestUUIDUser.class, ClosedUserProjection.class))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void rejectsOpenInterfaces() {
+    assertThatThrownBy(() -> new ProjectionQuery<>(TestUUIDUser.class, OpenUserProjection.class))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void rejectsClasses() {
+    assertThatThrownBy(() -> new ProjectionQuery<>(TestUUIDUser.class, UserClass.class))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
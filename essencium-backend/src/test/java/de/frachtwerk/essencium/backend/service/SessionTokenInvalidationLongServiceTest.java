@@ -21,19 +21,13 @@ package de.frachtwerk.essencium.backend.service;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertInstanceOf;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.eq;
-import static org.mockito.Mockito.lenient;
-import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -41,8 +35,6 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
-import de.frachtwerk.essencium.backend.api.data.user.UserStub;
-import de.frachtwerk.essencium.backend.model.AbstractBaseUser;
 import de.frachtwerk.essencium.backend.model.ApiToken;
 import de.frachtwerk.essencium.backend.model.ApiTokenStatus;
 import de.frachtwerk.essencium.backend.model.SessionTokenType;
@@ -52,11 +44,12 @@ import de.frachtwerk.essencium.backend.repository.BaseUserRepository;
 import de.frachtwerk.essencium.backend.repository.RightRepository;
 import de.frachtwerk.essencium.backend.repository.RoleRepository;
 import de.frachtwerk.essencium.backend.repository.SessionTokenRepository;
-import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Locale;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -68,7 +61,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.jpa.domain.DeleteSpecification;
 import org.springframework.data.jpa.domain.PredicateSpecification;
-import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("SessionTokenInvalidationService Tests")
@@ -79,19 +74,16 @@ class SessionTokenInvalidationLongServiceTest {
   @Mock BaseUserRepository baseUserRepository;
   @Mock RoleRepository roleRepository;
   @Mock RightRepository rightRepository;
-  @Mock EntityManager entityManager;
-  @InjectMocks UserStateService userStateService;
+  @Mock PlatformTransactionManager transactionManager;
+  @Mock EssenciumUserDetailsCache userDetailsCache;
   @InjectMocks TokenInvalidationService tokenInvalidationService;
 
   private static final String TEST_USERNAME = "test@example.com";
   private static final String TEST_ROLE_NAME = "ADMIN";
   private static final String TEST_RIGHT_NAME = "READ_USERS";
-  private static final Long TEST_USER_ID = 1L;
 
   @BeforeEach
   void setUp() {
-    userStateService = new UserStateService(baseUserRepository);
-    ReflectionTestUtils.setField(userStateService, "entityManager", entityManager);
     tokenInvalidationService =
         new TokenInvalidationService(
             sessionTokenRepository,
@@ -99,7 +91,8 @@ class SessionTokenInvalidationLongServiceTest {
             baseUserRepository,
             roleRepository,
             rightRepository,
-            userStateService);
+            userDetailsCache,
+            transactionManager);
   }
 
   @AfterEach
@@ -117,8 +110,7 @@ class SessionTokenInvalidationLongServiceTest {
         apiTokenRepository,
         baseUserRepository,
         roleRepository,
-        rightRepository,
-        entityManager);
+        rightRepository);
   }
 
   @Nested
@@ -173,104 +165,94 @@ class SessionTokenInvalidationLongServiceTest {
   }
 
   @Nested
-  @DisplayName("Invalidate tokens on user update")
-  class InvalidateTokensOnUserUpdate {
+  @DisplayName("Invalidate tokens for users by username")
+  class InvalidateTokensForUsersByUsername {
 
     @Test
-    @DisplayName("Should successfully invalidate tokens when relevant changes detected")
-    void successfulWithRelevantChanges() {
-      UserStub currentUser = createMockUser(TEST_USERNAME, Locale.ENGLISH, true, true, "local");
-      UserStub originalUser = createMockUser(TEST_USERNAME, Locale.GERMAN, true, true, "local");
-
-      when(baseUserRepository.findById(TEST_USER_ID)).thenReturn(Optional.of(originalUser));
-      doNothing().when(entityManager).clear();
-      doNothing().when(entityManager).detach(originalUser);
-      doNothing()
-          .when(sessionTokenRepository)
-          .deleteAllByUsernameEqualsIgnoreCaseAndType(
-              eq(TEST_USERNAME), any(SessionTokenType.class));
-
-      assertDoesNotThrow(
-          () ->
-              tokenInvalidationService.invalidateTokensOnUserUpdate(
-                  currentUser, ApiTokenStatus.REVOKED_USER_CHANGED));
-
-      verify(baseUserRepository, times(1)).findById(TEST_USER_ID);
-      verify(apiTokenRepository, times(1)).findAllByLinkedUser(currentUser.getEmail());
-      verify(entityManager, times(1)).clear();
-      verify(entityManager, times(1)).detach(originalUser);
-      verify(sessionTokenRepository, times(2))
-          .deleteAllByUsernameEqualsIgnoreCaseAndType(
-              eq(TEST_USERNAME), any(SessionTokenType.class));
+    @DisplayName("Should revoke only API tokens which are still active")
+    void keepsRevokedAndExpiredApiTokens() {
+      ApiToken active = ApiToken.builder().id(UUID.randomUUID()).linkedUser(TEST_USERNAME).build();
+      ApiToken revoked =
+          ApiToken.builder()
+              .id(UUID.randomUUID())
+              .linkedUser(TEST_USERNAME)
+              .status(ApiTokenStatus.REVOKED)
+              .validUntil(LocalDate.now().minusDays(3))
+              .build();
+      ApiToken expired =
+          ApiToken.builder()
+              .id(UUID.randomUUID())
+              .linkedUser(TEST_USERNAME)
+              .validUntil(LocalDate.now().minusDays(1))
+              .build();
+      when(apiTokenRepository.findAllByLinkedUserIn(Set.of(TEST_USERNAME)))
+          .thenReturn(List.of(active, revoked, expired));
+
+      tokenInvalidationService.invalidateTokensForUsersByUsername(
+          Map.of(TEST_USERNAME, ApiTokenStatus.REVOKED_USER_CHANGED));
+
+      verify(sessionTokenRepository)
+          .deleteAllByUsernameInIgnoreCaseAndType(List.of(TEST_USERNAME), SessionTokenType.ACCESS);
+      verify(sessionTokenRepository)
+          .deleteAllByUsernameInIgnoreCaseAndType(
+              List.of(TEST_USERNAME), SessionTokenType.REFRESH);
+      verify(sessionTokenRepository)
+          .deleteAllByUsernameInIgnoreCaseAndType(
+              List.of(active.getUsername().toLowerCase(Locale.ROOT)), SessionTokenType.API);
+      verify(apiTokenRepository)
+          .setStatusAndExpirationByIds(
+              ApiTokenStatus.REVOKED_USER_CHANGED, LocalDate.now(), List.of(active.getId()));
     }
+  }
 
-    @Test
-    @DisplayName("Should skip token invalidation when no relevant changes detected")
-    void skipInvalidationNoRelevantChanges() {
-      UserStub currentUser = createMockUser(TEST_USERNAME, Locale.ENGLISH, true, true, "local");
-      UserStub originalUser = createMockUser(TEST_USERNAME, Locale.ENGLISH, true, true, "local");
-
-      when(baseUserRepository.findById(TEST_USER_ID)).thenReturn(Optional.of(originalUser));
-      doNothing().when(entityManager).clear();
-      doNothing().when(entityManager).detach(originalUser);
+  @Nested
+  @DisplayName("Schedule token invalidation")
+  class ScheduleTokenInvalidation {
 
-      assertDoesNotThrow(
-          () ->
-              tokenInvalidationService.invalidateTokensOnUserUpdate(
-                  currentUser, ApiTokenStatus.REVOKED_USER_CHANGED));
+    @Test
+    @DisplayName("Should defer and deduplicate invalidations until the transaction has committed")
+    void deferredUntilCommit() {
+      TransactionSynchronizationManager.initSynchronization();
+      TransactionSynchronizationManager.setActualTransactionActive(true);
+      try {
+        tokenInvalidationService.scheduleTokenInvalidation(
+            Set.of(TEST_USERNAME), ApiTokenStatus.REVOKED_USER_CHANGED);
+        tokenInvalidationService.scheduleTokenInvalidation(
+            Set.of(TEST_USERNAME), ApiTokenStatus.REVOKED_USER_CHANGED);
+
+        verifyNoInteractions(sessionTokenRepository, apiTokenRepository);
+        List<TransactionSynchronization> synchronizations =
+            TransactionSynchronizationManager.getSynchronizations();
+        assertEquals(1, synchronizations.size());
+
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(
+            synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+      } finally {
+        TransactionSynchronizationManager.unbindResourceIfPossible(tokenInvalidationService);
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+      }
 
-      verify(baseUserRepository, times(1)).findById(TEST_USER_ID);
-      verify(entityManager, times(1)).clear();
-      verify(entityManager, times(1)).detach(originalUser);
-      verifyNoInteractions(sessionTokenRepository, apiTokenRepository);
+      verify(sessionTokenRepository, times(1))
+          .deleteAllByUsernameInIgnoreCaseAndType(List.of(TEST_USERNAME), SessionTokenType.ACCESS);
+      verify(sessionTokenRepository, times(1))
+          .deleteAllByUsernameInIgnoreCaseAndType(
+              List.of(TEST_USERNAME), SessionTokenType.REFRESH);
+      verify(apiTokenRepository, times(1)).findAllByLinkedUserIn(Set.of(TEST_USERNAME));
     }
 
     @Test
-    @DisplayName("Should invalidate tokens when original user not found")
-    void originalUserNotFound() {
-      UserStub currentUser = createMockUser(TEST_USERNAME, Locale.ENGLISH, true, true, "local");
-
-      when(baseUserRepository.findById(TEST_USER_ID)).thenReturn(Optional.empty());
-      doNothing().when(entityManager).clear();
-
-      assertDoesNotThrow(
-          () ->
-              tokenInvalidationService.invalidateTokensOnUserUpdate(
-                  currentUser, ApiTokenStatus.REVOKED_USER_CHANGED));
+    @DisplayName("Should invalidate immediately without an active transaction")
+    void withoutTransaction() {
+      tokenInvalidationService.scheduleTokenInvalidation(
+          Set.of(TEST_USERNAME), ApiTokenStatus.REVOKED_USER_CHANGED);
 
-      verify(baseUserRepository, times(1)).findById(TEST_USER_ID);
-      verify(apiTokenRepository, times(1)).findAllByLinkedUser(currentUser.getEmail());
-      verify(entityManager, times(1)).clear();
       verify(sessionTokenRepository, times(2))
           .deleteAllByUsernameEqualsIgnoreCaseAndType(
               eq(TEST_USERNAME), any(SessionTokenType.class));
-    }
-
-    @Test
-    @DisplayName("Should throw TokenInvalidationException when token deletion fails")
-    void tokenDeletionFails() {
-      UserStub currentUser = createMockUser(TEST_USERNAME, Locale.ENGLISH, true, true, "local");
-      UserStub originalUser = createMockUser(TEST_USERNAME, Locale.GERMAN, true, true, "local");
-      RuntimeException deletionException = new RuntimeException("Token deletion failed");
-
-      when(baseUserRepository.findById(TEST_USER_ID)).thenReturn(Optional.of(originalUser));
-      doNothing().when(entityManager).clear();
-      doNothing().when(entityManager).detach(originalUser);
-      doThrow(deletionException)
-          .when(sessionTokenRepository)
-          .deleteAllByUsernameEqualsIgnoreCaseAndType(
-              eq(TEST_USERNAME), any(SessionTokenType.class));
-
-      TokenInvalidationException exception =
-          assertThrows(
-              TokenInvalidationException.class,
-              () ->
-                  tokenInvalidationService.invalidateTokensOnUserUpdate(
-                      currentUser, ApiTokenStatus.REVOKED_USER_CHANGED));
-
-      assertEquals(
-          "Failed to invalidate tokens for user mit ID " + TEST_USER_ID, exception.getMessage());
-      assertEquals(deletionException, exception.getCause());
+      verify(apiTokenRepository, times(1)).findAllByLinkedUser(TEST_USERNAME);
     }
   }
 
@@ -417,184 +399,4 @@ class SessionTokenInvalidationLongServiceTest {
       verifyNoInteractions(sessionTokenRepository);
     }
   }
-
-  @Nested
-  @DisplayName("Fetch original user state")
-  class FetchOriginalUserState {
-
-    @Test
-    @DisplayName("Should successfully fetch and detach original user")
-    void successful() {
-      UserStub currentUser = createMockUser(TEST_USERNAME, Locale.ENGLISH, true, true, "local");
-      UserStub originalUser = createMockUser(TEST_USERNAME, Locale.GERMAN, true, true, "local");
-
-      // Mock EntityManager methods
-      doNothing().when(entityManager).clear();
-      doNothing().when(entityManager).detach(originalUser);
-
-      // Mock repository to return the original user
-      when(baseUserRepository.findById(TEST_USER_ID)).thenReturn(Optional.of(originalUser));
-
-      Optional<AbstractBaseUser<?>> optionalAbstractBaseUser =
-          userStateService.fetchOriginalUserState(currentUser);
-      assertTrue(optionalAbstractBaseUser.isPresent());
-      AbstractBaseUser<?> abstractBaseUser = optionalAbstractBaseUser.get();
-      assertInstanceOf(UserStub.class, abstractBaseUser);
-      UserStub result = (UserStub) abstractBaseUser;
-
-      assertNotNull(result);
-      assertEquals(originalUser, result);
-      verify(entityManager, times(1)).clear();
-      verify(baseUserRepository, times(1)).findById(TEST_USER_ID);
-      verify(entityManager, times(1)).detach(originalUser);
-    }
-
-    @Test
-    @DisplayName("Should return empty Optional when user not found")
-    void userNotFound() {
-      UserStub currentUser = createMockUser(TEST_USERNAME, Locale.ENGLISH, true, true, "local");
-
-      // Mock EntityManager methods
-      doNothing().when(entityManager).clear();
-
-      // Mock repository to return empty Optional
-      when(baseUserRepository.findById(TEST_USER_ID)).thenReturn(Optional.empty());
-
-      Optional<AbstractBaseUser<?>> optionalAbstractBaseUser =
-          userStateService.fetchOriginalUserState(currentUser);
-      assertTrue(optionalAbstractBaseUser.isEmpty());
-
-      verify(entityManager, times(1)).clear();
-      verify(baseUserRepository, times(1)).findById(TEST_USER_ID);
-      verify(entityManager, never()).detach(any());
-      verifyNoInteractions(
-          apiTokenRepository, sessionTokenRepository, roleRepository, rightRepository);
-    }
-
-    @Test
-    @DisplayName("Should return empty Optional when exception occurs")
-    void exceptionOccurs() {
-      UserStub currentUser = createMockUser(TEST_USERNAME, Locale.ENGLISH, true, true, "local");
-      // Mock EntityManager methods
-      doNothing().when(entityManager).clear();
-
-      // Mock repository to throw exception
-      when(baseUserRepository.findById(TEST_USER_ID))
-          .thenThrow(new RuntimeException("Database error"));
-
-      Optional<AbstractBaseUser<?>> optionalAbstractBaseUser =
-          userStateService.fetchOriginalUserState(currentUser);
-      assertTrue(optionalAbstractBaseUser.isEmpty());
-      verify(entityManager, times(1)).clear();
-      verify(baseUserRepository, times(1)).findById(TEST_USER_ID);
-      verifyNoInteractions(
-          apiTokenRepository, sessionTokenRepository, roleRepository, rightRepository);
-    }
-  }
-
-  @Nested
-  @DisplayName("Has relevant changes")
-  class HasRelevantChanges {
-
-    @Test
-    @DisplayName("Should return true when email changed")
-    void emailChanged() {
-      UserStub originalUser =
-          createMockUser("old@example.com", Locale.ENGLISH, true, true, "local");
-      UserStub currentUser = createMockUser("new@example.com", Locale.ENGLISH, true, true, "local");
-
-      boolean result = tokenInvalidationService.hasRelevantChanges(originalUser, currentUser);
-
-      assertTrue(result);
-    }
-
-    @Test
-    @DisplayName("Should return true when locale changed")
-    void localeChanged() {
-      UserStub originalUser = createMockUser(TEST_USERNAME, Locale.ENGLISH, true, true, "local");
-      UserStub currentUser = createMockUser(TEST_USERNAME, Locale.GERMAN, true, true, "local");
-
-      boolean result = tokenInvalidationService.hasRelevantChanges(originalUser, currentUser);
-
-      assertTrue(result);
-    }
-
-    @Test
-    @DisplayName("Should return true when enabled status changed")
-    void enabledStatusChanged() {
-      UserStub originalUser = createMockUser(TEST_USERNAME, Locale.ENGLISH, true, true, "local");
-      UserStub currentUser = createMockUser(TEST_USERNAME, Locale.ENGLISH, false, true, "local");
-
-      boolean result = tokenInvalidationService.hasRelevantChanges(originalUser, currentUser);
-
-      assertTrue(result);
-    }
-
-    @Test
-    @DisplayName("Should return true when account lock status changed")
-    void accountLockStatusChanged() {
-      UserStub originalUser = createMockUser(TEST_USERNAME, Locale.ENGLISH, true, true, "local");
-      UserStub currentUser = createMockUser(TEST_USERNAME, Locale.ENGLISH, true, false, "local");
-
-      boolean result = tokenInvalidationService.hasRelevantChanges(originalUser, currentUser);
-
-      assertTrue(result);
-    }
-
-    @Test
-    @DisplayName("Should return true when source changed")
-    void sourceChanged() {
-      UserStub originalUser = createMockUser(TEST_USERNAME, Locale.ENGLISH, true, true, "local");
-      UserStub currentUser = createMockUser(TEST_USERNAME, Locale.ENGLISH, true, true, "oauth");
-
-      boolean result = tokenInvalidationService.hasRelevantChanges(originalUser, currentUser);
-
-      assertTrue(result);
-    }
-
-    @Test
-    @DisplayName("Should return false when no relevant changes")
-    void noRelevantChanges() {
-      UserStub originalUser = createMockUser(TEST_USERNAME, Locale.ENGLISH, true, true, "local");
-      UserStub currentUser = createMockUser(TEST_USERNAME, Locale.ENGLISH, true, true, "local");
-
-      boolean result = tokenInvalidationService.hasRelevantChanges(originalUser, currentUser);
-
-      assertFalse(result);
-    }
-
-    @Test
-    @DisplayName("Should return true when original user is null")
-    void originalUserNull() {
-      UserStub currentUser = createMockUser(TEST_USERNAME, Locale.ENGLISH, true, true, "local");
-
-      boolean result = tokenInvalidationService.hasRelevantChanges(null, currentUser);
-
-      assertTrue(result);
-    }
-
-    @Test
-    @DisplayName("Should return true when current user is null")
-    void currentUserNull() {
-      UserStub originalUser = createMockUser(TEST_USERNAME, Locale.ENGLISH, true, true, "local");
-
-      boolean result = tokenInvalidationService.hasRelevantChanges(originalUser, null);
-
-      assertTrue(result);
-    }
-  }
-
-  private UserStub createMockUser(
-      String email, Locale locale, boolean enabled, boolean accountNonLocked, String source) {
-    UserStub user = mock(UserStub.class);
-    lenient().when(user.getId()).thenReturn(TEST_USER_ID);
-    lenient().when(user.getEmail()).thenReturn(email);
-    lenient().when(user.getUsername()).thenReturn(email);
-    lenient().when(user.getLocale()).thenReturn(locale);
-    lenient().when(user.isEnabled()).thenReturn(enabled);
-    lenient().when(user.isAccountNonLocked()).thenReturn(accountNonLocked);
-    lenient().when(user.getSource()).thenReturn(source);
-    lenient().when(user.getRoles()).thenReturn(Set.of());
-    return user;
-  }
 }
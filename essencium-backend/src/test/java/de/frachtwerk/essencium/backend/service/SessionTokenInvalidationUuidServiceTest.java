@@ -21,18 +21,13 @@ package de.frachtwerk.essencium.backend.service;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertInstanceOf;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.eq;
-import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -42,7 +37,6 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import de.frachtwerk.essencium.backend.api.data.user.TestUUIDUser;
-import de.frachtwerk.essencium.backend.model.AbstractBaseUser;
 import de.frachtwerk.essencium.backend.model.ApiToken;
 import de.frachtwerk.essencium.backend.model.ApiTokenStatus;
 import de.frachtwerk.essencium.backend.model.Role;
@@ -53,10 +47,7 @@ import de.frachtwerk.essencium.backend.repository.BaseUserRepository;
 import de.frachtwerk.essencium.backend.repository.RightRepository;
 import de.frachtwerk.essencium.backend.repository.RoleRepository;
 import de.frachtwerk.essencium.backend.repository.SessionTokenRepository;
-import jakarta.persistence.EntityManager;
 import java.util.List;
-import java.util.Locale;
-import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.AfterEach;
@@ -70,7 +61,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.jpa.domain.DeleteSpecification;
 import org.springframework.data.jpa.domain.PredicateSpecification;
-import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("SessionTokenInvalidationService Tests")
@@ -81,20 +74,16 @@ class SessionTokenInvalidationUuidServiceTest {
   @Mock BaseUserRepository<TestUUIDUser, UUID> baseUserRepository;
   @Mock RoleRepository roleRepository;
   @Mock RightRepository rightRepository;
-  @Mock EntityManager entityManager;
-  @InjectMocks UserStateService userStateService;
-
+  @Mock PlatformTransactionManager transactionManager;
+  @Mock EssenciumUserDetailsCache userDetailsCache;
   @InjectMocks TokenInvalidationService tokenInvalidationService;
 
   private static final String TEST_USERNAME = "test@example.com";
   private static final String TEST_ROLE_NAME = "ADMIN";
   private static final String TEST_RIGHT_NAME = "READ_USERS";
-  private static final UUID TEST_USER_ID = UUID.randomUUID();
 
   @BeforeEach
   void setUp() {
-    userStateService = new UserStateService(baseUserRepository);
-    ReflectionTestUtils.setField(userStateService, "entityManager", entityManager);
     tokenInvalidationService =
         new TokenInvalidationService(
             sessionTokenRepository,
@@ -102,7 +91,8 @@ class SessionTokenInvalidationUuidServiceTest {
             baseUserRepository,
             roleRepository,
             rightRepository,
-            userStateService);
+            userDetailsCache,
+            transactionManager);
   }
 
   @AfterEach
@@ -120,8 +110,7 @@ class SessionTokenInvalidationUuidServiceTest {
         apiTokenRepository,
         baseUserRepository,
         roleRepository,
-        rightRepository,
-        entityManager);
+        rightRepository);
   }
 
   @Nested
@@ -176,105 +165,53 @@ class SessionTokenInvalidationUuidServiceTest {
   }
 
   @Nested
-  @DisplayName("Invalidate tokens on user update")
-  class InvalidateTokensOnUserUpdate {
-
-    @Test
-    @DisplayName("Should successfully invalidate tokens when relevant changes detected")
-    void successfulWithRelevantChanges() {
-      TestUUIDUser currentUser = createMockUser(TEST_USERNAME, Locale.ENGLISH, true, true, "local");
-      TestUUIDUser originalUser = createMockUser(TEST_USERNAME, Locale.GERMAN, true, true, "local");
-
-      when(baseUserRepository.findById(TEST_USER_ID)).thenReturn(Optional.of(originalUser));
-      doNothing().when(entityManager).clear();
-      doNothing().when(entityManager).detach(originalUser);
-      doNothing()
-          .when(sessionTokenRepository)
-          .deleteAllByUsernameEqualsIgnoreCaseAndType(
-              eq(TEST_USERNAME), any(SessionTokenType.class));
-
-      assertDoesNotThrow(
-          () ->
-              tokenInvalidationService.invalidateTokensOnUserUpdate(
-                  currentUser, ApiTokenStatus.REVOKED_USER_CHANGED));
-
-      verify(baseUserRepository, times(1)).findById(TEST_USER_ID);
-      verify(apiTokenRepository, times(1)).findAllByLinkedUser(TEST_USERNAME);
-      verify(entityManager, times(1)).clear();
-      verify(entityManager, times(1)).detach(originalUser);
-      verify(sessionTokenRepository, times(2))
-          .deleteAllByUsernameEqualsIgnoreCaseAndType(
-              eq(TEST_USERNAME), any(SessionTokenType.class));
-    }
+  @DisplayName("Schedule token invalidation")
+  class ScheduleTokenInvalidation {
 
     @Test
-    @DisplayName("Should skip token invalidation when no relevant changes detected")
-    void skipInvalidationNoRelevantChanges() {
-      TestUUIDUser currentUser = createMockUser(TEST_USERNAME, Locale.ENGLISH, true, true, "local");
-      TestUUIDUser originalUser =
-          createMockUser(TEST_USERNAME, Locale.ENGLISH, true, true, "local");
-
-      when(baseUserRepository.findById(TEST_USER_ID)).thenReturn(Optional.of(originalUser));
-      doNothing().when(entityManager).clear();
-      doNothing().when(entityManager).detach(originalUser);
-
-      assertDoesNotThrow(
-          () ->
-              tokenInvalidationService.invalidateTokensOnUserUpdate(
-                  currentUser, ApiTokenStatus.REVOKED_USER_CHANGED));
+    @DisplayName("Should defer and deduplicate invalidations until the transaction has committed")
+    void deferredUntilCommit() {
+      TransactionSynchronizationManager.initSynchronization();
+      TransactionSynchronizationManager.setActualTransactionActive(true);
+      try {
+        tokenInvalidationService.scheduleTokenInvalidation(
+            Set.of(TEST_USERNAME), ApiTokenStatus.REVOKED_USER_CHANGED);
+        tokenInvalidationService.scheduleTokenInvalidation(
+            Set.of(TEST_USERNAME), ApiTokenStatus.REVOKED_USER_CHANGED);
+
+        verifyNoInteractions(sessionTokenRepository, apiTokenRepository);
+        List<TransactionSynchronization> synchronizations =
+            TransactionSynchronizationManager.getSynchronizations();
+        assertEquals(1, synchronizations.size());
+
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(
+            synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+      } finally {
+        TransactionSynchronizationManager.unbindResourceIfPossible(tokenInvalidationService);
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+      }
 
-      verify(baseUserRepository, times(1)).findById(TEST_USER_ID);
-      verify(entityManager, times(1)).clear();
-      verify(entityManager, times(1)).detach(originalUser);
-      verifyNoInteractions(sessionTokenRepository, apiTokenRepository);
+      verify(sessionTokenRepository, times(1))
+          .deleteAllByUsernameInIgnoreCaseAndType(List.of(TEST_USERNAME), SessionTokenType.ACCESS);
+      verify(sessionTokenRepository, times(1))
+          .deleteAllByUsernameInIgnoreCaseAndType(
+              List.of(TEST_USERNAME), SessionTokenType.REFRESH);
+      verify(apiTokenRepository, times(1)).findAllByLinkedUserIn(Set.of(TEST_USERNAME));
     }
 
     @Test
-    @DisplayName("Should invalidate tokens when original user not found")
-    void originalUserNotFound() {
-      TestUUIDUser currentUser = createMockUser(TEST_USERNAME, Locale.ENGLISH, true, true, "local");
-
-      when(baseUserRepository.findById(TEST_USER_ID)).thenReturn(Optional.empty());
-      doNothing().when(entityManager).clear();
-
-      assertDoesNotThrow(
-          () ->
-              tokenInvalidationService.invalidateTokensOnUserUpdate(
-                  currentUser, ApiTokenStatus.REVOKED_USER_CHANGED));
+    @DisplayName("Should invalidate immediately without an active transaction")
+    void withoutTransaction() {
+      tokenInvalidationService.scheduleTokenInvalidation(
+          Set.of(TEST_USERNAME), ApiTokenStatus.REVOKED_USER_CHANGED);
 
-      verify(baseUserRepository, times(1)).findById(TEST_USER_ID);
-      verify(apiTokenRepository, times(1)).findAllByLinkedUser(TEST_USERNAME);
-      verify(entityManager, times(1)).clear();
       verify(sessionTokenRepository, times(2))
           .deleteAllByUsernameEqualsIgnoreCaseAndType(
               eq(TEST_USERNAME), any(SessionTokenType.class));
-    }
-
-    @Test
-    @DisplayName("Should throw TokenInvalidationException when token deletion fails")
-    void tokenDeletionFails() {
-      TestUUIDUser currentUser = createMockUser(TEST_USERNAME, Locale.ENGLISH, true, true, "local");
-      TestUUIDUser originalUser = createMockUser(TEST_USERNAME, Locale.GERMAN, true, true, "local");
-      RuntimeException deletionException = new RuntimeException("Token deletion failed");
-
-      when(baseUserRepository.findById(TEST_USER_ID)).thenReturn(Optional.of(originalUser));
-      doNothing().when(entityManager).clear();
-      doNothing().when(entityManager).detach(originalUser);
-      doThrow(deletionException)
-          .when(sessionTokenRepository)
-          .deleteAllByUsernameEqualsIgnoreCaseAndType(
-              eq(TEST_USERNAME), any(SessionTokenType.class));
-
-      TokenInvalidationException exception =
-          assertThrows(
-              TokenInvalidationException.class,
-              () ->
-                  tokenInvalidationService.invalidateTokensOnUserUpdate(
-                      currentUser, ApiTokenStatus.REVOKED_USER_CHANGED));
-
-      assertEquals(
-          "Failed to invalidate tokens for user mit ID " + TEST_USER_ID, exception.getMessage());
-      assertEquals(deletionException, exception.getCause());
+      verify(apiTokenRepository, times(1)).findAllByLinkedUser(TEST_USERNAME);
     }
   }
 
@@ -421,194 +358,4 @@ class SessionTokenInvalidationUuidServiceTest {
       verifyNoInteractions(sessionTokenRepository);
     }
   }
-
-  @Nested
-  @DisplayName("Fetch original user state")
-  class FetchOriginalUserState {
-
-    @Test
-    @DisplayName("Should successfully fetch and detach original user")
-    void successful() {
-      TestUUIDUser currentUser = createMockUser(TEST_USERNAME, Locale.ENGLISH, true, true, "local");
-      TestUUIDUser originalUser = createMockUser(TEST_USERNAME, Locale.GERMAN, true, true, "local");
-
-      // Mock EntityManager methods
-      doNothing().when(entityManager).clear();
-      doNothing().when(entityManager).detach(originalUser);
-
-      // Mock repository to return the original user
-      when(baseUserRepository.findById(TEST_USER_ID)).thenReturn(Optional.of(originalUser));
-
-      Optional<AbstractBaseUser<?>> optionalAbstractBaseUser =
-          userStateService.fetchOriginalUserState(currentUser);
-      assertTrue(optionalAbstractBaseUser.isPresent());
-      AbstractBaseUser<?> abstractBaseUser = optionalAbstractBaseUser.get();
-      assertInstanceOf(TestUUIDUser.class, abstractBaseUser);
-      TestUUIDUser result = (TestUUIDUser) abstractBaseUser;
-
-      assertNotNull(result);
-      assertEquals(originalUser, result);
-      verify(entityManager, times(1)).clear();
-      verify(baseUserRepository, times(1)).findById(TEST_USER_ID);
-      verify(entityManager, times(1)).detach(originalUser);
-    }
-
-    @Test
-    @DisplayName("Should return empty Optional when user not found")
-    void userNotFound() {
-      TestUUIDUser currentUser = createMockUser(TEST_USERNAME, Locale.ENGLISH, true, true, "local");
-
-      // Mock EntityManager methods
-      doNothing().when(entityManager).clear();
-
-      // Mock repository to return empty Optional
-      when(baseUserRepository.findById(TEST_USER_ID)).thenReturn(Optional.empty());
-
-      Optional<AbstractBaseUser<?>> optionalAbstractBaseUser =
-          userStateService.fetchOriginalUserState(currentUser);
-      assertTrue(optionalAbstractBaseUser.isEmpty());
-
-      verify(entityManager, times(1)).clear();
-      verify(baseUserRepository, times(1)).findById(TEST_USER_ID);
-      verify(entityManager, never()).detach(any());
-      verifyNoInteractions(
-          apiTokenRepository, sessionTokenRepository, roleRepository, rightRepository);
-    }
-
-    @Test
-    @DisplayName("Should return empty Optional when exception occurs")
-    void exceptionOccurs() {
-      TestUUIDUser currentUser = createMockUser(TEST_USERNAME, Locale.ENGLISH, true, true, "local");
-      // Mock EntityManager methods
-      doNothing().when(entityManager).clear();
-
-      // Mock repository to throw exception
-      when(baseUserRepository.findById(TEST_USER_ID))
-          .thenThrow(new RuntimeException("Database error"));
-
-      Optional<AbstractBaseUser<?>> optionalAbstractBaseUser =
-          userStateService.fetchOriginalUserState(currentUser);
-      assertTrue(optionalAbstractBaseUser.isEmpty());
-
-      verify(entityManager, times(1)).clear();
-      verify(baseUserRepository, times(1)).findById(TEST_USER_ID);
-      verifyNoInteractions(
-          apiTokenRepository, sessionTokenRepository, roleRepository, rightRepository);
-    }
-  }
-
-  @Nested
-  @DisplayName("Has relevant changes")
-  class HasRelevantChanges {
-
-    @Test
-    @DisplayName("Should return true when email changed")
-    void emailChanged() {
-      TestUUIDUser originalUser =
-          createMockUser("old@example.com", Locale.ENGLISH, true, true, "local");
-      TestUUIDUser currentUser =
-          createMockUser("new@example.com", Locale.ENGLISH, true, true, "local");
-
-      boolean result = tokenInvalidationService.hasRelevantChanges(originalUser, currentUser);
-
-      assertTrue(result);
-    }
-
-    @Test
-    @DisplayName("Should return true when locale changed")
-    void localeChanged() {
-      TestUUIDUser originalUser =
-          createMockUser(TEST_USERNAME, Locale.ENGLISH, true, true, "local");
-      TestUUIDUser currentUser = createMockUser(TEST_USERNAME, Locale.GERMAN, true, true, "local");
-
-      boolean result = tokenInvalidationService.hasRelevantChanges(originalUser, currentUser);
-
-      assertTrue(result);
-    }
-
-    @Test
-    @DisplayName("Should return true when enabled status changed")
-    void enabledStatusChanged() {
-      TestUUIDUser originalUser =
-          createMockUser(TEST_USERNAME, Locale.ENGLISH, true, true, "local");
-      TestUUIDUser currentUser =
-          createMockUser(TEST_USERNAME, Locale.ENGLISH, false, true, "local");
-
-      boolean result = tokenInvalidationService.hasRelevantChanges(originalUser, currentUser);
-
-      assertTrue(result);
-    }
-
-    @Test
-    @DisplayName("Should return true when account lock status changed")
-    void accountLockStatusChanged() {
-      TestUUIDUser originalUser =
-          createMockUser(TEST_USERNAME, Locale.ENGLISH, true, true, "local");
-      TestUUIDUser currentUser =
-          createMockUser(TEST_USERNAME, Locale.ENGLISH, true, false, "local");
-
-      boolean result = tokenInvalidationService.hasRelevantChanges(originalUser, currentUser);
-
-      assertTrue(result);
-    }
-
-    @Test
-    @DisplayName("Should return true when source changed")
-    void sourceChanged() {
-      TestUUIDUser originalUser =
-          createMockUser(TEST_USERNAME, Locale.ENGLISH, true, true, "local");
-      TestUUIDUser currentUser = createMockUser(TEST_USERNAME, Locale.ENGLISH, true, true, "oauth");
-
-      boolean result = tokenInvalidationService.hasRelevantChanges(originalUser, currentUser);
-
-      assertTrue(result);
-    }
-
-    @Test
-    @DisplayName("Should return false when no relevant changes")
-    void noRelevantChanges() {
-      TestUUIDUser originalUser =
-          createMockUser(TEST_USERNAME, Locale.ENGLISH, true, true, "local");
-      TestUUIDUser currentUser = createMockUser(TEST_USERNAME, Locale.ENGLISH, true, true, "local");
-
-      boolean result = tokenInvalidationService.hasRelevantChanges(originalUser, currentUser);
-
-      assertFalse(result);
-    }
-
-    @Test
-    @DisplayName("Should return true when original user is null")
-    void originalUserNull() {
-      TestUUIDUser currentUser = createMockUser(TEST_USERNAME, Locale.ENGLISH, true, true, "local");
-
-      boolean result = tokenInvalidationService.hasRelevantChanges(null, currentUser);
-
-      assertTrue(result);
-    }
-
-    @Test
-    @DisplayName("Should return true when current user is null")
-    void currentUserNull() {
-      TestUUIDUser originalUser =
-          createMockUser(TEST_USERNAME, Locale.ENGLISH, true, true, "local");
-
-      boolean result = tokenInvalidationService.hasRelevantChanges(originalUser, null);
-
-      assertTrue(result);
-    }
-  }
-
-  private TestUUIDUser createMockUser(
-      String email, Locale locale, boolean enabled, boolean accountNonLocked, String source) {
-    TestUUIDUser user = mock(TestUUIDUser.class);
-    lenient().when(user.getId()).thenReturn(TEST_USER_ID);
-    lenient().when(user.getEmail()).thenReturn(email);
-    lenient().when(user.getUsername()).thenReturn(email);
-    lenient().when(user.getLocale()).thenReturn(locale);
-    lenient().when(user.isEnabled()).thenReturn(enabled);
-    lenient().when(user.isAccountNonLocked()).thenReturn(accountNonLocked);
-    lenient().when(user.getSource()).thenReturn(source);
-    lenient().when(user.getRoles()).thenReturn(Set.of());
-    return user;
-  }
 }
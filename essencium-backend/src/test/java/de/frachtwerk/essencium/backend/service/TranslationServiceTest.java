@@ -20,17 +20,21 @@
 package de.frachtwerk.essencium.backend.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import de.frachtwerk.essencium.backend.configuration.properties.EssenciumTranslationProperties;
 import de.frachtwerk.essencium.backend.model.Translation;
 import de.frachtwerk.essencium.backend.repository.TranslationRepository;
 import de.frachtwerk.essencium.backend.service.translation.TranslationService;
+import java.time.Duration;
 import java.util.List;
 import java.util.Locale;
-import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -39,12 +43,18 @@ import org.assertj.core.api.Assertions;
 import org.assertj.core.util.Lists;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 class TranslationServiceTest {
 
   private final TranslationRepository translationRepositoryMock = mock(TranslationRepository.class);
 
-  private final TranslationService testSubject = new TranslationService(translationRepositoryMock);
+  private final EssenciumTranslationProperties translationProperties =
+      new EssenciumTranslationProperties();
+
+  private final TranslationService testSubject =
+      new TranslationService(translationRepositoryMock, translationProperties);
 
   private final Locale testLocale = mock(Locale.class);
 
@@ -158,9 +168,9 @@ class TranslationServiceTest {
   @Test
   void testTranslate() {
     final var testTranslation = Pair.of("some.key", "Some Value");
-    when(translationRepositoryMock.findByKeyAndLocale(testTranslation.getKey(), Locale.GERMANY))
+    when(translationRepositoryMock.findAll())
         .thenReturn(
-            Optional.of(
+            List.of(
                 Translation.builder()
                     .key(testTranslation.getKey())
                     .value(testTranslation.getValue())
@@ -175,9 +185,9 @@ class TranslationServiceTest {
   @Test
   void testTranslateVariant() {
     final var testTranslation = Pair.of("foo.car", "Car | Cars");
-    when(translationRepositoryMock.findByKeyAndLocale(testTranslation.getKey(), Locale.GERMANY))
+    when(translationRepositoryMock.findAll())
         .thenReturn(
-            Optional.of(
+            List.of(
                 Translation.builder()
                     .key(testTranslation.getKey())
                     .value(testTranslation.getValue())
@@ -195,4 +205,101 @@ class TranslationServiceTest {
     final var result3 = testSubject.translateVariant(testTranslation.getKey(), Locale.GERMANY, 2);
     assertThat(result3.isEmpty()).isTrue();
   }
+
+  @Test
+  void testTranslateVariantLikeRegexSplit() {
+    when(translationRepositoryMock.findAll())
+        .thenReturn(
+            List.of(
+                new Translation(Locale.GERMANY, "empty", ""),
+                new Translation(Locale.GERMANY, "separators", "||"),
+                new Translation(Locale.GERMANY, "trailing", "one | two |"),
+                new Translation(Locale.GERMANY, "blank", "none| |many"),
+                new Translation(Locale.GERMANY, "null", null)));
+
+    assertThat(testSubject.translate("empty", Locale.GERMANY)).contains("");
+    assertThat(testSubject.translate("separators", Locale.GERMANY)).isEmpty();
+    assertThat(testSubject.translateVariant("trailing", Locale.GERMANY, 1)).contains("two");
+    assertThat(testSubject.translateVariant("trailing", Locale.GERMANY, 2)).isEmpty();
+    assertThat(testSubject.translateVariant("blank", Locale.GERMANY, 1)).contains("");
+    assertThat(testSubject.translateVariant("blank", Locale.GERMANY, 2)).contains("many");
+    assertThat(testSubject.translateVariant("blank", Locale.GERMANY, -1)).isEmpty();
+    assertThat(testSubject.translate("null", Locale.GERMANY)).isEmpty();
+    assertThat(testSubject.translate("missing", Locale.GERMANY)).isEmpty();
+    assertThat(testSubject.translate("empty", Locale.US)).isEmpty();
+  }
+
+  @Test
+  void testTranslateLoadsTableOnce() {
+    when(translationRepositoryMock.findAll())
+        .thenReturn(List.of(new Translation(Locale.GERMANY, "some.key", "Some Value")));
+
+    testSubject.translate("some.key", Locale.GERMANY);
+    testSubject.translate("some.key", Locale.GERMANY);
+    testSubject.translate("other.key", Locale.GERMANY);
+
+    verify(translationRepositoryMock, times(1)).findAll();
+    verify(translationRepositoryMock, never()).findByKeyAndLocale(any(), any());
+  }
+
+  @Test
+  void testTranslateReloadsExpiredTable() {
+    translationProperties.setTableTimeToLive(Duration.ZERO);
+    when(translationRepositoryMock.findAll())
+        .thenReturn(List.of(new Translation(Locale.GERMANY, "some.key", "Old")))
+        .thenReturn(List.of(new Translation(Locale.GERMANY, "some.key", "New")));
+
+    assertThat(testSubject.translate("some.key", Locale.GERMANY)).contains("Old");
+    assertThat(testSubject.translate("some.key", Locale.GERMANY)).contains("New");
+  }
+
+  @Test
+  void testTranslateAfterUpdate() {
+    final var updated = new Translation(Locale.GERMANY, "some.key", "New");
+    when(translationRepositoryMock.findAll())
+        .thenReturn(List.of(new Translation(Locale.GERMANY, "some.key", "Old")))
+        .thenReturn(List.of(updated));
+    when(translationRepositoryMock.save(updated)).thenReturn(updated);
+
+    assertThat(testSubject.translate("some.key", Locale.GERMANY)).contains("Old");
+    testSubject.updateTranslation(updated);
+    assertThat(testSubject.translate("some.key", Locale.GERMANY)).contains("New");
+  }
+
+  @Test
+  void testTranslateAfterDelete() {
+    final var translation = new Translation(Locale.GERMANY, "some.key", "Some Value");
+    when(translationRepositoryMock.findAll())
+        .thenReturn(List.of(translation))
+        .thenReturn(List.of());
+    when(translationRepositoryMock.findAllByKey("some.key")).thenReturn(List.of(translation));
+
+    assertThat(testSubject.translate("some.key", Locale.GERMANY)).isPresent();
+    testSubject.deleteTranslation("some.key");
+    assertThat(testSubject.translate("some.key", Locale.GERMANY)).isEmpty();
+  }
+
+  @Test
+  void testTranslateAfterRolledBackUpdate() {
+    final var updated = new Translation(Locale.GERMANY, "some.key", "New");
+    when(translationRepositoryMock.findAll())
+        .thenReturn(List.of(updated))
+        .thenReturn(List.of(new Translation(Locale.GERMANY, "some.key", "Old")));
+    when(translationRepositoryMock.save(updated)).thenReturn(updated);
+
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      testSubject.updateTranslation(updated);
+      // loaded inside the transaction, i.e. including the uncommitted update
+      assertThat(testSubject.translate("some.key", Locale.GERMANY)).contains("New");
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(
+              synchronization ->
+                  synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    assertThat(testSubject.translate("some.key", Locale.GERMANY)).contains("Old");
+  }
 }
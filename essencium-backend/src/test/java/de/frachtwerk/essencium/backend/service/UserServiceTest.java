@@ -300,6 +300,7 @@ public class UserServiceTest {
       final var updatedUser = testSubject.update(userToUpdateDto.getId(), userToUpdateDto);
 
       assertThat(updatedUser).isNonNull().andHasPassword(TEST_PASSWORD_HASH);
+      assertThat(userRepositoryMock).invokedFindByIdNTimes(1);
     }
 
     @Test
@@ -350,7 +351,7 @@ public class UserServiceTest {
           .andHasNoPasswordNorPasswordResetToken();
 
       assertThat(userRepositoryMock).invokedSaveNTimes(1);
-      assertThat(userRepositoryMock).invokedFindByIdNTimes(2);
+      assertThat(userRepositoryMock).invokedFindByIdNTimes(1);
       assertThat(userRepositoryMock).hasNoMoreInteractions();
     }
 
@@ -843,7 +844,7 @@ public class UserServiceTest {
           .andHasPassword(existingUser.getPassword());
 
       assertThat(userRepositoryMock).invokedSaveNTimes(1);
-      assertThat(userRepositoryMock).invokedFindByIdNTimes(2);
+      assertThat(userRepositoryMock).invokedFindByIdNTimes(1);
       assertThat(userRepositoryMock).hasNoMoreInteractions();
     }
 
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import de.frachtwerk.essencium.backend.model.ApiTokenStatus;
+import de.frachtwerk.essencium.backend.model.exception.InvalidInputException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+class KeysetCursorUtilsTest {
+
+  @Test
+  void roundTrip() {
+    Map<String, Object> keys = new LinkedHashMap<>();
+    keys.put("name", "Doe; John=Jane");
+    keys.put("createdAt", LocalDateTime.of(2021, 1, 1, 0, 0, 1));
+    keys.put("amount", new BigDecimal("12.50"));
+    keys.put("status", ApiTokenStatus.ACTIVE);
+    keys.put("owner.id", UUID.randomUUID());
+    keys.put("id", 42L);
+
+    KeysetScrollPosition position =
+        KeysetCursorUtils.decode(KeysetCursorUtils.encode(ScrollPosition.forward(keys)));
+
+    assertThat(position.getKeys()).containsExactlyEntriesOf(keys);
+    assertThat(position.scrollsForward()).isTrue();
+  }
+
+  @Test
+  void roundTripNull() {
+    Map<String, Object> keys = new HashMap<>();
+    keys.put("description", null);
+
+    assertThat(
+            KeysetCursorUtils.decode(KeysetCursorUtils.encode(ScrollPosition.forward(keys)))
+                .getKeys())
+        .containsEntry("description", null);
+  }
+
+  @Test
+  void decodeWithoutCursor() {
+    assertThat(KeysetCursorUtils.decode(null).isInitial()).isTrue();
+    assertThat(KeysetCursorUtils.decode(" ").isInitial()).isTrue();
+  }
+
+  @Test
+  void decodeMalformedCursor() {
+    assertThatThrownBy(() -> KeysetCursorUtils.decode("not a cursor"))
+        .isInstanceOf(InvalidInputException.class);
+    assertThatThrownBy(() -> KeysetCursorUtils.decode(base64("id=java.lang.Long")))
+        .isInstanceOf(InvalidInputException.class);
+    assertThatThrownBy(() -> KeysetCursorUtils.decode(base64("id=java.lang.Long=" + base64("x"))))
+        .isInstanceOf(InvalidInputException.class);
+  }
+
+  @Test
+  void decodeUnsupportedType() {
+    assertThatThrownBy(() -> KeysetCursorUtils.decode(base64("id=java.lang.Thread=" + base64("x"))))
+        .isInstanceOf(InvalidInputException.class);
+    assertThatThrownBy(() -> KeysetCursorUtils.decode(base64("id=does.not.Exist=" + base64("x"))))
+        .isInstanceOf(InvalidInputException.class);
+  }
+
+  @Test
+  void encodeUnsupportedType() {
+    ScrollPosition position = ScrollPosition.forward(Map.of("thread", Thread.currentThread()));
+
+    assertThatThrownBy(() -> KeysetCursorUtils.encode(position))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> KeysetCursorUtils.encode(ScrollPosition.offset(10)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static String base64(String plain) {
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(plain.getBytes(StandardCharsets.UTF_8));
+  }
+}
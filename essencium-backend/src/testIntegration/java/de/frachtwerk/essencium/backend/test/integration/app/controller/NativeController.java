@@ -26,6 +26,7 @@ import de.frachtwerk.essencium.backend.controller.access.OwnershipSpec.Or;
 import de.frachtwerk.essencium.backend.controller.access.RestrictAccessToOwnedEntities;
 import de.frachtwerk.essencium.backend.model.dto.EssenciumUserDetails;
 import de.frachtwerk.essencium.backend.model.exception.InvalidInputException;
+import de.frachtwerk.essencium.backend.model.representation.CursorSlice;
 import de.frachtwerk.essencium.backend.test.integration.app.model.dto.NativeDTO;
 import de.frachtwerk.essencium.backend.test.integration.app.model.entity.Native;
 import de.frachtwerk.essencium.backend.test.integration.app.repository.specification.NativeSpec;
@@ -37,6 +38,7 @@ import org.springframework.security.access.annotation.Secured;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -65,6 +67,16 @@ public class NativeController
     return super.findAll(specification, pageable);
   }
 
+  @Override
+  @Secured({"ADMIN", "Test"})
+  @GetMapping("/scroll")
+  public CursorSlice<Native> scroll(
+      NativeSpec specification,
+      @RequestParam(value = "cursor", required = false) String cursor,
+      Pageable pageable) {
+    return super.scroll(specification, cursor, pageable);
+  }
+
   @Secured({"ADMIN", "Test"})
   @GetMapping("/restricted")
   @RestrictAccessToOwnedEntities(rights = "READ_OWN")
@@ -22,6 +22,7 @@ package de.frachtwerk.essencium.backend.test.integration.app.controller;
 import de.frachtwerk.essencium.backend.controller.AbstractUserController;
 import de.frachtwerk.essencium.backend.controller.access.ExposesEntity;
 import de.frachtwerk.essencium.backend.model.dto.EssenciumUserDetails;
+import de.frachtwerk.essencium.backend.model.representation.assembler.AbstractProjectionAssembler;
 import de.frachtwerk.essencium.backend.repository.specification.BaseUserSpec;
 import de.frachtwerk.essencium.backend.test.integration.app.model.dto.TestBaseUserDto;
 import de.frachtwerk.essencium.backend.test.integration.app.model.entity.TestUser;
@@ -48,8 +49,16 @@ public class TestUserController
         BaseUserSpec<TestUser, Long>,
         Long> {
 
+  private final TestUserAssembler userAssembler;
+
   protected TestUserController(TestUserService userService, TestUserAssembler assembler) {
     super(userService, assembler);
+    this.userAssembler = assembler;
+  }
+
+  @Override
+  protected AbstractProjectionAssembler<TestUser, ?, TestUser> getProjectionAssembler() {
+    return userAssembler;
   }
 
   @GetMapping("/token-claims")
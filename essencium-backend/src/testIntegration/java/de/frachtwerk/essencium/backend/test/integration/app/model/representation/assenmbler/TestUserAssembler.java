@@ -19,15 +19,44 @@
 
 package de.frachtwerk.essencium.backend.test.integration.app.model.representation.assenmbler;
 
-import de.frachtwerk.essencium.backend.model.representation.assembler.AbstractRepresentationAssembler;
+import de.frachtwerk.essencium.backend.model.representation.assembler.AbstractProjectionAssembler;
+import de.frachtwerk.essencium.backend.repository.RoleRepository;
 import de.frachtwerk.essencium.backend.test.integration.app.model.entity.TestUser;
+import de.frachtwerk.essencium.backend.test.integration.app.model.representation.TestUserProjection;
+import java.util.HashSet;
 import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 @Component
-public class TestUserAssembler extends AbstractRepresentationAssembler<TestUser, TestUser> {
+@RequiredArgsConstructor
+public class TestUserAssembler
+    extends AbstractProjectionAssembler<TestUser, TestUserProjection, TestUser> {
+
+  private final RoleRepository roleRepository;
+
   @Override
   public @NonNull TestUser toModel(@NonNull TestUser entity) {
     return entity;
   }
+
+  @Override
+  public @NonNull Class<TestUserProjection> getProjectionType() {
+    return TestUserProjection.class;
+  }
+
+  @Override
+  public @NonNull TestUser fromProjection(@NonNull TestUserProjection projection) {
+    return TestUser.builder()
+        .id(projection.id())
+        .email(projection.email())
+        .firstName(projection.firstName())
+        .lastName(projection.lastName())
+        .locale(projection.locale())
+        .roles(new HashSet<>(roleRepository.findAllById(projection.roles())))
+        .enabled(projection.enabled())
+        .loginDisabled(projection.loginDisabled())
+        .source(projection.source())
+        .build();
+  }
 }
@@ -19,6 +19,7 @@
 
 package de.frachtwerk.essencium.backend.test.integration.app.service;
 
+import de.frachtwerk.essencium.backend.model.AbstractBaseUser_;
 import de.frachtwerk.essencium.backend.model.Role;
 import de.frachtwerk.essencium.backend.model.dto.EssenciumUserDetails;
 import de.frachtwerk.essencium.backend.service.AbstractUserService;
@@ -29,6 +30,9 @@ import de.frachtwerk.essencium.backend.service.UserMailService;
 import de.frachtwerk.essencium.backend.test.integration.app.model.dto.TestBaseUserDto;
 import de.frachtwerk.essencium.backend.test.integration.app.model.entity.TestUser;
 import de.frachtwerk.essencium.backend.test.integration.app.repository.TestBaseUserRepository;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Root;
 import jakarta.validation.constraints.NotNull;
 import java.util.HashSet;
 import java.util.Optional;
@@ -79,4 +83,12 @@ public class TestUserService
   public TestBaseUserDto getNewUser() {
     return new TestBaseUserDto();
   }
+
+  @Override
+  protected Expression<String> getTitleExpression(
+      @NotNull Root<TestUser> root, @NotNull CriteriaBuilder criteriaBuilder) {
+    return criteriaBuilder.concat(
+        criteriaBuilder.concat(root.<String>get(AbstractBaseUser_.FIRST_NAME), " "),
+        root.<String>get(AbstractBaseUser_.LAST_NAME));
+  }
 }
@@ -152,6 +152,50 @@ class AccessEntityFilteringIntegrationTest extends AbstractEssenciumIntegrationT
         .andExpect(jsonPath("$[2].name", is(NativeController.OWNED_BY_ALL_VALUE)));
   }
 
+  @Test
+  void testHidingNotOwnedEntitiesScroll() throws Exception {
+    createEntities();
+
+    String firstSlice =
+        mockMvc
+            .perform(
+                get("/v1/native/scroll")
+                    .param("size", "2")
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + this.accessToken))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content", hasSize(2)))
+            .andExpect(jsonPath("$.content[0].prop", is(NativeController.OWNED_BY_ALL_VALUE)))
+            .andExpect(jsonPath("$.content[1].prop", is("Ein zweiter Wert")))
+            .andExpect(jsonPath("$.hasNext", is(true)))
+            .andExpect(jsonPath("$.totalElements").doesNotExist())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+    String nextCursor = objectMapper.readTree(firstSlice).get("nextCursor").asString();
+
+    mockMvc
+        .perform(
+            get("/v1/native/scroll")
+                .param("size", "2")
+                .param("cursor", nextCursor)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + this.accessToken))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content", hasSize(1)))
+        .andExpect(jsonPath("$.content[0].prop", is(NativeController.OWNED_BY_ALL_VALUE)))
+        .andExpect(jsonPath("$.hasNext", is(false)))
+        .andExpect(jsonPath("$.nextCursor").doesNotExist());
+  }
+
+  @Test
+  void testScrollWithInvalidCursor() throws Exception {
+    mockMvc
+        .perform(
+            get("/v1/native/scroll")
+                .param("cursor", "not a cursor")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + this.accessToken))
+        .andExpect(status().isBadRequest());
+  }
+
   @Test
   void testShowAll() throws Exception {
     createEntities();
@@ -182,6 +182,26 @@ class UserControllerIntegrationTest extends AbstractEssenciumIntegrationTest {
         .andExpect(jsonPath("$.content", Matchers.empty()));
   }
 
+  @Test
+  void checkUserControllerFilterByNameUncounted() throws Exception {
+    Role role = testingUtils.createRandomRole();
+    TestUser testUser =
+        testingUtils.createUser(
+            "checkUserControllerFilterByNameUncounted@frachtwerk.de", "John", "Doe", role);
+    mockMvc
+        .perform(
+            get("/v1/users")
+                .param("name", testUser.getFirstName())
+                .param("count", "NONE")
+                .header("Authorization", "Bearer " + this.accessTokenAdmin))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.totalElements").doesNotExist())
+        .andExpect(jsonPath("$.last", is(true)))
+        .andExpect(jsonPath("$.content", hasSize(1)))
+        .andExpect(jsonPath("$.content[0].id", is(testUser.getId()), Long.class))
+        .andExpect(jsonPath("$.content[0].roles[0].name", is(role.getName())));
+  }
+
   @Test
   void checkUserControllerFilterByNameBasic() throws Exception {
     TestUser testUser =
@@ -214,6 +234,135 @@ class UserControllerIntegrationTest extends AbstractEssenciumIntegrationTest {
         .andExpect(jsonPath("$", Matchers.empty()));
   }
 
+  @Test
+  void checkUserControllerExport() throws Exception {
+    TestUser john =
+        testingUtils.createUser(
+            "checkUserControllerExportJohn@frachtwerk.de",
+            "John",
+            "Exported",
+            testingUtils.createRandomRole());
+    TestUser jane =
+        testingUtils.createUser(
+            "checkUserControllerExportJane@frachtwerk.de",
+            "Jane",
+            "Exported",
+            testingUtils.createRandomRole());
+    mockMvc
+        .perform(
+            get("/v1/users/export")
+                .param("name", "Exported")
+                .param("sort", "firstName,asc")
+                .header("Authorization", "Bearer " + this.accessTokenAdmin))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(2)))
+        .andExpect(jsonPath("$[0].id", is(jane.getId()), Long.class))
+        .andExpect(jsonPath("$[0].firstName").value(is("Jane")))
+        .andExpect(jsonPath("$[0].roles", hasSize(1)))
+        .andExpect(jsonPath("$[1].id", is(john.getId()), Long.class))
+        .andExpect(jsonPath("$[1].email").value(is(john.getEmail())));
+
+    mockMvc
+        .perform(
+            get("/v1/users/export")
+                .param("name", "something else")
+                .header("Authorization", "Bearer " + this.accessTokenAdmin))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", Matchers.empty()));
+  }
+
+  @Test
+  void checkUserControllerScroll() throws Exception {
+    TestUser testUser =
+        testingUtils.createUser(
+            "checkUserControllerScroll@frachtwerk.de",
+            "John",
+            "Scrolled",
+            testingUtils.createRandomRole());
+    mockMvc
+        .perform(
+            get("/v1/users/scroll")
+                .param("name", "Scrolled")
+                .header("Authorization", "Bearer " + this.accessTokenAdmin))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content", hasSize(1)))
+        .andExpect(jsonPath("$.content[0].id", is(testUser.getId()), Long.class))
+        .andExpect(jsonPath("$.hasNext", is(false)));
+
+    mockMvc
+        .perform(
+            get("/v1/users/scroll").header("Authorization", "Bearer " + this.accessTokenRandomUser))
+        .andExpect(status().isForbidden());
+  }
+
+  @Test
+  void checkUserControllerFindAllWithTokens() throws Exception {
+    String randomUserTokens = "$['" + randomUser.getId() + "']";
+    mockMvc
+        .perform(
+            get("/v1/users/tokens")
+                .param("email", randomUser.getEmail())
+                .header("Authorization", "Bearer " + this.accessTokenAdmin))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()", is(1)))
+        .andExpect(jsonPath(randomUserTokens, hasSize(1)))
+        .andExpect(jsonPath(randomUserTokens + "[0].type", is("REFRESH")))
+        .andExpect(jsonPath(randomUserTokens + "[0].username", is(randomUser.getUsername())))
+        .andExpect(jsonPath(randomUserTokens + "[0].lastUsed", Matchers.notNullValue()));
+
+    mockMvc
+        .perform(
+            get("/v1/users/tokens")
+                .param("page", "0")
+                .param("size", "1")
+                .param("sort", "id,asc")
+                .header("Authorization", "Bearer " + this.accessTokenAdmin))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()", is(1)));
+
+    mockMvc
+        .perform(
+            get("/v1/users/tokens")
+                .param("page", "1")
+                .param("size", "2")
+                .header("Authorization", "Bearer " + this.accessTokenAdmin))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()", is(0)));
+
+    mockMvc
+        .perform(
+            get("/v1/users/tokens").header("Authorization", "Bearer " + this.accessTokenRandomUser))
+        .andExpect(status().isForbidden());
+  }
+
+  @Test
+  void checkUserControllerFindAllWithTokensFilteredByRoleAndSorted() throws Exception {
+    String roles =
+        randomUser.getRoles().stream().map(Role::getName).collect(Collectors.joining(","));
+    String randomUserTokens = "$['" + randomUser.getId() + "']";
+    mockMvc
+        .perform(
+            get("/v1/users/tokens")
+                .param("roles", roles)
+                .param("sort", "firstName,desc")
+                .header("Authorization", "Bearer " + this.accessTokenAdmin))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()", is(1)))
+        .andExpect(jsonPath(randomUserTokens, hasSize(1)));
+
+    mockMvc
+        .perform(
+            get("/v1/users/tokens")
+                .param("roles", roles)
+                .param("page", "0")
+                .param("size", "1")
+                .param("sort", "firstName,desc")
+                .header("Authorization", "Bearer " + this.accessTokenAdmin))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()", is(1)))
+        .andExpect(jsonPath(randomUserTokens, hasSize(1)));
+  }
+
   @Test
   void checkUserControllerFilterByRole() throws Exception {
     TestUser testUser = randomUser;
@@ -253,6 +402,28 @@ class UserControllerIntegrationTest extends AbstractEssenciumIntegrationTest {
         .andExpect(jsonPath("$.content", Matchers.empty()));
   }
 
+  @Test
+  void checkUserControllerFilterByRoleAndSortByNotProjectedProperty() throws Exception {
+    Role role = testingUtils.createRandomRole();
+    TestUser first =
+        testingUtils.createUser(
+            "checkUserControllerFilterByRoleAndSortFirst@frachtwerk.de", "John", "Doe", role);
+    TestUser second =
+        testingUtils.createUser(
+            "checkUserControllerFilterByRoleAndSortSecond@frachtwerk.de", "Jane", "Doe", role);
+    mockMvc
+        .perform(
+            get("/v1/users")
+                .param("roles", role.getName())
+                .param("sort", "createdAt,desc")
+                .param("sort", "id,desc")
+                .header("Authorization", "Bearer " + this.accessTokenAdmin))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.totalElements", is(2)))
+        .andExpect(jsonPath("$.content[0].id", is(second.getId()), Long.class))
+        .andExpect(jsonPath("$.content[1].id", is(first.getId()), Long.class));
+  }
+
   @Test
   void checkUserControllerPatch() throws Exception {
     TestUser testUser = randomUser;
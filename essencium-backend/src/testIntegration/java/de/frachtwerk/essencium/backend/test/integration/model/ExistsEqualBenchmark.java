@@ -0,0 +1,185 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.test.integration.model;
+
+import de.frachtwerk.essencium.backend.model.Right;
+import de.frachtwerk.essencium.backend.model.Role;
+import de.frachtwerk.essencium.backend.repository.RightRepository;
+import de.frachtwerk.essencium.backend.repository.RoleRepository;
+import de.frachtwerk.essencium.backend.repository.specification.ExistsEqual;
+import de.frachtwerk.essencium.backend.test.integration.IntegrationTestApplication;
+import de.frachtwerk.essencium.backend.test.integration.app.model.entity.TestUser;
+import de.frachtwerk.essencium.backend.test.integration.app.repository.TestBaseUserRepository;
+import de.frachtwerk.essencium.backend.test.integration.util.AbstractEssenciumIntegrationTest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+/**
+ * Compares the list, count and exists queries of an ownership criterion through the to-many path
+ * {@code roles.rights.authority}, joined in the main query with {@code DISTINCT} and as {@link
+ * ExistsEqual} subquery. Half of the users own the right through three roles each, the other half
+ * does not own it. Not part of the test suite: it starts the integration test application against
+ * a PostgreSQL container, so run it via {@link #main(String[])} from the test classpath with Docker
+ * available.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExistsEqualBenchmark {
+
+  private static final int USERS = 5000;
+  private static final int ROLES = 20;
+
+  private final Pageable page = PageRequest.of(0, 50, Sort.by("id"));
+
+  private PostgreSQLContainer postgres;
+  private ConfigurableApplicationContext applicationContext;
+  private TestBaseUserRepository userRepository;
+  private Specification<TestUser> joined;
+  private Specification<TestUser> exists;
+
+  @Setup
+  public void setUp() {
+    postgres = new PostgreSQLContainer(AbstractEssenciumIntegrationTest.POSTGRES_IMAGE);
+    postgres.start();
+    applicationContext =
+        new SpringApplicationBuilder(IntegrationTestApplication.class)
+            .profiles("test_postgresql")
+            .properties(
+                "spring.datasource.url=" + postgres.getJdbcUrl(),
+                "spring.datasource.username=" + postgres.getUsername(),
+                "spring.datasource.password=" + postgres.getPassword())
+            .run();
+    userRepository = applicationContext.getBean(TestBaseUserRepository.class);
+
+    RightRepository rightRepository = applicationContext.getBean(RightRepository.class);
+    Right owned = rightRepository.save(right("BENCHMARK_OWNED"));
+    Right other = rightRepository.save(right("BENCHMARK_OTHER"));
+    RoleRepository roleRepository = applicationContext.getBean(RoleRepository.class);
+    List<Role> roles = new ArrayList<>(ROLES);
+    for (int i = 0; i < ROLES; i++) {
+      Role role = new Role();
+      role.setName("BENCHMARK_ROLE_" + i);
+      role.setRights(Set.of(i % 2 == 0 ? owned : other));
+      roles.add(roleRepository.save(role));
+    }
+    // users with even roles own the right three times over, the others not at all
+    List<TestUser> users = new ArrayList<>(USERS);
+    for (int i = 0; i < USERS; i++) {
+      users.add(
+          TestUser.builder()
+              .email("benchmark-" + i + "@frachtwerk.de")
+              .firstName("Bench")
+              .lastName("Mark " + i)
+              .locale(Locale.GERMAN)
+              .roles(
+                  Set.of(
+                      roles.get(i % ROLES),
+                      roles.get((i + 2) % ROLES),
+                      roles.get((i + 4) % ROLES)))
+              .build());
+    }
+    userRepository.saveAll(users);
+
+    joined =
+        (root, query, cb) -> {
+          query.distinct(true);
+          return cb.equal(root.join("roles").join("rights").get("authority"), owned.getAuthority());
+        };
+    exists =
+        new ExistsEqual<>(
+            null, "roles.rights.authority", new String[] {owned.getAuthority()}, null);
+  }
+
+  @TearDown
+  public void tearDown() {
+    applicationContext.close();
+    postgres.stop();
+  }
+
+  @Benchmark
+  public Page<TestUser> listJoined() {
+    return userRepository.findAll(joined, page);
+  }
+
+  @Benchmark
+  public Page<TestUser> listExists() {
+    return userRepository.findAll(exists, page);
+  }
+
+  @Benchmark
+  public long countJoined() {
+    return userRepository.count(joined);
+  }
+
+  @Benchmark
+  public long countExists() {
+    return userRepository.count(exists);
+  }
+
+  @Benchmark
+  public boolean existsJoined() {
+    return userRepository.exists(joined);
+  }
+
+  @Benchmark
+  public boolean existsExists() {
+    return userRepository.exists(exists);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(ExistsEqualBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+
+  private static Right right(String authority) {
+    Right right = new Right();
+    right.setAuthority(authority);
+    return right;
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.test.integration.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.frachtwerk.essencium.backend.model.Right;
+import de.frachtwerk.essencium.backend.model.Role;
+import de.frachtwerk.essencium.backend.repository.specification.ExistsEqual;
+import de.frachtwerk.essencium.backend.test.integration.IntegrationTestApplication;
+import de.frachtwerk.essencium.backend.test.integration.app.model.entity.TestUser;
+import de.frachtwerk.essencium.backend.test.integration.app.repository.TestBaseUserRepository;
+import de.frachtwerk.essencium.backend.test.integration.util.AbstractEssenciumIntegrationTest;
+import de.frachtwerk.essencium.backend.test.integration.util.TestingUtils;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.Set;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Ensures that {@link ExistsEqual} filters through to-many associations without multiplying rows,
+ * so list, count and exists queries run as a single statement without {@code DISTINCT}.
+ */
+@SpringBootTest(
+    classes = IntegrationTestApplication.class,
+    webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+@AutoConfigureMockMvc
+class ExistsEqualIntegrationTest extends AbstractEssenciumIntegrationTest {
+
+  private final TestingUtils testingUtils;
+  private final TestBaseUserRepository userRepository;
+  private final EntityManager entityManager;
+
+  private Statistics statistics;
+  private Right sharedRight;
+  private TestUser twoMatchingRoles;
+  private TestUser oneMatchingRole;
+
+  @Autowired
+  ExistsEqualIntegrationTest(
+      TestingUtils testingUtils,
+      TestBaseUserRepository userRepository,
+      EntityManager entityManager) {
+    this.testingUtils = testingUtils;
+    this.userRepository = userRepository;
+    this.entityManager = entityManager;
+  }
+
+  @BeforeEach
+  void setUp() {
+    statistics =
+        entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    statistics.setStatisticsEnabled(true);
+
+    sharedRight = testingUtils.createRandomRight();
+    Role first = testingUtils.createRandomRole(Set.of(sharedRight));
+    Role second = testingUtils.createRandomRole(Set.of(sharedRight));
+    twoMatchingRoles = testingUtils.createRandomUser(Set.of(first, second));
+    oneMatchingRole = testingUtils.createRandomUser(Set.of(first));
+    testingUtils.createRandomUser(Set.of(testingUtils.createRandomRole()));
+
+    entityManager.clear();
+    statistics.clear();
+  }
+
+  @AfterEach
+  void tearDown() {
+    testingUtils.clearUsers();
+    testingUtils.clearRoles();
+    testingUtils.clearRights();
+    statistics.setStatisticsEnabled(false);
+  }
+
+  @Test
+  void joinInMainQueryDuplicatesEntities() {
+    Specification<TestUser> joined =
+        (root, query, cb) ->
+            cb.equal(
+                root.join("roles").join("rights").get("authority"), sharedRight.getAuthority());
+
+    assertThat(userRepository.findAll(joined))
+        .extracting(TestUser::getId)
+        .containsExactlyInAnyOrder(
+            twoMatchingRoles.getId(), twoMatchingRoles.getId(), oneMatchingRole.getId());
+  }
+
+  @Test
+  void existsSubqueryReturnsEachEntityOnce() {
+    Specification<TestUser> spec = ownsRight(sharedRight);
+
+    List<TestUser> users = userRepository.findAll(spec);
+
+    assertThat(users)
+        .extracting(TestUser::getId)
+        .containsExactlyInAnyOrder(twoMatchingRoles.getId(), oneMatchingRole.getId());
+    assertThat(userRepository.count(spec)).isEqualTo(2);
+    assertThat(userRepository.exists(spec)).isTrue();
+    assertThat(userRepository.exists(ownsRight(testingUtils.createRandomRight()))).isFalse();
+  }
+
+  @Test
+  void existsSubqueryRunsSingleStatementPerCall() {
+    Specification<TestUser> spec = ownsRight(sharedRight);
+
+    userRepository.count(spec);
+    userRepository.exists(spec);
+
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+  }
+
+  private static Specification<TestUser> ownsRight(Right right) {
+    return new ExistsEqual<>(
+        null, "roles.rights.authority", new String[] {right.getAuthority()}, null);
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.test.integration.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.frachtwerk.essencium.backend.model.Right;
+import de.frachtwerk.essencium.backend.model.Role;
+import de.frachtwerk.essencium.backend.repository.RoleRepository;
+import de.frachtwerk.essencium.backend.test.integration.IntegrationTestApplication;
+import de.frachtwerk.essencium.backend.test.integration.util.AbstractEssenciumIntegrationTest;
+import de.frachtwerk.essencium.backend.test.integration.util.TestingUtils;
+import jakarta.persistence.EntityManager;
+import java.util.HashSet;
+import java.util.Set;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/** Ensures that roles and their rights are served from the second-level cache once enabled. */
+@SpringBootTest(
+    classes = IntegrationTestApplication.class,
+    webEnvironment = SpringBootTest.WebEnvironment.MOCK,
+    properties = "essencium.jpa.second-level-cache.enabled=true")
+class SecondLevelCacheIntegrationTest extends AbstractEssenciumIntegrationTest {
+
+  private final TestingUtils testingUtils;
+  private final RoleRepository roleRepository;
+  private final EntityManager entityManager;
+
+  private Statistics statistics;
+  private Role role;
+
+  @Autowired
+  SecondLevelCacheIntegrationTest(
+      TestingUtils testingUtils, RoleRepository roleRepository, EntityManager entityManager) {
+    this.testingUtils = testingUtils;
+    this.roleRepository = roleRepository;
+    this.entityManager = entityManager;
+  }
+
+  @BeforeEach
+  void setUp() {
+    SessionFactory sessionFactory =
+        entityManager.getEntityManagerFactory().unwrap(SessionFactory.class);
+    sessionFactory.getStatistics().setStatisticsEnabled(true);
+    statistics = sessionFactory.getStatistics();
+
+    Right right = testingUtils.createRandomRight();
+    role = testingUtils.createRandomRole(Set.of(right));
+
+    sessionFactory.getCache().evictAllRegions();
+    statistics.clear();
+  }
+
+  @AfterEach
+  void tearDown() {
+    testingUtils.clearRoles();
+    testingUtils.clearRights();
+    statistics.setStatisticsEnabled(false);
+  }
+
+  @Test
+  void repeatedRoleLookupShouldNotHitTheDatabase() {
+    assertThat(roleRepository.findByName(role.getName()).getRights()).hasSize(1);
+    long statementsOfFirstLookup = statistics.getPrepareStatementCount();
+    assertThat(statementsOfFirstLookup).isPositive();
+
+    assertThat(roleRepository.findByName(role.getName()).getRights()).hasSize(1);
+
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsOfFirstLookup);
+    assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+  }
+
+  @Test
+  void updatedRoleShouldNotBeServedStale() {
+    roleRepository.findByName(role.getName());
+
+    Role changed = roleRepository.findById(role.getName()).orElseThrow();
+    changed.setDescription("changed");
+    changed.setRights(new HashSet<>());
+    roleRepository.saveAndFlush(changed);
+
+    Role reloaded = roleRepository.findByName(role.getName());
+    assertThat(reloaded.getDescription()).isEqualTo("changed");
+    assertThat(reloaded.getRights()).isEmpty();
+  }
+}
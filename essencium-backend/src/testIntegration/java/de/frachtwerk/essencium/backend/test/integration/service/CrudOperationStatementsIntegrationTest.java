@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2026 Frachtwerk GmbH, Leopoldstraße 7C, 76133 Karlsruhe.
+ *
+ * This file is part of essencium-backend.
+ *
+ * essencium-backend is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * essencium-backend is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with essencium-backend. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.frachtwerk.essencium.backend.test.integration.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.frachtwerk.essencium.backend.service.BulkOperationResult;
+import de.frachtwerk.essencium.backend.test.integration.IntegrationTestApplication;
+import de.frachtwerk.essencium.backend.test.integration.app.model.dto.TestBaseUserDto;
+import de.frachtwerk.essencium.backend.test.integration.app.model.entity.TestUser;
+import de.frachtwerk.essencium.backend.test.integration.app.service.TestUserService;
+import de.frachtwerk.essencium.backend.test.integration.util.AbstractEssenciumIntegrationTest;
+import de.frachtwerk.essencium.backend.test.integration.util.TestingUtils;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.Map;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Ensures that update, patch and delete as well as their bulk variants load the affected entities
+ * only once, no matter how many hooks of the operation need their persisted state.
+ */
+@SpringBootTest(
+    classes = IntegrationTestApplication.class,
+    webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+class CrudOperationStatementsIntegrationTest extends AbstractEssenciumIntegrationTest {
+
+  private final TestingUtils testingUtils;
+  private final TestUserService userService;
+  private final EntityManager entityManager;
+
+  private Statistics statistics;
+  private TestUser user;
+
+  @Autowired
+  CrudOperationStatementsIntegrationTest(
+      TestingUtils testingUtils, TestUserService userService, EntityManager entityManager) {
+    this.testingUtils = testingUtils;
+    this.userService = userService;
+    this.entityManager = entityManager;
+  }
+
+  @BeforeEach
+  void setUp() {
+    testingUtils.getOrCreateAdminUser();
+    user = testingUtils.createRandomUser();
+
+    statistics =
+        entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    statistics.setStatisticsEnabled(true);
+    statistics.clear();
+  }
+
+  @AfterEach
+  void tearDown() {
+    testingUtils.clearUsers();
+    testingUtils.clearRoles();
+    statistics.setStatisticsEnabled(false);
+  }
+
+  @Test
+  void updateLoadsUserOnce() {
+    TestBaseUserDto dto = testingUtils.getRandomUser();
+    dto.setId(user.getId());
+    dto.setEmail(user.getEmail());
+    dto.setPassword(null);
+    statistics.clear();
+
+    userService.update(user.getId(), dto);
+
+    assertLoadedOnce("update");
+  }
+
+  @Test
+  void patchLoadsUserOnce() {
+    userService.patch(user.getId(), Map.of("firstName", "Patched", "password", "Secret123!"));
+
+    assertLoadedOnce("patch");
+  }
+
+  @Test
+  void deleteLoadsUserOnce() {
+    userService.deleteById(user.getId());
+
+    assertLoadedOnce("delete");
+  }
+
+  @Test
+  void patchAllLoadsEveryUserOnce() {
+    TestUser other = testingUtils.createRandomUser();
+    Map<String, Object> fieldUpdates = Map.of("firstName", "Patched");
+    statistics.clear();
+
+    List<BulkOperationResult<TestUser, Long>> results =
+        userService.patchAll(
+            (root, query, criteriaBuilder) -> null,
+            Map.of(user.getId(), fieldUpdates, other.getId(), fieldUpdates));
+
+    assertThat(results).hasSize(2).allMatch(BulkOperationResult::isSuccessful);
+    assertLoaded("patchAll", 2);
+  }
+
+  @Test
+  void deleteAllByIdLoadsEveryUserOnce() {
+    TestUser other = testingUtils.createRandomUser();
+    statistics.clear();
+
+    List<BulkOperationResult<TestUser, Long>> results =
+        userService.deleteAllById(
+            (root, query, criteriaBuilder) -> null, List.of(user.getId(), other.getId()));
+
+    assertThat(results).hasSize(2).allMatch(BulkOperationResult::isSuccessful);
+    assertLoaded("deleteAllById", 2);
+  }
+
+  private void assertLoadedOnce(String operation) {
+    assertLoaded(operation, 1);
+  }
+
+  private void assertLoaded(String operation, long users) {
+    assertThat(statistics.getEntityStatistics(TestUser.class.getName()).getLoadCount())
+        .as(
+            "%s loaded the users more than once using %d statements",
+            operation, statistics.getPrepareStatementCount())
+        .isEqualTo(users);
+  }
+}
@@ -0,0 +1 @@
+create index if not exists test_user_lower_email_idx on "test_user" (lower(email));
@@ -0,0 +1,2 @@
+alter table session_token add column if not exists last_used_at timestamp(6);
+create index if not exists session_token_username_type_idx on session_token (username, type);